@@ -19,6 +19,7 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.merge.result.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.apache.shardingsphere.encrypt.strategy.spi.Encryptor;
 
@@ -30,7 +31,7 @@ import java.util.Calendar;
  * Merged result for encrypt.
  */
 @RequiredArgsConstructor
-public final class EncryptMergedResult implements MergedResult {
+public final class EncryptMergedResult implements CloseableMergedResult {
     
     private final EncryptorMetaData metaData;
     
@@ -70,4 +71,11 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        if (mergedResult instanceof CloseableMergedResult) {
+            ((CloseableMergedResult) mergedResult).close();
+        }
+    }
 }
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.api.sharding.standard;
+
+/**
+ * Range sharding algorithm with declared lower boundary of every target.
+ *
+ * <p>
+ * Each target holds sharding values from its lower boundary (inclusive) to lower boundary of next target (exclusive),
+ * such as daily sharding tables {@code t_order_20200101, t_order_20200102}.
+ * Range sharding values are resolved by binary search over sorted boundaries instead of checking every target.
+ * {@link #doSharding} is still used if any target has no boundary or range is out of all boundaries.
+ * </p>
+ * 
+ * @param <T> class type of sharding value
+ */
+public interface BoundedRangeShardingAlgorithm<T extends Comparable<?>> extends RangeShardingAlgorithm<T> {
+    
+    /**
+     * Get lower boundary of target.
+     * 
+     * @param availableTargetName available data source or table's name
+     * @return lower boundary of sharding values in target, null if target does not have boundary
+     */
+    T getLowerBoundary(String availableTargetName);
+}
@@ -21,6 +21,7 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.encrypt.api.EncryptRuleConfiguration;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
@@ -34,13 +35,17 @@ import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.ShardingStrategyFactory;
 import org.apache.shardingsphere.core.strategy.route.none.NoneShardingStrategy;
 import org.apache.shardingsphere.spi.algorithm.keygen.ShardingKeyGeneratorServiceLoader;
+import org.apache.shardingsphere.spi.keygen.BatchShardingKeyGenerator;
 import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.TreeSet;
 
 /**
@@ -69,16 +74,36 @@ public class ShardingRule implements BaseRule {
     
     private final EncryptRule encryptRule;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, TableRule> logicTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<TableRule>> actualTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, BindingTableRule> logicTableBindingTableRules;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Collection<String>> logicTableShardingColumns;
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<String> lowerCaseBroadcastTables;
+    
     public ShardingRule(final ShardingRuleConfiguration shardingRuleConfig, final Collection<String> dataSourceNames) {
         Preconditions.checkArgument(null != shardingRuleConfig, "ShardingRuleConfig cannot be null.");
         Preconditions.checkArgument(null != dataSourceNames && !dataSourceNames.isEmpty(), "Data sources cannot be empty.");
         this.ruleConfiguration = shardingRuleConfig;
         shardingDataSourceNames = new ShardingDataSourceNames(shardingRuleConfig, dataSourceNames);
         tableRules = createTableRules(shardingRuleConfig);
+        logicTableRules = createLogicTableRules();
+        actualTableRules = createActualTableRules();
         broadcastTables = shardingRuleConfig.getBroadcastTables();
+        lowerCaseBroadcastTables = createLowerCaseBroadcastTables();
         bindingTableRules = createBindingTableRules(shardingRuleConfig.getBindingTableGroups());
+        logicTableBindingTableRules = createLogicTableBindingTableRules();
         defaultDatabaseShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultDatabaseShardingStrategyConfig());
         defaultTableShardingStrategy = createDefaultShardingStrategy(shardingRuleConfig.getDefaultTableShardingStrategyConfig());
+        logicTableShardingColumns = createLogicTableShardingColumns();
         defaultShardingKeyGenerator = createDefaultKeyGenerator(shardingRuleConfig.getDefaultKeyGeneratorConfig());
         masterSlaveRules = createMasterSlaveRules(shardingRuleConfig.getMasterSlaveRuleConfigs());
         encryptRule = createEncryptRule(shardingRuleConfig.getEncryptRuleConfig());
@@ -93,6 +118,40 @@ public class ShardingRule implements BaseRule {
         return result;
     }
     
+    private Map<String, TableRule> createLogicTableRules() {
+        Map<String, TableRule> result = new HashMap<>(tableRules.size(), 1);
+        for (TableRule each : tableRules) {
+            if (!result.containsKey(each.getLogicTable())) {
+                result.put(each.getLogicTable(), each);
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<TableRule>> createActualTableRules() {
+        Map<String, Collection<TableRule>> result = new HashMap<>();
+        for (TableRule each : tableRules) {
+            for (DataNode dataNode : each.getActualDataNodes()) {
+                String actualTableName = dataNode.getTableName().toLowerCase();
+                if (!result.containsKey(actualTableName)) {
+                    result.put(actualTableName, new LinkedList<TableRule>());
+                }
+                if (!result.get(actualTableName).contains(each)) {
+                    result.get(actualTableName).add(each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Collection<String> createLowerCaseBroadcastTables() {
+        Collection<String> result = new HashSet<>(broadcastTables.size(), 1);
+        for (String each : broadcastTables) {
+            result.add(each.toLowerCase());
+        }
+        return result;
+    }
+    
     private String getDefaultGenerateKeyColumn(final ShardingRuleConfiguration shardingRuleConfig) {
         return null == shardingRuleConfig.getDefaultKeyGeneratorConfig() ? null : shardingRuleConfig.getDefaultKeyGeneratorConfig().getColumn();
     }
@@ -113,6 +172,29 @@ public class ShardingRule implements BaseRule {
         return new BindingTableRule(tableRules);
     }
     
+    private Map<String, BindingTableRule> createLogicTableBindingTableRules() {
+        Map<String, BindingTableRule> result = new HashMap<>();
+        for (BindingTableRule each : bindingTableRules) {
+            for (String logicTable : each.getAllLogicTables()) {
+                if (!result.containsKey(logicTable)) {
+                    result.put(logicTable, each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private Map<String, Collection<String>> createLogicTableShardingColumns() {
+        Map<String, Collection<String>> result = new HashMap<>(logicTableRules.size(), 1);
+        for (TableRule each : logicTableRules.values()) {
+            Collection<String> shardingColumns = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+            shardingColumns.addAll(getDatabaseShardingStrategy(each).getShardingColumns());
+            shardingColumns.addAll(getTableShardingStrategy(each).getShardingColumns());
+            result.put(each.getLogicTable(), shardingColumns);
+        }
+        return result;
+    }
+    
     private ShardingStrategy createDefaultShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfiguration) {
         return null == shardingStrategyConfiguration ? new NoneShardingStrategy() : ShardingStrategyFactory.newInstance(shardingStrategyConfiguration);
     }
@@ -146,12 +228,7 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRule(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<TableRule>absent() : Optional.fromNullable(logicTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -161,12 +238,8 @@ public class ShardingRule implements BaseRule {
      * @return table rule
      */
     public Optional<TableRule> findTableRuleByActualTable(final String actualTableName) {
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        Collection<TableRule> tableRules = null == actualTableName ? null : actualTableRules.get(actualTableName.toLowerCase());
+        return null == tableRules ? Optional.<TableRule>absent() : Optional.of(tableRules.iterator().next());
     }
     
     /**
@@ -253,12 +326,7 @@ public class ShardingRule implements BaseRule {
      * @return binding table rule
      */
     public Optional<BindingTableRule> findBindingTableRule(final String logicTableName) {
-        for (BindingTableRule each : bindingTableRules) {
-            if (each.hasLogicTable(logicTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.absent();
+        return null == logicTableName ? Optional.<BindingTableRule>absent() : Optional.fromNullable(logicTableBindingTableRules.get(logicTableName.toLowerCase()));
     }
     
     /**
@@ -286,12 +354,7 @@ public class ShardingRule implements BaseRule {
      * @return logic table is belong to broadcast tables or not
      */
     public boolean isBroadcastTable(final String logicTableName) {
-        for (String each : broadcastTables) {
-            if (each.equalsIgnoreCase(logicTableName)) {
-                return true;
-            }
-        }
-        return false;
+        return null != logicTableName && lowerCaseBroadcastTables.contains(logicTableName.toLowerCase());
     }
     
     /**
@@ -335,16 +398,8 @@ public class ShardingRule implements BaseRule {
      * @return is sharding column or not
      */
     public boolean isShardingColumn(final String columnName, final String tableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(tableName) && isShardingColumn(each, columnName)) {
-                return true;
-            }
-        }
-        return false;
-    }
-    
-    private boolean isShardingColumn(final TableRule tableRule, final String columnName) {
-        return getDatabaseShardingStrategy(tableRule).getShardingColumns().contains(columnName) || getTableShardingStrategy(tableRule).getShardingColumns().contains(columnName);
+        Collection<String> shardingColumns = null == tableName ? null : logicTableShardingColumns.get(tableName.toLowerCase());
+        return null != shardingColumns && null != columnName && shardingColumns.contains(columnName);
     }
     
     /**
@@ -354,12 +409,8 @@ public class ShardingRule implements BaseRule {
      * @return column name of generated key
      */
     public Optional<String> findGenerateKeyColumnName(final String logicTableName) {
-        for (TableRule each : tableRules) {
-            if (each.getLogicTable().equalsIgnoreCase(logicTableName) && null != each.getGenerateKeyColumn()) {
-                return Optional.of(each.getGenerateKeyColumn());
-            }
-        }
-        return Optional.absent();
+        Optional<TableRule> tableRule = findTableRule(logicTableName);
+        return tableRule.isPresent() ? Optional.fromNullable(tableRule.get().getGenerateKeyColumn()) : Optional.<String>absent();
     }
     
     /**
@@ -369,12 +420,34 @@ public class ShardingRule implements BaseRule {
      * @return generated key
      */
     public Comparable<?> generateKey(final String logicTableName) {
+        return getShardingKeyGenerator(logicTableName).generateKey();
+    }
+    
+    /**
+     * Generate keys.
+     *
+     * @param logicTableName logic table name
+     * @param count count of keys
+     * @return generated keys
+     */
+    public Collection<Comparable<?>> generateKeys(final String logicTableName, final int count) {
+        ShardingKeyGenerator shardingKeyGenerator = getShardingKeyGenerator(logicTableName);
+        if (shardingKeyGenerator instanceof BatchShardingKeyGenerator) {
+            return ((BatchShardingKeyGenerator) shardingKeyGenerator).generateKeys(count);
+        }
+        Collection<Comparable<?>> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(shardingKeyGenerator.generateKey());
+        }
+        return result;
+    }
+    
+    private ShardingKeyGenerator getShardingKeyGenerator(final String logicTableName) {
         Optional<TableRule> tableRule = findTableRule(logicTableName);
         if (!tableRule.isPresent()) {
             throw new ShardingSphereConfigurationException("Cannot find strategy for generate keys.");
         }
-        ShardingKeyGenerator shardingKeyGenerator = null == tableRule.get().getShardingKeyGenerator() ? defaultShardingKeyGenerator : tableRule.get().getShardingKeyGenerator();
-        return shardingKeyGenerator.generateKey();
+        return null == tableRule.get().getShardingKeyGenerator() ? defaultShardingKeyGenerator : tableRule.get().getShardingKeyGenerator();
     }
     
     /**
@@ -385,8 +458,9 @@ public class ShardingRule implements BaseRule {
      */
     public Collection<String> getLogicTableNames(final String actualTableName) {
         Collection<String> result = new LinkedList<>();
-        for (TableRule each : tableRules) {
-            if (each.isExisted(actualTableName)) {
+        Collection<TableRule> tableRules = null == actualTableName ? null : actualTableRules.get(actualTableName.toLowerCase());
+        if (null != tableRules) {
+            for (TableRule each : tableRules) {
                 result.add(each.getLogicTable());
             }
         }
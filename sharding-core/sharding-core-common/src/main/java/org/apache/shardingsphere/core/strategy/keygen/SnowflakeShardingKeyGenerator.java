@@ -21,10 +21,14 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.SneakyThrows;
-import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+import org.apache.shardingsphere.spi.keygen.BatchShardingKeyGenerator;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.List;
 import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Snowflake distributed primary key generator.
@@ -47,8 +51,13 @@ import java.util.Properties;
  * <p>
  * Call @{@code SnowflakeShardingKeyGenerator.setMaxTolerateTimeDifferenceMilliseconds} to set max tolerate time difference milliseconds, default value is 0.
  * </p>
+ * 
+ * <p>
+ * Last milliseconds and sequence are updated together by CAS without lock, batch generation reserves continuous sequences in one CAS.
+ * Thread which loses CAS to another thread with later milliseconds continues sequences of that milliseconds instead of waiting as clock moving backwards.
+ * </p>
  */
-public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator {
+public final class SnowflakeShardingKeyGenerator implements BatchShardingKeyGenerator {
     
     public static final long EPOCH;
     
@@ -77,11 +86,10 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     @Setter
     private Properties properties = new Properties();
     
-    private int sequenceOffset = -1;
-    
-    private long sequence;
+    private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private long lastMilliseconds;
+    // (last milliseconds - EPOCH) << SEQUENCE_BITS | last sequence
+    private final AtomicLong state = new AtomicLong(-1L);
     
     static {
         Calendar calendar = Calendar.getInstance();
@@ -99,25 +107,53 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
     }
     
     @Override
-    public synchronized Comparable<?> generateKey() {
-        long currentMilliseconds = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMilliseconds)) {
-            currentMilliseconds = timeService.getCurrentMillis();
+    public Comparable<?> generateKey() {
+        return generateKeys(1).get(0);
+    }
+    
+    @Override
+    public List<Comparable<?>> generateKeys(final int count) {
+        List<Comparable<?>> result = new ArrayList<>(count);
+        long workerId = getWorkerId();
+        while (result.size() < count) {
+            reserveSequences(count - result.size(), workerId, result);
         }
-        if (lastMilliseconds == currentMilliseconds) {
-            if (0L == (sequence = (sequence + 1) & SEQUENCE_MASK)) {
+        return result;
+    }
+    
+    private void reserveSequences(final int count, final long workerId, final List<Comparable<?>> result) {
+        boolean casLost = false;
+        while (true) {
+            long lastState = state.get();
+            long lastMilliseconds = (lastState >> SEQUENCE_BITS) + EPOCH;
+            long currentMilliseconds = timeService.getCurrentMillis();
+            if (casLost && lastMilliseconds > currentMilliseconds) {
+                currentMilliseconds = lastMilliseconds;
+            } else if (waitTolerateTimeDifferenceIfNeed(lastMilliseconds, currentMilliseconds)) {
+                currentMilliseconds = timeService.getCurrentMillis();
+            }
+            long firstSequence;
+            if (lastMilliseconds != currentMilliseconds) {
+                firstSequence = vibrateSequenceOffset();
+            } else if (SEQUENCE_MASK == (lastState & SEQUENCE_MASK)) {
                 currentMilliseconds = waitUntilNextTime(currentMilliseconds);
+                firstSequence = 0L;
+            } else {
+                firstSequence = (lastState & SEQUENCE_MASK) + 1;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence = sequenceOffset;
+            long lastSequence = Math.min(firstSequence + count - 1, SEQUENCE_MASK);
+            if (state.compareAndSet(lastState, ((currentMilliseconds - EPOCH) << SEQUENCE_BITS) | lastSequence)) {
+                for (long each = firstSequence; each <= lastSequence; each++) {
+                    result.add(((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (workerId << WORKER_ID_LEFT_SHIFT_BITS) | each);
+                }
+                return;
+            }
+            casLost = true;
         }
-        lastMilliseconds = currentMilliseconds;
-        return ((currentMilliseconds - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | (getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMilliseconds) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMilliseconds, final long currentMilliseconds) {
         if (lastMilliseconds <= currentMilliseconds) {
             return false;
         }
@@ -152,7 +188,14 @@ public final class SnowflakeShardingKeyGenerator implements ShardingKeyGenerator
         return result;
     }
     
-    private void vibrateSequenceOffset() {
-        sequenceOffset = sequenceOffset >= getMaxVibrationOffset() ? 0 : sequenceOffset + 1;
+    private long vibrateSequenceOffset() {
+        int maxVibrationOffset = getMaxVibrationOffset();
+        while (true) {
+            int current = sequenceOffset.get();
+            int result = current >= maxVibrationOffset ? 0 : current + 1;
+            if (sequenceOffset.compareAndSet(current, result)) {
+                return result;
+            }
+        }
     }
 }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.strategy.route.inline;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import groovy.lang.Closure;
 import groovy.util.Expando;
@@ -26,6 +27,8 @@ import org.apache.shardingsphere.core.strategy.route.ShardingStrategy;
 import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RangeRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
+import org.apache.shardingsphere.underlying.common.config.inline.CompiledInlineExpression;
+import org.apache.shardingsphere.underlying.common.config.inline.InlineExpressionCompiler;
 import org.apache.shardingsphere.underlying.common.config.inline.InlineExpressionParser;
 import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
@@ -45,12 +48,15 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     
     private final Closure<?> closure;
     
+    private final CompiledInlineExpression compiledExpression;
+    
     public InlineShardingStrategy(final InlineShardingStrategyConfiguration inlineShardingStrategyConfig) {
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(inlineShardingStrategyConfig.getAlgorithmExpression(), "Sharding algorithm expression cannot be null.");
         shardingColumn = inlineShardingStrategyConfig.getShardingColumn();
         String algorithmExpression = InlineExpressionParser.handlePlaceHolder(inlineShardingStrategyConfig.getAlgorithmExpression().trim());
         closure = new InlineExpressionParser(algorithmExpression).evaluateClosure();
+        compiledExpression = new InlineExpressionCompiler(algorithmExpression, shardingColumn).compile().orNull();
     }
     
     @Override
@@ -88,6 +94,12 @@ public final class InlineShardingStrategy implements ShardingStrategy {
     }
     
     private String execute(final PreciseShardingValue shardingValue) {
+        if (null != compiledExpression) {
+            Optional<String> compiledResult = compiledExpression.evaluate(shardingValue.getValue());
+            if (compiledResult.isPresent()) {
+                return compiledResult.get();
+            }
+        }
         Closure<?> result = closure.rehydrate(new Expando(), null, null);
         result.setResolveStrategy(Closure.DELEGATE_ONLY);
         result.setProperty(shardingColumn, shardingValue.getValue());
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.api.sharding.standard.BoundedRangeShardingAlgorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+
+/**
+ * Range sharding index.
+ *
+ * <p>
+ * Available targets sorted by lower boundaries which declared by {@link BoundedRangeShardingAlgorithm}.
+ * Index is empty if any target does not have boundary or boundaries are duplicated.
+ * </p>
+ */
+public final class RangeShardingIndex {
+    
+    @SuppressWarnings("rawtypes")
+    private final List<Comparable> lowerBoundaries = new ArrayList<>();
+    
+    private final List<String> targetNames = new ArrayList<>();
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public RangeShardingIndex(final Collection<String> availableTargetNames, final BoundedRangeShardingAlgorithm<?> rangeShardingAlgorithm) {
+        Map<Comparable, String> sortedTargetNames = new TreeMap<>();
+        try {
+            for (String each : availableTargetNames) {
+                Comparable lowerBoundary = rangeShardingAlgorithm.getLowerBoundary(each);
+                if (null == lowerBoundary || null != sortedTargetNames.put(lowerBoundary, each)) {
+                    return;
+                }
+            }
+        } catch (final ClassCastException ex) {
+            return;
+        }
+        for (Entry<Comparable, String> entry : sortedTargetNames.entrySet()) {
+            lowerBoundaries.add(entry.getKey());
+            targetNames.add(entry.getValue());
+        }
+    }
+    
+    /**
+     * Route value range to targets.
+     * 
+     * @param valueRange value range
+     * @return routed targets, empty if index is empty or value range is out of all boundaries
+     */
+    public Collection<String> route(final Range<?> valueRange) {
+        if (targetNames.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int startIndex;
+        int stopIndex;
+        try {
+            startIndex = valueRange.hasLowerBound() ? Math.max(findFloorIndex(valueRange.lowerEndpoint(), true), 0) : 0;
+            stopIndex = valueRange.hasUpperBound() ? findFloorIndex(valueRange.upperEndpoint(), BoundType.CLOSED == valueRange.upperBoundType()) : targetNames.size() - 1;
+        } catch (final ClassCastException ex) {
+            return Collections.emptyList();
+        }
+        return startIndex > stopIndex ? Collections.<String>emptyList() : new ArrayList<>(targetNames.subList(startIndex, stopIndex + 1));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private int findFloorIndex(final Comparable<?> value, final boolean inclusive) {
+        int result = -1;
+        int low = 0;
+        int high = lowerBoundaries.size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int compareResult = lowerBoundaries.get(middle).compareTo(value);
+            if (compareResult < 0 || inclusive && 0 == compareResult) {
+                result = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return result;
+    }
+}
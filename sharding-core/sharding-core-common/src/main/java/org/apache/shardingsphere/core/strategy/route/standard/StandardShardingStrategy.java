@@ -18,7 +18,11 @@
 package org.apache.shardingsphere.core.strategy.route.standard;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.api.sharding.standard.BoundedRangeShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
 import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
 import org.apache.shardingsphere.api.sharding.standard.RangeShardingAlgorithm;
@@ -44,12 +48,26 @@ public final class StandardShardingStrategy implements ShardingStrategy {
     
     private final RangeShardingAlgorithm rangeShardingAlgorithm;
     
+    private final LoadingCache<Collection<String>, RangeShardingIndex> rangeShardingIndexes;
+    
     public StandardShardingStrategy(final StandardShardingStrategyConfiguration standardShardingStrategyConfig) {
         Preconditions.checkNotNull(standardShardingStrategyConfig.getShardingColumn(), "Sharding column cannot be null.");
         Preconditions.checkNotNull(standardShardingStrategyConfig.getPreciseShardingAlgorithm(), "precise sharding algorithm cannot be null.");
         shardingColumn = standardShardingStrategyConfig.getShardingColumn();
         preciseShardingAlgorithm = standardShardingStrategyConfig.getPreciseShardingAlgorithm();
         rangeShardingAlgorithm = standardShardingStrategyConfig.getRangeShardingAlgorithm();
+        rangeShardingIndexes = rangeShardingAlgorithm instanceof BoundedRangeShardingAlgorithm ? createRangeShardingIndexes((BoundedRangeShardingAlgorithm<?>) rangeShardingAlgorithm) : null;
+    }
+    
+    // available target names of table rule are same instances for every routing, so indexes are cached by identity of weak keys
+    private LoadingCache<Collection<String>, RangeShardingIndex> createRangeShardingIndexes(final BoundedRangeShardingAlgorithm<?> boundedRangeShardingAlgorithm) {
+        return CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<Collection<String>, RangeShardingIndex>() {
+            
+            @Override
+            public RangeShardingIndex load(final Collection<String> availableTargetNames) {
+                return new RangeShardingIndex(availableTargetNames, boundedRangeShardingAlgorithm);
+            }
+        });
     }
     
     @Override
@@ -67,6 +85,12 @@ public final class StandardShardingStrategy implements ShardingStrategy {
         if (null == rangeShardingAlgorithm) {
             throw new UnsupportedOperationException("Cannot find range sharding strategy in sharding rule.");
         }
+        if (null != rangeShardingIndexes) {
+            Collection<String> result = rangeShardingIndexes.getUnchecked(availableTargetNames).route(shardingValue.getValueRange());
+            if (!result.isEmpty()) {
+                return result;
+            }
+        }
         return rangeShardingAlgorithm.doSharding(availableTargetNames, 
                 new RangeShardingValue(shardingValue.getTableName(), shardingValue.getColumnName(), shardingValue.getValueRange()));
     }
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.core.rule;
 
+import com.google.common.base.Optional;
 import org.apache.shardingsphere.api.config.masterslave.MasterSlaveRuleConfiguration;
 import org.apache.shardingsphere.api.config.sharding.KeyGeneratorConfiguration;
 import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
@@ -92,6 +93,11 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRule("other_Table").isPresent());
     }
     
+    @Test
+    public void assertNotFindTableRuleWithNullLogicTableName() {
+        assertFalse(createMaximumShardingRule().findTableRule(null).isPresent());
+    }
+    
     @Test
     public void assertFindTableRuleByActualTable() {
         assertTrue(createMaximumShardingRule().findTableRuleByActualTable("table_0").isPresent());
@@ -102,6 +108,28 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findTableRuleByActualTable("table_3").isPresent());
     }
     
+    @Test
+    public void assertNotFindTableRuleByActualTableWithNullActualTableName() {
+        assertFalse(createMaximumShardingRule().findTableRuleByActualTable(null).isPresent());
+    }
+    
+    @Test
+    public void assertFindTableRuleByActualTableIgnoreCase() {
+        Optional<TableRule> actual = createMaximumShardingRule().findTableRuleByActualTable("SUB_TABLE_1");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getLogicTable(), is("sub_logic_table"));
+    }
+    
+    @Test
+    public void assertGetLogicTableNamesByActualTable() {
+        assertThat(createMaximumShardingRule().getLogicTableNames("Table_1"), CoreMatchers.<Collection<String>>is(Collections.singletonList("logic_table")));
+    }
+    
+    @Test
+    public void assertGetLogicTableNamesWithNullActualTableName() {
+        assertTrue(createMaximumShardingRule().getLogicTableNames(null).isEmpty());
+    }
+    
     @Test
     public void assertGetTableRuleWithShardingTable() {
         TableRule actual = createMaximumShardingRule().getTableRule("Logic_Table");
@@ -184,6 +212,11 @@ public final class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().findBindingTableRule("new_Table").isPresent());
     }
     
+    @Test
+    public void assertGetBindingTableRuleWithNullLogicTableName() {
+        assertFalse(createMaximumShardingRule().findBindingTableRule(null).isPresent());
+    }
+    
     @Test
     public void assertGetBindingTableRuleForFound() {
         ShardingRule actual = createMaximumShardingRule();
@@ -273,6 +306,15 @@ public final class ShardingRuleTest {
         assertFalse(new ShardingRule(shardingRuleConfig, createDataSourceNames()).isShardingColumn("column", "other_Table"));
     }
     
+    @Test
+    public void assertIsNotShardingColumnWithNullNames() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTableRuleConfigs().add(createTableRuleConfigWithAllStrategies());
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        assertFalse(actual.isShardingColumn("column", null));
+        assertFalse(actual.isShardingColumn(null, "logic_Table"));
+    }
+    
     @Test
     public void assertFindGenerateKeyColumn() {
         assertTrue(createMaximumShardingRule().findGenerateKeyColumnName("logic_table").isPresent());
@@ -298,6 +340,20 @@ public final class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(Integer.class));
     }
     
+    @Test
+    public void assertGenerateKeysWithDefaultKeyGenerator() {
+        Collection<Comparable<?>> actual = createMinimumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.iterator().next(), instanceOf(Long.class));
+    }
+    
+    @Test
+    public void assertGenerateKeysWithKeyGenerator() {
+        Collection<Comparable<?>> actual = createMaximumShardingRule().generateKeys("logic_table", 3);
+        assertThat(actual.size(), is(3));
+        assertThat(actual.iterator().next(), instanceOf(Integer.class));
+    }
+    
     @Test
     public void assertDataSourceNameFromDefaultDataSourceName() {
         ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
@@ -31,6 +31,10 @@ import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotEquals;
@@ -76,6 +80,59 @@ public final class SnowflakeShardingKeyGeneratorTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    public void assertGenerateKeysWithSingleThread() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+        SnowflakeShardingKeyGenerator.setTimeService(new FixedTimeService(1));
+        List<Comparable<?>> expected = Arrays.<Comparable<?>>asList(0L, 1L, 2L, 4194305L, 4194306L, 4194307L, 4194308L);
+        List<Comparable<?>> actual = new ArrayList<>(keyGenerator.generateKeys(3));
+        actual.addAll(keyGenerator.generateKeys(4));
+        assertThat(actual, is(expected));
+    }
+    
+    @Test
+    public void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeShardingKeyGenerator.setTimeService(timeService);
+        keyGenerator.setProperties(new Properties());
+        setLastMilliseconds(keyGenerator, timeService.getCurrentMillis());
+        setSequence(keyGenerator, (1 << DEFAULT_SEQUENCE_BITS) - 3);
+        List<Comparable<?>> expected = Arrays.<Comparable<?>>asList(4094L, 4095L, 4194304L, 4194305L);
+        assertThat(keyGenerator.generateKeys(4), is(expected));
+    }
+    
+    @Test
+    @SneakyThrows
+    public void assertGenerateKeysWithMultipleThreads() {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+        SnowflakeShardingKeyGenerator.setTimeService(new TimeService());
+        List<Future<List<Comparable<?>>>> futures = new ArrayList<>(threadNumber);
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(new Callable<List<Comparable<?>>>() {
+                
+                @Override
+                public List<Comparable<?>> call() {
+                    List<Comparable<?>> result = new ArrayList<>();
+                    for (int j = 0; j < 100; j++) {
+                        result.addAll(keyGenerator.generateKeys(100));
+                    }
+                    return result;
+                }
+            }));
+        }
+        Set<Comparable<?>> actual = new HashSet<>();
+        for (Future<List<Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(threadNumber * 100 * 100));
+    }
+    
     @Test
     public void assertLastDigitalOfGenerateKeySameMillisecond() {
         SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
@@ -146,6 +203,29 @@ public final class SnowflakeShardingKeyGeneratorTest {
         assertNotEquals(actual.size(), 10);
     }
     
+    @Test
+    public void assertGenerateKeyWhenCASLostToLaterMillisecond() {
+        final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+        final AtomicInteger timeServiceCalls = new AtomicInteger();
+        final AtomicReference<Comparable<?>> concurrentKey = new AtomicReference<>();
+        SnowflakeShardingKeyGenerator.setTimeService(new TimeService() {
+            
+            @Override
+            public long getCurrentMillis() {
+                int index = timeServiceCalls.getAndIncrement();
+                if (0 == index) {
+                    concurrentKey.set(keyGenerator.generateKey());
+                }
+                return SnowflakeShardingKeyGenerator.EPOCH + (1 == index ? 2 : 1);
+            }
+        });
+        Comparable<?> actual = keyGenerator.generateKey();
+        assertThat(concurrentKey.get(), is((Comparable) 8388608L));
+        assertThat(actual, is((Comparable) 8388609L));
+        assertThat(timeServiceCalls.get(), is(3));
+    }
+    
     @Test
     public void assertGenerateKeyBeyondMaxSequencePerMilliSecond() {
         final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
@@ -162,18 +242,20 @@ public final class SnowflakeShardingKeyGeneratorTest {
         assertThat(actual, is(expected));
     }
     
-    @SneakyThrows
     private void setSequence(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field sequence = SnowflakeShardingKeyGenerator.class.getDeclaredField("sequence");
-        sequence.setAccessible(true);
-        sequence.set(keyGenerator, value);
+        AtomicLong state = getState(keyGenerator);
+        state.set(state.get() >> DEFAULT_SEQUENCE_BITS << DEFAULT_SEQUENCE_BITS | value.longValue());
     }
     
-    @SneakyThrows
     private void setLastMilliseconds(final SnowflakeShardingKeyGenerator keyGenerator, final Number value) {
-        Field lastMilliseconds = SnowflakeShardingKeyGenerator.class.getDeclaredField("lastMilliseconds");
-        lastMilliseconds.setAccessible(true);
-        lastMilliseconds.set(keyGenerator, value);
+        getState(keyGenerator).set(value.longValue() - SnowflakeShardingKeyGenerator.EPOCH << DEFAULT_SEQUENCE_BITS);
+    }
+    
+    @SneakyThrows
+    private AtomicLong getState(final SnowflakeShardingKeyGenerator keyGenerator) {
+        Field state = SnowflakeShardingKeyGenerator.class.getDeclaredField("state");
+        state.setAccessible(true);
+        return (AtomicLong) state.get(keyGenerator);
     }
     
     @Test(expected = IllegalArgumentException.class)
@@ -23,6 +23,7 @@ import com.google.common.collect.Sets;
 import org.apache.shardingsphere.api.config.sharding.strategy.ComplexShardingStrategyConfiguration;
 import org.apache.shardingsphere.api.config.sharding.strategy.StandardShardingStrategyConfiguration;
 import org.apache.shardingsphere.core.strategy.route.complex.ComplexShardingStrategy;
+import org.apache.shardingsphere.core.strategy.route.fixture.BoundedRangeShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.ComplexKeysShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.PreciseShardingAlgorithmFixture;
 import org.apache.shardingsphere.core.strategy.route.fixture.RangeShardingAlgorithmFixture;
@@ -60,6 +61,14 @@ public final class ShardingStrategyTest {
                 is((Collection<String>) Sets.newHashSet("1")));
     }
     
+    @Test
+    public void assertDoShardingForBetweenSingleKeyWithBoundedRangeAlgorithm() {
+        StandardShardingStrategy strategy = new StandardShardingStrategy(
+                new StandardShardingStrategyConfiguration("column", new PreciseShardingAlgorithmFixture(), new BoundedRangeShardingAlgorithmFixture()));
+        Collection<RouteValue> shardingValues = Collections.<RouteValue>singletonList(new RangeRouteValue<>("column", "logicTable", Range.open(15, 25)));
+        assertThat(strategy.doSharding(targets, shardingValues, new ShardingSphereProperties(new Properties())), is((Collection<String>) Sets.newHashSet("1", "2")));
+    }
+    
     @Test
     public void assertDoShardingForMultipleKeys() {
         ComplexShardingStrategy strategy = new ComplexShardingStrategy(new ComplexShardingStrategyConfiguration("column1, column2", new ComplexKeysShardingAlgorithmFixture()));
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.fixture;
+
+import org.apache.shardingsphere.api.sharding.standard.BoundedRangeShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+
+import java.util.Collection;
+
+/**
+ * Bounded range sharding algorithm fixture, lower boundary of target is ten times of its numeric suffix.
+ */
+public final class BoundedRangeShardingAlgorithmFixture implements BoundedRangeShardingAlgorithm<Integer> {
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> availableTargetNames, final RangeShardingValue<Integer> shardingValue) {
+        return availableTargetNames;
+    }
+    
+    @Override
+    public Integer getLowerBoundary(final String availableTargetName) {
+        String suffix = availableTargetName.substring(availableTargetName.lastIndexOf('_') + 1);
+        return suffix.matches("\\d+") ? Integer.parseInt(suffix) * 10 : null;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.core.strategy.route.standard;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.core.strategy.route.fixture.BoundedRangeShardingAlgorithmFixture;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class RangeShardingIndexTest {
+    
+    private final RangeShardingIndex rangeShardingIndex = new RangeShardingIndex(Arrays.asList("t_2", "t_0", "t_3", "t_1"), new BoundedRangeShardingAlgorithmFixture());
+    
+    @Test
+    public void assertRouteClosedRange() {
+        assertThat(rangeShardingIndex.route(Range.closed(5, 20)), is((Collection<String>) Arrays.asList("t_0", "t_1", "t_2")));
+    }
+    
+    @Test
+    public void assertRouteOpenRange() {
+        assertThat(rangeShardingIndex.route(Range.open(10, 20)), is((Collection<String>) Arrays.asList("t_1")));
+    }
+    
+    @Test
+    public void assertRouteUnboundedRange() {
+        assertThat(rangeShardingIndex.route(Range.atLeast(25)), is((Collection<String>) Arrays.asList("t_2", "t_3")));
+        assertThat(rangeShardingIndex.route(Range.lessThan(10)), is((Collection<String>) Collections.singletonList("t_0")));
+        assertThat(rangeShardingIndex.route(Range.<Integer>all()), is((Collection<String>) Arrays.asList("t_0", "t_1", "t_2", "t_3")));
+    }
+    
+    @Test
+    public void assertRouteOutOfBoundaries() {
+        assertTrue(rangeShardingIndex.route(Range.lessThan(0)).isEmpty());
+    }
+    
+    @Test
+    public void assertRouteWithIncomparableValue() {
+        assertTrue(rangeShardingIndex.route(Range.closed(5L, 20L)).isEmpty());
+    }
+    
+    @Test
+    public void assertRouteWithoutBoundary() {
+        assertTrue(new RangeShardingIndex(Arrays.asList("t_0", "t_x"), new BoundedRangeShardingAlgorithmFixture()).route(Range.closed(5, 20)).isEmpty());
+    }
+}
@@ -17,10 +17,12 @@
 
 package org.apache.shardingsphere.core.shard;
 
+import com.google.common.base.Optional;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
+import org.apache.shardingsphere.sharding.route.engine.plan.ShardingRoutePlanCache;
 import org.apache.shardingsphere.sharding.route.hook.SPIRoutingHook;
 import org.apache.shardingsphere.masterslave.route.engine.MasterSlaveRouteDecorator;
 import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
@@ -32,6 +34,7 @@ import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionConte
 import org.apache.shardingsphere.sharding.rewrite.context.ShardingSQLRewriteContextDecorator;
 import org.apache.shardingsphere.sharding.rewrite.engine.ShardingSQLRewriteEngine;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
@@ -43,8 +46,11 @@ import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContextDecorator;
 import org.apache.shardingsphere.underlying.rewrite.engine.SQLRewriteResult;
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplate;
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplateCache;
 import org.apache.shardingsphere.underlying.route.context.RouteUnit;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -68,12 +74,20 @@ public abstract class BaseShardingEngine {
     
     private final SPIRoutingHook routingHook;
     
+    private final SQLTemplateCache sqlTemplateCache;
+    
     public BaseShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, final SQLParserEngine sqlParserEngine) {
+        this(shardingRule, properties, metaData, sqlParserEngine, new SQLTemplateCache(), new ShardingRoutePlanCache());
+    }
+    
+    public BaseShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, 
+                              final SQLParserEngine sqlParserEngine, final SQLTemplateCache sqlTemplateCache, final ShardingRoutePlanCache routePlanCache) {
         this.shardingRule = shardingRule;
         this.properties = properties;
         this.metaData = metaData;
-        shardingRouter = new ShardingRouter(shardingRule, properties, metaData, sqlParserEngine);
+        shardingRouter = new ShardingRouter(shardingRule, properties, metaData, sqlParserEngine, routePlanCache);
         routingHook = new SPIRoutingHook();
+        this.sqlTemplateCache = sqlTemplateCache;
     }
     
     /**
@@ -86,7 +100,7 @@ public abstract class BaseShardingEngine {
     public ExecutionContext shard(final String sql, final List<Object> parameters) {
         List<Object> clonedParameters = cloneParameters(parameters);
         ShardingRouteContext shardingRouteContext = executeRoute(sql, clonedParameters);
-        ShardingExecutionContext result = new ShardingExecutionContext(shardingRouteContext.getSqlStatementContext(), shardingRouteContext.getGeneratedKey().orNull());
+        ShardingExecutionContext result = new ShardingExecutionContext(sql, shardingRouteContext.getSqlStatementContext(), shardingRouteContext.getGeneratedKey().orNull());
         result.getExecutionUnits().addAll(HintManager.isDatabaseShardingOnly() ? convert(sql, clonedParameters, shardingRouteContext) : rewriteAndConvert(sql, clonedParameters, shardingRouteContext));
         boolean showSQL = properties.getValue(PropertiesConstant.SQL_SHOW);
         if (showSQL) {
@@ -132,8 +146,7 @@ public abstract class BaseShardingEngine {
     
     private Collection<ExecutionUnit> rewriteAndConvert(final String sql, final List<Object> parameters, final ShardingRouteContext shardingRouteContext) {
         Collection<ExecutionUnit> result = new LinkedHashSet<>();
-        SQLRewriteContext sqlRewriteContext = new SQLRewriteEntry(
-                metaData, properties).createSQLRewriteContext(sql, parameters, shardingRouteContext.getSqlStatementContext(), createSQLRewriteContextDecorator(shardingRouteContext));
+        SQLRewriteContext sqlRewriteContext = createSQLRewriteContext(sql, parameters, shardingRouteContext);
         for (RouteUnit each : shardingRouteContext.getRouteResult().getRouteUnits()) {
             ShardingSQLRewriteEngine sqlRewriteEngine = new ShardingSQLRewriteEngine(shardingRule, shardingRouteContext.getShardingConditions(), each);
             SQLRewriteResult sqlRewriteResult = sqlRewriteEngine.rewrite(sqlRewriteContext);
@@ -142,6 +155,22 @@ public abstract class BaseShardingEngine {
         return result;
     }
     
+    private SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, final ShardingRouteContext shardingRouteContext) {
+        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(metaData, properties);
+        Map<BaseRule, SQLRewriteContextDecorator> decorators = createSQLRewriteContextDecorator(shardingRouteContext);
+        if (shardingRouteContext.getSqlStatementContext() instanceof InsertStatementContext) {
+            return sqlRewriteEntry.createSQLRewriteContext(sql, parameters, shardingRouteContext.getSqlStatementContext(), decorators);
+        }
+        List<RouteUnit> routeUnits = new ArrayList<>(shardingRouteContext.getRouteResult().getRouteUnits());
+        Optional<SQLTemplate> sqlTemplate = sqlTemplateCache.getSQLTemplate(sql, routeUnits);
+        if (sqlTemplate.isPresent()) {
+            return sqlRewriteEntry.createSQLRewriteContext(sql, parameters, shardingRouteContext.getSqlStatementContext(), decorators, sqlTemplate.get());
+        }
+        SQLRewriteContext result = sqlRewriteEntry.createSQLRewriteContext(sql, parameters, shardingRouteContext.getSqlStatementContext(), decorators);
+        sqlTemplateCache.put(sql, routeUnits, result.getSqlTemplate());
+        return result;
+    }
+    
     private Map<BaseRule, SQLRewriteContextDecorator> createSQLRewriteContextDecorator(final ShardingRouteContext shardingRouteContext) {
         Map<BaseRule, SQLRewriteContextDecorator> result = new LinkedHashMap<>(2, 1);
         result.put(shardingRule, new ShardingSQLRewriteContextDecorator(shardingRouteContext));
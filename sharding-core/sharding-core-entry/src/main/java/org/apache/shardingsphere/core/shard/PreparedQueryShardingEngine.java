@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.core.shard;
 
 import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
+import org.apache.shardingsphere.sharding.route.engine.plan.ShardingRoutePlanCache;
 import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplateCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -42,6 +44,11 @@ public final class PreparedQueryShardingEngine extends BaseShardingEngine {
         super(shardingRule, properties, metaData, sqlParserEngine);
     }
     
+    public PreparedQueryShardingEngine(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, 
+                                       final SQLParserEngine sqlParserEngine, final SQLTemplateCache sqlTemplateCache, final ShardingRoutePlanCache routePlanCache) {
+        super(shardingRule, properties, metaData, sqlParserEngine, sqlTemplateCache, routePlanCache);
+    }
+    
     @Override
     protected List<Object> cloneParameters(final List<Object> parameters) {
         return new ArrayList<>(parameters);
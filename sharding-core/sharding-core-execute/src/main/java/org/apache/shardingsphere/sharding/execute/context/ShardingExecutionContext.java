@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sharding.execute.context;
 
 import com.google.common.base.Optional;
+import lombok.Getter;
 import org.apache.shardingsphere.sharding.route.engine.keygen.GeneratedKey;
 import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.executor.context.ExecutionContext;
@@ -27,10 +28,14 @@ import org.apache.shardingsphere.underlying.executor.context.ExecutionContext;
  */
 public final class ShardingExecutionContext extends ExecutionContext {
     
+    @Getter
+    private final String logicSQL;
+    
     private final GeneratedKey generatedKey;
     
-    public ShardingExecutionContext(final SQLStatementContext sqlStatementContext, final GeneratedKey generatedKey) {
+    public ShardingExecutionContext(final String logicSQL, final SQLStatementContext sqlStatementContext, final GeneratedKey generatedKey) {
         super(sqlStatementContext);
+        this.logicSQL = logicSQL;
         this.generatedKey = generatedKey;
     }
     
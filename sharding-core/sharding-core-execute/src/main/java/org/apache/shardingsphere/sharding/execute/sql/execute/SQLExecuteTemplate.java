@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.sharding.execute.sql.execute;
 
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.sharding.execute.sql.StatementExecuteUnit;
 import org.apache.shardingsphere.sharding.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
@@ -71,4 +73,26 @@ public final class SQLExecuteTemplate {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * <p>Serial execution stays on caller thread because transactional connections are bound to it, the returned future is completed already.</p>
+     *
+     * @param inputGroups input groups
+     * @param callback SQL execute callback
+     * @param <T> class type of return value
+     * @return future of execute result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ListenableFuture<List<T>> executeAsync(final Collection<InputGroup<? extends StatementExecuteUnit>> inputGroups, final SQLExecuteCallback<T> callback) {
+        if (!serial) {
+            return executorEngine.executeAsync((Collection) inputGroups, callback);
+        }
+        try {
+            return Futures.immediateFuture(execute(inputGroups, callback));
+        } catch (final SQLException ex) {
+            return Futures.immediateFailedFuture(ex);
+        }
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.execute.sql.execute.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.BitSet;
+
+/**
+ * Boolean column of query result for memory loading.
+ */
+final class BooleanMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private final BitSet values = new BitSet();
+    
+    private int capacity;
+    
+    @Override
+    protected int getCapacity() {
+        return capacity;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int capacity) {
+        this.capacity = capacity;
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final ResultSet resultSet, final int columnIndex) throws SQLException {
+        values.set(rowIndex, resultSet.getBoolean(columnIndex));
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        return values.get(rowIndex);
+    }
+}
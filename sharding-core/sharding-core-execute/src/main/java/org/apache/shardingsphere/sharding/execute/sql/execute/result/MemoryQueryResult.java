@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.execute.sql.execute.result;
 
+import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 
@@ -27,112 +28,76 @@ import java.io.ObjectOutputStream;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.sql.Types;
-import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result for memory loading.
+ *
+ * <p>
+ * Rows are loaded into typed columns, instead of list of boxed values per row.
+ * </p>
  */
 public final class MemoryQueryResult implements QueryResult {
     
     private final ResultSetMetaData resultSetMetaData;
     
-    private final Iterator<List<Object>> rows;
+    private final MemoryQueryResultColumn[] columns;
+    
+    @Getter
+    private final int rowCount;
     
-    private List<Object> currentRow;
+    private int currentRowIndex = -1;
     
     public MemoryQueryResult(final ResultSet resultSet) throws SQLException {
-        resultSetMetaData = resultSet.getMetaData();
-        rows = getRows(resultSet);
+        this(resultSet, resultSet.getMetaData(), Integer.MAX_VALUE);
     }
     
-    private Iterator<List<Object>> getRows(final ResultSet resultSet) throws SQLException {
-        Collection<List<Object>> result = new LinkedList<>();
-        while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(resultSet.getMetaData().getColumnCount());
-            for (int columnIndex = 1; columnIndex <= resultSet.getMetaData().getColumnCount(); columnIndex++) {
-                Object rowValue = getRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
-            }
-            result.add(rowData);
+    MemoryQueryResult(final ResultSet resultSet, final ResultSetMetaData resultSetMetaData, final int maxRowCount) throws SQLException {
+        this.resultSetMetaData = resultSetMetaData;
+        columns = createColumns(resultSetMetaData);
+        rowCount = loadRows(resultSet, maxRowCount);
+    }
+    
+    private MemoryQueryResultColumn[] createColumns(final ResultSetMetaData metaData) throws SQLException {
+        MemoryQueryResultColumn[] result = new MemoryQueryResultColumn[metaData.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = MemoryQueryResultColumn.newInstance(metaData, i + 1);
         }
-        return result.iterator();
+        return result;
     }
     
-    private Object getRowValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
-        ResultSetMetaData metaData = resultSet.getMetaData();
-        switch (metaData.getColumnType(columnIndex)) {
-            case Types.BOOLEAN:
-                return resultSet.getBoolean(columnIndex);
-            case Types.TINYINT:
-            case Types.SMALLINT:
-                return resultSet.getInt(columnIndex);
-            case Types.INTEGER:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getInt(columnIndex);
-                }
-                return resultSet.getLong(columnIndex);
-            case Types.BIGINT:
-                if (metaData.isSigned(columnIndex)) {
-                    return resultSet.getLong(columnIndex);
-                }
-                return resultSet.getBigDecimal(columnIndex).toBigInteger();
-            case Types.NUMERIC:
-            case Types.DECIMAL:
-                return resultSet.getBigDecimal(columnIndex);
-            case Types.FLOAT:
-            case Types.DOUBLE:
-                return resultSet.getDouble(columnIndex);
-            case Types.CHAR:
-            case Types.VARCHAR:
-            case Types.LONGVARCHAR:
-                return resultSet.getString(columnIndex);
-            case Types.DATE:
-                return resultSet.getDate(columnIndex);
-            case Types.TIME:
-                return resultSet.getTime(columnIndex);
-            case Types.TIMESTAMP:
-                return resultSet.getTimestamp(columnIndex);
-            case Types.CLOB:
-                return resultSet.getClob(columnIndex);
-            case Types.BLOB:
-            case Types.BINARY:
-            case Types.VARBINARY:
-            case Types.LONGVARBINARY:
-                return resultSet.getBlob(columnIndex);
-            default:
-                return resultSet.getObject(columnIndex);
+    private int loadRows(final ResultSet resultSet, final int maxRowCount) throws SQLException {
+        int result = 0;
+        while (result < maxRowCount && resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                columns[i].add(resultSet, i + 1);
+            }
+            result++;
         }
+        return result;
     }
     
     @Override
     public boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
-            return true;
+        if (currentRowIndex < rowCount) {
+            currentRowIndex++;
         }
-        currentRow = null;
-        return false;
+        return currentRowIndex < rowCount;
     }
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) {
-        return currentRow.get(columnIndex - 1);
+        return columns[columnIndex - 1].get(currentRowIndex);
     }
     
     @Override
     public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        return currentRow.get(columnIndex - 1);
+        return columns[columnIndex - 1].get(currentRowIndex);
     }
     
     @Override
     public InputStream getInputStream(final int columnIndex, final String type) {
-        return getInputStream(currentRow.get(columnIndex - 1));
+        return getInputStream(columns[columnIndex - 1].get(currentRowIndex));
     }
     
     @SneakyThrows
@@ -147,7 +112,7 @@ public final class MemoryQueryResult implements QueryResult {
     
     @Override
     public boolean wasNull() {
-        return null == currentRow;
+        return currentRowIndex >= rowCount;
     }
     
     @Override
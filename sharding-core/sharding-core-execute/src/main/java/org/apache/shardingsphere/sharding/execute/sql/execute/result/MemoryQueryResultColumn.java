@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.execute.sql.execute.result;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.BitSet;
+
+/**
+ * Column of query result for memory loading.
+ *
+ * <p>
+ * Values are kept in typed arrays per column, nulls are kept in bitmap.
+ * </p>
+ */
+abstract class MemoryQueryResultColumn {
+    
+    private static final int DEFAULT_CAPACITY = 16;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private int size;
+    
+    /**
+     * Create column of query result for memory loading.
+     *
+     * @param metaData result set meta data
+     * @param columnIndex column index
+     * @return column of query result for memory loading
+     * @throws SQLException SQL exception
+     */
+    static MemoryQueryResultColumn newInstance(final ResultSetMetaData metaData, final int columnIndex) throws SQLException {
+        int columnType = metaData.getColumnType(columnIndex);
+        switch (columnType) {
+            case Types.BOOLEAN:
+                return new BooleanMemoryQueryResultColumn();
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return new IntMemoryQueryResultColumn();
+            case Types.INTEGER:
+                return metaData.isSigned(columnIndex) ? new IntMemoryQueryResultColumn() : new LongMemoryQueryResultColumn();
+            case Types.BIGINT:
+                return metaData.isSigned(columnIndex) ? new LongMemoryQueryResultColumn() : new ObjectMemoryQueryResultColumn(columnType);
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return new DoubleMemoryQueryResultColumn();
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+                return new StringMemoryQueryResultColumn();
+            default:
+                return new ObjectMemoryQueryResultColumn(columnType);
+        }
+    }
+    
+    /**
+     * Add value of current row.
+     *
+     * @param resultSet result set
+     * @param columnIndex column index
+     * @throws SQLException SQL exception
+     */
+    final void add(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        if (0 == size) {
+            ensureCapacity(DEFAULT_CAPACITY);
+        } else if (size == getCapacity()) {
+            ensureCapacity(size + (size >> 1));
+        }
+        setValue(size, resultSet, columnIndex);
+        if (resultSet.wasNull()) {
+            nulls.set(size);
+        }
+        size++;
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index
+     * @return value
+     */
+    final Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : getValue(rowIndex);
+    }
+    
+    protected abstract int getCapacity();
+    
+    protected abstract void ensureCapacity(int capacity);
+    
+    protected abstract void setValue(int rowIndex, ResultSet resultSet, int columnIndex) throws SQLException;
+    
+    protected abstract Object getValue(int rowIndex);
+}
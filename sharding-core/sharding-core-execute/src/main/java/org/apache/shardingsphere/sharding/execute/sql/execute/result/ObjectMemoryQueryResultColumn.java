@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.execute.sql.execute.result;
+
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+
+/**
+ * Object column of query result for memory loading.
+ */
+@RequiredArgsConstructor
+final class ObjectMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private final int columnType;
+    
+    private Object[] values = new Object[0];
+    
+    @Override
+    protected int getCapacity() {
+        return values.length;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final ResultSet resultSet, final int columnIndex) throws SQLException {
+        values[rowIndex] = getValue(resultSet, columnIndex);
+    }
+    
+    private Object getValue(final ResultSet resultSet, final int columnIndex) throws SQLException {
+        switch (columnType) {
+            case Types.BIGINT:
+                BigDecimal unsignedBigInt = resultSet.getBigDecimal(columnIndex);
+                return null == unsignedBigInt ? null : unsignedBigInt.toBigInteger();
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return resultSet.getBigDecimal(columnIndex);
+            case Types.DATE:
+                return resultSet.getDate(columnIndex);
+            case Types.TIME:
+                return resultSet.getTime(columnIndex);
+            case Types.TIMESTAMP:
+                return resultSet.getTimestamp(columnIndex);
+            case Types.CLOB:
+                return resultSet.getClob(columnIndex);
+            case Types.BLOB:
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                return resultSet.getBlob(columnIndex);
+            default:
+                return resultSet.getObject(columnIndex);
+        }
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        return values[rowIndex];
+    }
+}
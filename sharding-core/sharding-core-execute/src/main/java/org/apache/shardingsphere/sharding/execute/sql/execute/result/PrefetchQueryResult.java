@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.execute.sql.execute.result;
+
+import org.apache.shardingsphere.underlying.executor.CancelableQueryResult;
+import org.apache.shardingsphere.underlying.executor.engine.ExecutorEngine;
+
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Calendar;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Query result for stream loading with prefetch.
+ *
+ * <p>
+ * Rows are fetched by executor in batches, and next batch is fetched only after current batch is taken by merging,
+ * so that at most one batch is buffered ahead of merging.
+ * If executor has not started fetching the batch when merging needs it, merging thread fetches it by itself.
+ * Query result should be closed before its result set is closed, so that no batch is fetched from closed result set.
+ * </p>
+ */
+public final class PrefetchQueryResult implements CancelableQueryResult {
+    
+    private final ResultSetMetaData resultSetMetaData;
+    
+    private final ResultSet resultSet;
+    
+    private final ExecutorEngine executorEngine;
+    
+    private final int prefetchRows;
+    
+    private volatile FutureTask<MemoryQueryResult> nextBatch;
+    
+    private MemoryQueryResult currentBatch;
+    
+    private boolean wasNull;
+    
+    private boolean closed;
+    
+    public PrefetchQueryResult(final ResultSet resultSet, final ExecutorEngine executorEngine, final int prefetchRows) throws SQLException {
+        resultSetMetaData = resultSet.getMetaData();
+        this.resultSet = resultSet;
+        this.executorEngine = executorEngine;
+        this.prefetchRows = prefetchRows;
+        nextBatch = prefetch();
+    }
+    
+    private FutureTask<MemoryQueryResult> prefetch() {
+        FutureTask<MemoryQueryResult> result = new FutureTask<>(new Callable<MemoryQueryResult>() {
+            
+            @Override
+            public MemoryQueryResult call() throws SQLException {
+                return fetch();
+            }
+        });
+        try {
+            executorEngine.execute(result);
+        } catch (final RejectedExecutionException ignored) {
+        }
+        return result;
+    }
+    
+    private synchronized MemoryQueryResult fetch() throws SQLException {
+        if (closed) {
+            throw new SQLException("Query result is closed.");
+        }
+        return new MemoryQueryResult(resultSet, resultSetMetaData, prefetchRows);
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (null == currentBatch || !currentBatch.next()) {
+            if (null == nextBatch) {
+                return false;
+            }
+            currentBatch = takeNextBatch();
+        }
+        return true;
+    }
+    
+    private MemoryQueryResult takeNextBatch() throws SQLException {
+        FutureTask<MemoryQueryResult> batch = nextBatch;
+        nextBatch = null;
+        batch.run();
+        MemoryQueryResult result;
+        try {
+            result = batch.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(ex);
+        } catch (final ExecutionException ex) {
+            throw ex.getCause() instanceof SQLException ? (SQLException) ex.getCause() : new SQLException(ex.getCause());
+        }
+        if (result.getRowCount() == prefetchRows) {
+            nextBatch = prefetch();
+        }
+        return result;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentBatch.getValue(columnIndex, type);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentBatch.getCalendarValue(columnIndex, type, calendar);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) {
+        InputStream result = currentBatch.getInputStream(columnIndex, type);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return resultSetMetaData.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return resultSetMetaData.getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) throws SQLException {
+        return resultSetMetaData.isCaseSensitive(columnIndex);
+    }
+    
+    @Override
+    public void cancel() throws SQLException {
+        if (null == nextBatch) {
+            return;
+        }
+        Statement statement = resultSet.getStatement();
+        if (null != statement) {
+            statement.cancel();
+        }
+        close();
+    }
+    
+    /**
+     * Close query result.
+     *
+     * <p>
+     * Batch not fetched yet is canceled, and batch being fetched by executor is waited for until it is fetched.
+     * </p>
+     */
+    public void close() {
+        cancelNextBatch();
+        synchronized (this) {
+            closed = true;
+        }
+    }
+    
+    private void cancelNextBatch() {
+        FutureTask<MemoryQueryResult> batch = nextBatch;
+        nextBatch = null;
+        if (null != batch) {
+            batch.cancel(false);
+        }
+    }
+}
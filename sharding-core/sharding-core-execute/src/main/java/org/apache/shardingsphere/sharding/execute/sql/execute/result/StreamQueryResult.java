@@ -17,7 +17,8 @@
 
 package org.apache.shardingsphere.sharding.execute.sql.execute.result;
 
-import org.apache.shardingsphere.underlying.executor.QueryResult;
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.underlying.executor.CancelableQueryResult;
 
 import java.io.InputStream;
 import java.math.BigDecimal;
@@ -27,6 +28,7 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -34,12 +36,16 @@ import java.util.Calendar;
 /**
  * Query result for stream loading.
  */
-public final class StreamQueryResult implements QueryResult {
+public final class StreamQueryResult implements CancelableQueryResult {
     
     private final ResultSetMetaData resultSetMetaData;
     
     private final ResultSet resultSet;
     
+    private int fetchedRowCount;
+    
+    private boolean fetchedAll;
+    
     public StreamQueryResult(final ResultSet resultSet) throws SQLException {
         resultSetMetaData = resultSet.getMetaData();
         this.resultSet = resultSet;
@@ -47,7 +53,22 @@ public final class StreamQueryResult implements QueryResult {
     
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        boolean result = resultSet.next();
+        if (result) {
+            fetchedRowCount++;
+        } else {
+            fetchedAll = true;
+        }
+        return result;
+    }
+    
+    /**
+     * Get row count.
+     *
+     * @return row count, absent if rows are not fetched all yet
+     */
+    public Optional<Integer> getRowCount() {
+        return fetchedAll ? Optional.of(fetchedRowCount) : Optional.<Integer>absent();
     }
     
     @Override
@@ -135,4 +156,15 @@ public final class StreamQueryResult implements QueryResult {
     public boolean isCaseSensitive(final int columnIndex) throws SQLException {
         return resultSetMetaData.isCaseSensitive(columnIndex);
     }
+    
+    @Override
+    public void cancel() throws SQLException {
+        if (fetchedAll) {
+            return;
+        }
+        Statement statement = resultSet.getStatement();
+        if (null != statement) {
+            statement.cancel();
+        }
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.execute.sql.execute.result;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * String column of query result for memory loading.
+ *
+ * <p>
+ * Strings are dictionary encoded, every row only keeps code of its string.
+ * Once dictionary is full, new strings are appended without lookup, so that high cardinality column does not pay for dictionary.
+ * </p>
+ */
+final class StringMemoryQueryResultColumn extends MemoryQueryResultColumn {
+    
+    private static final int MAX_DICTIONARY_SIZE = 1 << 16;
+    
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    
+    private final List<String> dictionaryValues = new ArrayList<>();
+    
+    private int[] codes = new int[0];
+    
+    @Override
+    protected int getCapacity() {
+        return codes.length;
+    }
+    
+    @Override
+    protected void ensureCapacity(final int capacity) {
+        codes = Arrays.copyOf(codes, capacity);
+    }
+    
+    @Override
+    protected void setValue(final int rowIndex, final ResultSet resultSet, final int columnIndex) throws SQLException {
+        codes[rowIndex] = getCode(resultSet.getString(columnIndex));
+    }
+    
+    private int getCode(final String value) {
+        if (null == value) {
+            return -1;
+        }
+        Integer result = dictionary.get(value);
+        if (null != result) {
+            return result;
+        }
+        result = dictionaryValues.size();
+        dictionaryValues.add(value);
+        if (dictionary.size() < MAX_DICTIONARY_SIZE) {
+            dictionary.put(value, result);
+        }
+        return result;
+    }
+    
+    @Override
+    protected Object getValue(final int rowIndex) {
+        int code = codes[rowIndex];
+        return -1 == code ? null : dictionaryValues.get(code);
+    }
+}
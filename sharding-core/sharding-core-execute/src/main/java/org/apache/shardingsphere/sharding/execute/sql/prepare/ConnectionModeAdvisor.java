@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.execute.sql.prepare;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Connection mode advisor.
+ *
+ * <p>
+ * Row counts observed from previous executions of a logic SQL estimate result size of its SQL units on one data source.
+ * One average row count per SQL unit is kept for each logic SQL, so that a logic SQL routed to many shards takes one entry only.
+ * Logic SQL with parameters should be neither recorded nor advised, because its result size depends on parameters of each execution.
+ * </p>
+ *
+ * <p>
+ * If results are small enough to be buffered, less connections are used than max connections size per query,
+ * so that less connections are taken from connection pool for one query.
+ * Large or unknown results still stream on one connection per SQL unit, because buffering them on less connections holds all of their rows in memory.
+ * Connections already held for the data source are always used, because they are not taken from connection pool again.
+ * Utilization of connection pool is not consulted, because data sources are plain {@code javax.sql.DataSource} which expose no pool statistics.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class ConnectionModeAdvisor {
+    
+    private static final int MAX_OBSERVED_SQL_SIZE = 4096;
+    
+    private final int maxBufferedRowsPerConnection;
+    
+    private final Cache<String, Integer> observedRowCounts = CacheBuilder.newBuilder().maximumSize(MAX_OBSERVED_SQL_SIZE).build();
+    
+    /**
+     * Record observed row count of one SQL unit of logic SQL.
+     *
+     * @param logicSQL logic SQL
+     * @param rowCount observed row count of one SQL unit
+     */
+    public void record(final String logicSQL, final int rowCount) {
+        if (0 == maxBufferedRowsPerConnection || null == logicSQL) {
+            return;
+        }
+        ConcurrentMap<String, Integer> rowCounts = observedRowCounts.asMap();
+        while (true) {
+            Integer previousRowCount = rowCounts.putIfAbsent(logicSQL, rowCount);
+            if (null == previousRowCount || rowCounts.replace(logicSQL, previousRowCount, (previousRowCount + rowCount) / 2)) {
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Get connection size for SQL units of logic SQL on one data source.
+     *
+     * @param logicSQL logic SQL
+     * @param sqlUnitSize size of SQL units on the data source
+     * @param maxConnectionSize max connection size
+     * @param heldConnectionSize size of connections already held for the data source
+     * @return connection size, never larger than max connection size
+     */
+    public int getConnectionSize(final String logicSQL, final int sqlUnitSize, final int maxConnectionSize, final int heldConnectionSize) {
+        if (0 == maxBufferedRowsPerConnection || maxConnectionSize <= 1 || null == logicSQL) {
+            return maxConnectionSize;
+        }
+        Integer rowCount = observedRowCounts.getIfPresent(logicSQL);
+        if (null == rowCount) {
+            return maxConnectionSize;
+        }
+        long totalRowCount = (long) rowCount * sqlUnitSize;
+        int result = (int) Math.max(1L, Math.min(maxConnectionSize, (totalRowCount + maxBufferedRowsPerConnection - 1) / maxBufferedRowsPerConnection));
+        return Math.max(result, Math.min(maxConnectionSize, heldConnectionSize));
+    }
+}
@@ -42,6 +42,18 @@ public final class SQLExecutePrepareTemplate {
     
     private final int maxConnectionsSizePerQuery;
     
+    private final ConnectionModeAdvisor connectionModeAdvisor;
+    
+    private final String schemaName;
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery) {
+        this(maxConnectionsSizePerQuery, null);
+    }
+    
+    public SQLExecutePrepareTemplate(final int maxConnectionsSizePerQuery, final ConnectionModeAdvisor connectionModeAdvisor) {
+        this(maxConnectionsSizePerQuery, connectionModeAdvisor, null);
+    }
+    
     /**
      * Get execute unit groups.
      *
@@ -51,15 +63,29 @@ public final class SQLExecutePrepareTemplate {
      * @throws SQLException SQL exception
      */
     public Collection<InputGroup<StatementExecuteUnit>> getExecuteUnitGroups(final Collection<ExecutionUnit> executionUnits, final SQLExecutePrepareCallback callback) throws SQLException {
-        return getSynchronizedExecuteUnitGroups(executionUnits, callback);
+        return getExecuteUnitGroups(null, executionUnits, callback);
+    }
+    
+    /**
+     * Get execute unit groups.
+     *
+     * @param logicSQL logic SQL which connection mode advisor observes row counts of, null if not observed
+     * @param executionUnits execution units
+     * @param callback SQL execute prepare callback
+     * @return statement execute unit groups
+     * @throws SQLException SQL exception
+     */
+    public Collection<InputGroup<StatementExecuteUnit>> getExecuteUnitGroups(
+            final String logicSQL, final Collection<ExecutionUnit> executionUnits, final SQLExecutePrepareCallback callback) throws SQLException {
+        return getSynchronizedExecuteUnitGroups(logicSQL, executionUnits, callback);
     }
     
     private Collection<InputGroup<StatementExecuteUnit>> getSynchronizedExecuteUnitGroups(
-            final Collection<ExecutionUnit> executionUnits, final SQLExecutePrepareCallback callback) throws SQLException {
+            final String logicSQL, final Collection<ExecutionUnit> executionUnits, final SQLExecutePrepareCallback callback) throws SQLException {
         Map<String, List<SQLUnit>> sqlUnitGroups = getSQLUnitGroups(executionUnits);
         Collection<InputGroup<StatementExecuteUnit>> result = new LinkedList<>();
         for (Entry<String, List<SQLUnit>> entry : sqlUnitGroups.entrySet()) {
-            result.addAll(getSQLExecuteGroups(entry.getKey(), entry.getValue(), callback));
+            result.addAll(getSQLExecuteGroups(logicSQL, entry.getKey(), entry.getValue(), callback));
         }
         return result;
     }
@@ -75,12 +101,13 @@ public final class SQLExecutePrepareTemplate {
         return result;
     }
     
-    private List<InputGroup<StatementExecuteUnit>> getSQLExecuteGroups(final String dataSourceName,
+    private List<InputGroup<StatementExecuteUnit>> getSQLExecuteGroups(final String logicSQL, final String dataSourceName,
                                                                        final List<SQLUnit> sqlUnits, final SQLExecutePrepareCallback callback) throws SQLException {
         List<InputGroup<StatementExecuteUnit>> result = new LinkedList<>();
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+        int connectionSize = getConnectionSize(logicSQL, dataSourceName, sqlUnits, callback);
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         List<List<SQLUnit>> sqlUnitPartitions = Lists.partition(sqlUnits, desiredPartitionSize);
-        ConnectionMode connectionMode = maxConnectionsSizePerQuery < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+        ConnectionMode connectionMode = connectionSize < sqlUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
         List<Connection> connections = callback.getConnections(connectionMode, dataSourceName, sqlUnitPartitions.size());
         int count = 0;
         for (List<SQLUnit> each : sqlUnitPartitions) {
@@ -89,12 +116,21 @@ public final class SQLExecutePrepareTemplate {
         return result;
     }
     
+    private int getConnectionSize(final String logicSQL, final String dataSourceName, final List<SQLUnit> sqlUnits, final SQLExecutePrepareCallback callback) {
+        int result = Math.min(maxConnectionsSizePerQuery, sqlUnits.size());
+        return null == connectionModeAdvisor ? result : connectionModeAdvisor.getConnectionSize(logicSQL, sqlUnits.size(), result, getHeldConnectionSize(dataSourceName, callback));
+    }
+    
+    private int getHeldConnectionSize(final String dataSourceName, final SQLExecutePrepareCallback callback) {
+        return callback instanceof AdvisedSQLExecutePrepareCallback ? ((AdvisedSQLExecutePrepareCallback) callback).getHeldConnectionSize(dataSourceName) : 0;
+    }
+    
     private InputGroup<StatementExecuteUnit> getSQLExecuteGroup(final ConnectionMode connectionMode, final Connection connection,
                                                                 final String dataSourceName, final List<SQLUnit> sqlUnitGroup, final SQLExecutePrepareCallback callback) throws SQLException {
         List<StatementExecuteUnit> result = new LinkedList<>();
         for (SQLUnit each : sqlUnitGroup) {
             result.add(callback.createStatementExecuteUnit(connection, new ExecutionUnit(dataSourceName, each), connectionMode));
         }
-        return new InputGroup<>(result);
+        return new InputGroup<>(result, schemaName, dataSourceName);
     }
 }
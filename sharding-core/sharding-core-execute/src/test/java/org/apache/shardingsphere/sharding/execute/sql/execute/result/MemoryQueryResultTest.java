@@ -221,6 +221,37 @@ public final class MemoryQueryResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertGetValueByVarcharWithRepeatedValues() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.VARCHAR);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getString(1)).thenReturn("value", null, "value");
+        when(resultSet.wasNull()).thenReturn(false, true, false);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is((Object) "value"));
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, String.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, String.class), is((Object) "value"));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueBySignedBigIntWithNull() throws SQLException {
+        ResultSet resultSet = getMockedResultSet(Types.BIGINT);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getLong(1)).thenReturn(0L, 2L);
+        when(resultSet.wasNull()).thenReturn(true, false);
+        when(resultSet.getMetaData().isSigned(1)).thenReturn(true);
+        MemoryQueryResult actual = new MemoryQueryResult(resultSet);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, long.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, long.class), is((Object) 2L));
+        assertFalse(actual.next());
+    }
+    
     @Test
     public void assertGetValueByDate() throws SQLException {
         ResultSet resultSet = getMockedResultSet(Types.DATE);
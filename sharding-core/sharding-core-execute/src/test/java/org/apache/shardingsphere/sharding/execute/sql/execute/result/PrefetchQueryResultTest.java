@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.execute.sql.execute.result;
+
+import org.apache.shardingsphere.underlying.executor.engine.ExecutorEngine;
+import org.junit.After;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class PrefetchQueryResultTest {
+    
+    private final ExecutorEngine executorEngine = new ExecutorEngine(1);
+    
+    @After
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    @Test
+    public void assertNext() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2, 3);
+        PrefetchQueryResult actual = new PrefetchQueryResult(resultSet, executorEngine, 2);
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, int.class), is((Object) i));
+            assertFalse(actual.wasNull());
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertWasNull() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(0, 1);
+        when(resultSet.wasNull()).thenReturn(true, false);
+        PrefetchQueryResult actual = new PrefetchQueryResult(resultSet, executorEngine, 2);
+        assertTrue(actual.next());
+        assertNull(actual.getValue(1, int.class));
+        assertTrue(actual.wasNull());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, int.class), is((Object) 1));
+        assertFalse(actual.wasNull());
+    }
+    
+    @Test
+    public void assertNextWhenRowCountIsMultipleOfPrefetchRows() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2);
+        PrefetchQueryResult actual = new PrefetchQueryResult(resultSet, executorEngine, 2);
+        assertTrue(actual.next());
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertNextWithSQLException() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenThrow(new SQLException());
+        new PrefetchQueryResult(resultSet, executorEngine, 2).next();
+    }
+    
+    @Test
+    public void assertGetColumnCount() throws SQLException {
+        assertThat(new PrefetchQueryResult(getResultSet(), executorEngine, 2).getColumnCount(), is(1));
+    }
+    
+    @Test
+    public void assertGetColumnLabel() throws SQLException {
+        assertThat(new PrefetchQueryResult(getResultSet(), executorEngine, 2).getColumnLabel(1), is("order_id"));
+    }
+    
+    @Test
+    public void assertNextAfterClose() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2, 3);
+        PrefetchQueryResult actual = new PrefetchQueryResult(resultSet, executorEngine, 2);
+        actual.close();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCancel() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        PrefetchQueryResult actual = new PrefetchQueryResult(resultSet, executorEngine, 2);
+        actual.cancel();
+        verify(statement).cancel();
+        verify(statement, never()).close();
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCancelAfterFetchedAll() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        when(resultSet.next()).thenReturn(true, false);
+        PrefetchQueryResult actual = new PrefetchQueryResult(resultSet, executorEngine, 2);
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        actual.cancel();
+        verify(statement, never()).cancel();
+    }
+    
+    private ResultSet getResultSet() throws SQLException {
+        ResultSet result = mock(ResultSet.class);
+        ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
+        when(resultSetMetaData.getColumnCount()).thenReturn(1);
+        when(resultSetMetaData.getColumnLabel(1)).thenReturn("order_id");
+        when(resultSetMetaData.getColumnType(1)).thenReturn(Types.INTEGER);
+        when(resultSetMetaData.isSigned(1)).thenReturn(true);
+        when(result.getMetaData()).thenReturn(resultSetMetaData);
+        return result;
+    }
+}
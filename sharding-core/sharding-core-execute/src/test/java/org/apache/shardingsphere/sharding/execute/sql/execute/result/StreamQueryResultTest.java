@@ -27,6 +27,7 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
@@ -36,6 +37,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -255,6 +257,28 @@ public final class StreamQueryResultTest {
         assertThat(queryResult.getColumnLabel(1), Is.is("order_id"));
     }
     
+    @Test
+    public void assertCancel() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        new StreamQueryResult(resultSet).cancel();
+        verify(statement).cancel();
+        verify(statement, never()).close();
+    }
+    
+    @Test
+    public void assertCancelAfterFetchedAll() throws SQLException {
+        ResultSet resultSet = getResultSet();
+        Statement statement = mock(Statement.class);
+        when(resultSet.getStatement()).thenReturn(statement);
+        StreamQueryResult queryResult = new StreamQueryResult(resultSet);
+        assertTrue(queryResult.next());
+        assertFalse(queryResult.next());
+        queryResult.cancel();
+        verify(statement, never()).cancel();
+    }
+    
     private ResultSet getResultSet() throws SQLException {
         ResultSet resultSet = mock(ResultSet.class);
         when(resultSet.next()).thenReturn(true).thenReturn(false);
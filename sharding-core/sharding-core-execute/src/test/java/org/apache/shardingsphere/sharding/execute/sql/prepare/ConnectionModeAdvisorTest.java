@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.execute.sql.prepare;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ConnectionModeAdvisorTest {
+    
+    private static final String LOGIC_SQL = "SELECT * FROM t_order WHERE user_id = ?";
+    
+    @Test
+    public void assertGetConnectionSizeWhenDisabled() {
+        ConnectionModeAdvisor connectionModeAdvisor = new ConnectionModeAdvisor(0);
+        connectionModeAdvisor.record(LOGIC_SQL, 1);
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 2, 2, 0), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithoutObservedRowCount() {
+        ConnectionModeAdvisor connectionModeAdvisor = new ConnectionModeAdvisor(100);
+        connectionModeAdvisor.record("SELECT * FROM t_order", 1);
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 2, 2, 0), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithoutLogicSQL() {
+        ConnectionModeAdvisor connectionModeAdvisor = new ConnectionModeAdvisor(100);
+        connectionModeAdvisor.record(null, 1);
+        assertThat(connectionModeAdvisor.getConnectionSize(null, 2, 2, 0), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithSmallObservedRowCount() {
+        ConnectionModeAdvisor connectionModeAdvisor = new ConnectionModeAdvisor(100);
+        connectionModeAdvisor.record(LOGIC_SQL, 50);
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 2, 2, 0), is(1));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithLargeObservedRowCount() {
+        ConnectionModeAdvisor connectionModeAdvisor = new ConnectionModeAdvisor(100);
+        connectionModeAdvisor.record(LOGIC_SQL, 1000);
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 2, 2, 0), is(2));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeForManySQLUnits() {
+        ConnectionModeAdvisor connectionModeAdvisor = new ConnectionModeAdvisor(100);
+        connectionModeAdvisor.record(LOGIC_SQL, 10);
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 256, 8, 0), is(8));
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 32, 8, 0), is(4));
+    }
+    
+    @Test
+    public void assertGetConnectionSizeWithHeldConnections() {
+        ConnectionModeAdvisor connectionModeAdvisor = new ConnectionModeAdvisor(100);
+        connectionModeAdvisor.record(LOGIC_SQL, 1);
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 2, 2, 2), is(2));
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 2, 2, 5), is(2));
+    }
+    
+    @Test
+    public void assertRecordAveragesRowCount() {
+        ConnectionModeAdvisor connectionModeAdvisor = new ConnectionModeAdvisor(100);
+        connectionModeAdvisor.record(LOGIC_SQL, 1000);
+        connectionModeAdvisor.record(LOGIC_SQL, 0);
+        connectionModeAdvisor.record(LOGIC_SQL, 0);
+        connectionModeAdvisor.record(LOGIC_SQL, 0);
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 2, 2, 0), is(2));
+        connectionModeAdvisor.record(LOGIC_SQL, 0);
+        connectionModeAdvisor.record(LOGIC_SQL, 0);
+        assertThat(connectionModeAdvisor.getConnectionSize(LOGIC_SQL, 2, 2, 0), is(1));
+    }
+}
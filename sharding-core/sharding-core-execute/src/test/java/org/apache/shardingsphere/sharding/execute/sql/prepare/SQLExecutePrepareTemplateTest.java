@@ -31,6 +31,7 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
@@ -70,6 +71,21 @@ public final class SQLExecutePrepareTemplateTest {
         }
     }
     
+    @Test
+    public void assertGetExecuteUnitGroupForOneShardWithSmallObservedResults() throws SQLException {
+        mockConnections(callback, ConnectionMode.CONNECTION_STRICTLY, 1);
+        ConnectionModeAdvisor connectionModeAdvisor = new ConnectionModeAdvisor(100);
+        connectionModeAdvisor.record("SELECT * FROM t_order WHERE user_id = ?", 10);
+        Collection<ExecutionUnit> executionUnits = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            executionUnits.add(new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order_" + i + " WHERE user_id = ?", Collections.<Object>singletonList(1))));
+        }
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(4, connectionModeAdvisor);
+        Collection<InputGroup<StatementExecuteUnit>> actual = sqlExecutePrepareTemplate.getExecuteUnitGroups("SELECT * FROM t_order WHERE user_id = ?", executionUnits, callback);
+        assertThat(actual.size(), is(1));
+        assertThat(actual.iterator().next().getInputs().size(), is(4));
+    }
+    
     private void mockConnections(final SQLExecutePrepareCallback callback, final ConnectionMode connectionMode, final int size) throws SQLException {
         List<Connection> connections = new ArrayList<>(size);
         for (int i = 0; i < size; i++) {
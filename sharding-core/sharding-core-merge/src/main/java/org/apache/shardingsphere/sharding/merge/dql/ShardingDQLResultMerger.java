@@ -17,23 +17,25 @@
 
 package org.apache.shardingsphere.sharding.merge.dql;
 
-import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.merge.dql.distinct.DistinctDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupBySpillMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamSortMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.iterator.IteratorStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.LimitDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.RowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.pagination.TopAndRowNumberDecoratorMergedResult;
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
-import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.relation.metadata.RelationMetas;
-import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.sql.parser.relation.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
-import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.LimitValueSegment;
 import org.apache.shardingsphere.sql.parser.util.SQLUtil;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.merge.engine.merger.ResultMerger;
@@ -42,16 +44,33 @@ import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 import java.util.TreeMap;
 
 /**
  * DQL result merger for Sharding.
  */
-@RequiredArgsConstructor
 public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType databaseType;
     
+    private final int groupByMemoryMaxRows;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final boolean groupByStreamEnabled;
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType) {
+        this(databaseType, new ShardingSphereProperties(new Properties()));
+    }
+    
+    public ShardingDQLResultMerger(final DatabaseType databaseType, final ShardingSphereProperties properties) {
+        this.databaseType = databaseType;
+        groupByMemoryMaxRows = properties.<Integer>getValue(PropertiesConstant.SQL_MERGE_GROUP_BY_MEMORY_MAX_ROWS);
+        approximateDistinctCount = properties.<Boolean>getValue(PropertiesConstant.SQL_MERGE_APPROXIMATE_DISTINCT_COUNT_ENABLED);
+        groupByStreamEnabled = properties.<Boolean>getValue(PropertiesConstant.SQL_MERGE_GROUP_BY_STREAM_ENABLED);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext, final RelationMetas relationMetas) throws SQLException {
         if (1 == queryResults.size()) {
@@ -64,7 +83,14 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         return decorate(queryResults, selectStatementContext, mergedResult);
     }
     
-    private Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
+    /**
+     * Get map for column label and index.
+     *
+     * @param queryResult query result
+     * @return map for column label and index
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, Integer> getColumnLabelIndexMap(final QueryResult queryResult) throws SQLException {
         Map<String, Integer> result = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
         for (int i = queryResult.getColumnCount(); i > 0; i--) {
             result.put(SQLUtil.getExactlyValue(queryResult.getColumnLabel(i)), i);
@@ -74,14 +100,18 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult build(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final Map<String, Integer> columnLabelIndexMap) throws SQLException {
         if (isNeedProcessGroupBy(selectStatementContext)) {
+            if (groupByStreamEnabled && selectStatementContext.isGroupByItemsAsOrderByItemsAvailable()) {
+                return new GroupByStreamSortMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, getMaxRowCount(selectStatementContext), approximateDistinctCount);
+            }
             return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap);
         }
         if (isNeedProcessDistinctRow(selectStatementContext)) {
-            setGroupByForDistinctRow(selectStatementContext);
-            return getGroupByMergedResult(queryResults, selectStatementContext, columnLabelIndexMap);
+            MergedResult mergedResult = isNeedProcessOrderBy(selectStatementContext)
+                    ? new OrderByStreamMergedResult(queryResults, selectStatementContext.getOrderByContext().getItems()) : new IteratorStreamMergedResult(queryResults);
+            return new DistinctDecoratorMergedResult(mergedResult, selectStatementContext.getProjectionsContext().getColumnLabels().size());
         }
         if (isNeedProcessOrderBy(selectStatementContext)) {
-            return new OrderByStreamMergedResult(queryResults, selectStatementContext.getOrderByContext().getItems());
+            return new OrderByStreamMergedResult(queryResults, selectStatementContext.getOrderByContext().getItems(), getMaxRowCount(selectStatementContext));
         }
         return new IteratorStreamMergedResult(queryResults);
     }
@@ -94,24 +124,29 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         return selectStatementContext.getProjectionsContext().isDistinctRow();
     }
     
-    private void setGroupByForDistinctRow(final SelectStatementContext selectStatementContext) {
-        for (int index = 1; index <= selectStatementContext.getProjectionsContext().getColumnLabels().size(); index++) {
-            OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(-1, -1, index, OrderDirection.ASC, OrderDirection.ASC));
-            orderByItem.setIndex(index);
-            selectStatementContext.getGroupByContext().getItems().add(orderByItem);
-        }
-    }
-    
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults,
                                                 final SelectStatementContext selectStatementContext, final Map<String, Integer> columnLabelIndexMap) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext) : new GroupByMemoryMergedResult(queryResults, selectStatementContext);
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, approximateDistinctCount);
+        }
+        return groupByMemoryMaxRows > 0 ? new GroupBySpillMergedResult(queryResults, selectStatementContext, groupByMemoryMaxRows, approximateDistinctCount)
+                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, approximateDistinctCount);
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
         return !selectStatementContext.getOrderByContext().getItems().isEmpty();
     }
     
+    private long getMaxRowCount(final SelectStatementContext selectStatementContext) {
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (!paginationContext.isHasPagination() || !paginationContext.getActualRowCount().isPresent()) {
+            return 0L;
+        }
+        long result = paginationContext.getRowCountSegment().get() instanceof LimitValueSegment
+                ? paginationContext.getActualOffset() + paginationContext.getActualRowCount().get() : paginationContext.getActualRowCount().get();
+        return result < 0L ? 0L : result;
+    }
+    
     private MergedResult decorate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) throws SQLException {
         PaginationContext paginationContext = selectStatementContext.getPaginationContext();
         if (!paginationContext.isHasPagination() || 1 == queryResults.size()) {
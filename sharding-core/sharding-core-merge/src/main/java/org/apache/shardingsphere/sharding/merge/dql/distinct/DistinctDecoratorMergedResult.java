@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.distinct;
+
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.decorator.DecoratorMergedResult;
+
+import java.sql.SQLException;
+
+/**
+ * Decorator merged result for distinct row.
+ *
+ * <p>
+ * Every row is returned as soon as it is seen for the first time, rows seen before are skipped.
+ * Order of decorated merged result is kept.
+ * </p>
+ */
+public final class DistinctDecoratorMergedResult extends DecoratorMergedResult {
+    
+    private final int columnCount;
+    
+    private final DistinctRows distinctRows = new DistinctRows();
+    
+    public DistinctDecoratorMergedResult(final MergedResult mergedResult, final int columnCount) {
+        super(mergedResult);
+        this.columnCount = columnCount;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (getMergedResult().next()) {
+            if (distinctRows.add(getCurrentRow())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private Object[] getCurrentRow() throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = getMergedResult().getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.distinct;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.util.Arrays;
+
+/**
+ * Distinct rows.
+ *
+ * <p>
+ * Rows are kept in an open addressing hash table with their fingerprints,
+ * rows are compared only if fingerprints are equal, so that collisions of fingerprints never drop distinct rows.
+ * </p>
+ */
+final class DistinctRows {
+    
+    private static final int INITIAL_CAPACITY = 64;
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_32();
+    
+    private int[] fingerprints = new int[INITIAL_CAPACITY];
+    
+    private Object[][] rows = new Object[INITIAL_CAPACITY][];
+    
+    private int size;
+    
+    /**
+     * Add row if it is not present.
+     *
+     * @param row row
+     * @return row is added or not
+     */
+    boolean add(final Object[] row) {
+        int fingerprint = HASH_FUNCTION.hashInt(Arrays.hashCode(row)).asInt();
+        int mask = rows.length - 1;
+        int index = fingerprint & mask;
+        while (null != rows[index]) {
+            if (fingerprint == fingerprints[index] && Arrays.equals(row, rows[index])) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        fingerprints[index] = fingerprint;
+        rows[index] = row;
+        size++;
+        if (size << 1 > rows.length) {
+            resize();
+        }
+        return true;
+    }
+    
+    private void resize() {
+        int[] oldFingerprints = fingerprints;
+        Object[][] oldRows = rows;
+        fingerprints = new int[oldRows.length << 1];
+        rows = new Object[oldRows.length << 1][];
+        int mask = rows.length - 1;
+        for (int i = 0; i < oldRows.length; i++) {
+            if (null == oldRows[i]) {
+                continue;
+            }
+            int index = oldFingerprints[i] & mask;
+            while (null != rows[index]) {
+                index = (index + 1) & mask;
+            }
+            fingerprints[index] = oldFingerprints[i];
+            rows[index] = oldRows[i];
+        }
+    }
+    
+    /**
+     * Get count of distinct rows.
+     *
+     * @return count of distinct rows
+     */
+    int size() {
+        return size;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+
+/**
+ * Query result whose rows are combined by group by combiner.
+ */
+@RequiredArgsConstructor
+final class GroupByCombinedQueryResult implements QueryResult {
+    
+    @Getter
+    private final GroupByCombiner groupByCombiner;
+    
+    private final QueryResult metaDataQueryResult;
+    
+    @Override
+    public boolean next() {
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        throw new SQLException("Rows of query result are combined.");
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) throws SQLException {
+        throw new SQLException("Rows of query result are combined.");
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLException("Rows of query result are combined.");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return true;
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return metaDataQueryResult.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return metaDataQueryResult.getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) throws SQLException {
+        return metaDataQueryResult.isCaseSensitive(columnIndex);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.executor.combiner.QueryResultCombiner;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Combiner for group by.
+ *
+ * <p>
+ * Rows of each data node are aggregated by executor as soon as they are returned, instead of being loaded into memory until all data nodes are returned,
+ * so that memory is bounded by count of groups of each data node, which is at most count of groups multiplied by count of data nodes, rather than count of rows of all data nodes.
+ * Each query result is aggregated into its own partial aggregation without lock, partial aggregations are combined once when rows are sorted.
+ * Indexes of columns are kept by combiner instead of being set into shared select statement context by executor threads,
+ * the context is only changed by result merger on caller thread.
+ * </p>
+ */
+public final class GroupByCombiner implements QueryResultCombiner {
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final Collection<GroupByMemoryAggregation> partialAggregations = new ConcurrentLinkedQueue<>();
+    
+    private volatile boolean indexesInitialized;
+    
+    private List<Integer> groupByIndexes;
+    
+    private Map<AggregationProjection, Integer> aggregationIndexes;
+    
+    private volatile List<Boolean> valueCaseSensitive;
+    
+    public GroupByCombiner(final SelectStatementContext selectStatementContext) {
+        this(selectStatementContext, false);
+    }
+    
+    public GroupByCombiner(final SelectStatementContext selectStatementContext, final boolean approximateDistinctCount) {
+        this.selectStatementContext = selectStatementContext;
+        this.approximateDistinctCount = approximateDistinctCount;
+    }
+    
+    /**
+     * Judge whether query results can be combined.
+     *
+     * <p>
+     * Query results can be combined only if they would be merged by {@code GroupByMemoryMergedResult}.
+     * </p>
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param executionUnitCount count of execution units
+     * @param properties ShardingSphere properties
+     * @return query results can be combined or not
+     */
+    public static boolean isCombinable(final SQLStatementContext sqlStatementContext, final int executionUnitCount, final ShardingSphereProperties properties) {
+        if (executionUnitCount < 2 || !(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        if (selectStatementContext.getGroupByContext().getItems().isEmpty() && selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty()) {
+            return false;
+        }
+        if (properties.<Boolean>getValue(PropertiesConstant.SQL_MERGE_GROUP_BY_STREAM_ENABLED) && selectStatementContext.isGroupByItemsAsOrderByItemsAvailable()) {
+            return false;
+        }
+        return !selectStatementContext.isSameGroupByAndOrderByItems() && properties.<Integer>getValue(PropertiesConstant.SQL_MERGE_GROUP_BY_MEMORY_MAX_ROWS) <= 0;
+    }
+    
+    @Override
+    public QueryResult combine(final QueryResult queryResult) throws SQLException {
+        aggregate(Collections.singletonList(queryResult));
+        return new GroupByCombinedQueryResult(this, queryResult);
+    }
+    
+    private synchronized void initIndexes(final QueryResult queryResult) throws SQLException {
+        if (!indexesInitialized) {
+            Map<String, Integer> columnLabelIndexMap = ShardingDQLResultMerger.getColumnLabelIndexMap(queryResult);
+            groupByIndexes = selectStatementContext.getOrderByItemIndexes(columnLabelIndexMap, selectStatementContext.getGroupByContext().getItems());
+            aggregationIndexes = selectStatementContext.getAggregationProjectionIndexes(columnLabelIndexMap);
+            indexesInitialized = true;
+        }
+    }
+    
+    void aggregate(final List<QueryResult> queryResults) throws SQLException {
+        if (queryResults.isEmpty()) {
+            return;
+        }
+        if (!indexesInitialized) {
+            initIndexes(queryResults.get(0));
+        }
+        if (null == valueCaseSensitive) {
+            valueCaseSensitive = GroupByMemoryMergedResult.getValueCaseSensitive(queryResults.get(0));
+        }
+        GroupByMemoryAggregation partialAggregation = new GroupByMemoryAggregation(selectStatementContext, approximateDistinctCount, aggregationIndexes);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                partialAggregation.aggregate(each, new GroupByValue(each, groupByIndexes));
+            }
+        }
+        partialAggregations.add(partialAggregation);
+    }
+    
+    List<MemoryQueryResultRow> getSortedRows() {
+        Iterator<GroupByMemoryAggregation> iterator = partialAggregations.iterator();
+        if (!iterator.hasNext()) {
+            return Collections.emptyList();
+        }
+        GroupByMemoryAggregation memoryAggregation = iterator.next();
+        while (iterator.hasNext()) {
+            memoryAggregation.combine(iterator.next());
+        }
+        return memoryAggregation.getSortedRows(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.executor.combiner.QueryResultCombiner;
+import org.apache.shardingsphere.underlying.executor.combiner.QueryResultCombinerFactory;
+
+/**
+ * Combiner factory for group by.
+ */
+public final class GroupByCombinerFactory implements QueryResultCombinerFactory {
+    
+    @Override
+    public Optional<QueryResultCombiner> newInstance(final SQLStatementContext sqlStatementContext, final int executionUnitCount, final ShardingSphereProperties properties) {
+        if (!GroupByCombiner.isCombinable(sqlStatementContext, executionUnitCount, properties)) {
+            return Optional.absent();
+        }
+        boolean approximateDistinctCount = properties.<Boolean>getValue(PropertiesConstant.SQL_MERGE_APPROXIMATE_DISTINCT_COUNT_ENABLED);
+        return Optional.<QueryResultCombiner>of(new GroupByCombiner((SelectStatementContext) sqlStatementContext, approximateDistinctCount));
+    }
+}
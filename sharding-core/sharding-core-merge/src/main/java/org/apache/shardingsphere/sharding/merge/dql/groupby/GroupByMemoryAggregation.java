@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Group by aggregation in memory.
+ */
+public final class GroupByMemoryAggregation {
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+    
+    private final Map<AggregationProjection, Integer> aggregationIndexes;
+    
+    private final Map<GroupByValue, List<AggregationUnit>> aggregationMap = new HashMap<>(1024);
+    
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private final boolean approximateDistinctCount;
+    
+    public GroupByMemoryAggregation(final SelectStatementContext selectStatementContext) {
+        this(selectStatementContext, false);
+    }
+    
+    public GroupByMemoryAggregation(final SelectStatementContext selectStatementContext, final boolean approximateDistinctCount) {
+        this(selectStatementContext, approximateDistinctCount, null);
+    }
+    
+    public GroupByMemoryAggregation(final SelectStatementContext selectStatementContext, final boolean approximateDistinctCount, final Map<AggregationProjection, Integer> aggregationIndexes) {
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        this.approximateDistinctCount = approximateDistinctCount;
+        this.aggregationIndexes = aggregationIndexes;
+    }
+    
+    /**
+     * Judge whether group by value is aggregated.
+     *
+     * @param groupByValue group by value
+     * @return group by value is aggregated or not
+     */
+    public boolean contains(final GroupByValue groupByValue) {
+        return dataMap.containsKey(groupByValue);
+    }
+    
+    /**
+     * Get count of aggregated groups.
+     *
+     * @return count of aggregated groups
+     */
+    public int size() {
+        return dataMap.size();
+    }
+    
+    /**
+     * Aggregate current row of query result.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        initForFirstGroupByValue(queryResult, groupByValue);
+        Iterator<AggregationUnit> aggregationUnits = aggregationMap.get(groupByValue).iterator();
+        for (AggregationProjection each : aggregationProjections) {
+            aggregationValues.clear();
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                aggregationValues.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    aggregationValues.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationUnits.next().merge(aggregationValues);
+        }
+    }
+    
+    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        if (!dataMap.containsKey(groupByValue)) {
+            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+        }
+        if (!aggregationMap.containsKey(groupByValue)) {
+            List<AggregationUnit> aggregationUnits = new ArrayList<>(aggregationProjections.size());
+            for (AggregationProjection each : aggregationProjections) {
+                aggregationUnits.add(AggregationUnitFactory.create(each.getType(), each instanceof AggregationDistinctProjection, approximateDistinctCount));
+            }
+            aggregationMap.put(groupByValue, aggregationUnits);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        int index = null == aggregationIndexes ? aggregationProjection.getIndex() : aggregationIndexes.get(aggregationProjection);
+        Object result = queryResult.getValue(index, Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Combine groups aggregated by other group by aggregation of the same select statement.
+     *
+     * @param memoryAggregation group by aggregation to be combined
+     */
+    public void combine(final GroupByMemoryAggregation memoryAggregation) {
+        for (Entry<GroupByValue, List<AggregationUnit>> entry : memoryAggregation.aggregationMap.entrySet()) {
+            List<AggregationUnit> aggregationUnits = aggregationMap.get(entry.getKey());
+            if (null == aggregationUnits) {
+                dataMap.put(entry.getKey(), memoryAggregation.dataMap.get(entry.getKey()));
+                aggregationMap.put(entry.getKey(), entry.getValue());
+                continue;
+            }
+            for (int i = 0; i < aggregationUnits.size(); i++) {
+                aggregationUnits.get(i).combine(entry.getValue().get(i));
+            }
+        }
+    }
+    
+    /**
+     * Get aggregated rows in sorted order.
+     *
+     * @param comparator row comparator
+     * @return aggregated rows
+     */
+    public List<MemoryQueryResultRow> getSortedRows(final Comparator<MemoryQueryResultRow> comparator) {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            Iterator<AggregationUnit> aggregationUnits = aggregationMap.get(entry.getKey()).iterator();
+            for (AggregationProjection each : aggregationProjections) {
+                entry.getValue().setCell(each.getIndex(), aggregationUnits.next().getResult());
+            }
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
+        Collections.sort(result, comparator);
+        return result;
+    }
+}
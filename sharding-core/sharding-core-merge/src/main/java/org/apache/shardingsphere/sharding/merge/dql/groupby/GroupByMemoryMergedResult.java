@@ -17,107 +17,62 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.base.Function;
-import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
-import org.apache.shardingsphere.core.rule.ShardingRule;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
-import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
-import org.apache.shardingsphere.sql.parser.relation.metadata.RelationMetas;
-import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationDistinctProjection;
-import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
-import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
-import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryMergedResult;
-import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRows;
 
+import java.io.InputStream;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
+import java.util.Calendar;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Memory merged result for group by.
  */
-public final class GroupByMemoryMergedResult extends MemoryMergedResult<ShardingRule> {
+public final class GroupByMemoryMergedResult implements MergedResult {
     
-    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) throws SQLException {
-        super(null, null, selectStatementContext, queryResults);
-    }
+    private final MemoryQueryResultRows memoryQueryResultRows;
     
-    @Override
-    protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final RelationMetas relationMetas, 
-                                                    final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
-        Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
-        for (QueryResult each : queryResults) {
-            while (each.next()) {
-                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
-            }
-        }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
-        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.<Boolean>emptyList() : getValueCaseSensitive(queryResults.iterator().next());
-        return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) throws SQLException {
+        this(queryResults, selectStatementContext, false);
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                                          final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
-        }
-        if (!aggregationMap.containsKey(groupByValue)) {
-            Map<AggregationProjection, AggregationUnit> map = Maps.toMap(
-                    selectStatementContext.getProjectionsContext().getAggregationProjections(), new Function<AggregationProjection, AggregationUnit>() {
-                        
-                        @Override
-                        public AggregationUnit apply(final AggregationProjection input) {
-                            return AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection);
-                        }
-                    });
-            aggregationMap.put(groupByValue, map);
-        }
+    public GroupByMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final boolean approximateDistinctCount) throws SQLException {
+        GroupByCombiner groupByCombiner = getGroupByCombiner(queryResults, selectStatementContext, approximateDistinctCount);
+        groupByCombiner.aggregate(getUncombinedQueryResults(queryResults));
+        memoryQueryResultRows = new MemoryQueryResultRows(groupByCombiner.getSortedRows());
     }
     
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
+    private GroupByCombiner getGroupByCombiner(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final boolean approximateDistinctCount) {
+        for (QueryResult each : queryResults) {
+            if (each instanceof GroupByCombinedQueryResult) {
+                return ((GroupByCombinedQueryResult) each).getGroupByCombiner();
             }
-            aggregationMap.get(groupByValue).get(each).merge(values);
         }
+        return new GroupByCombiner(selectStatementContext, approximateDistinctCount);
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
-        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
-        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
-        return (Comparable<?>) result;
-    }
-    
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext, 
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
-        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+    private List<QueryResult> getUncombinedQueryResults(final List<QueryResult> queryResults) {
+        List<QueryResult> result = new ArrayList<>(queryResults.size());
+        for (QueryResult each : queryResults) {
+            if (!(each instanceof GroupByCombinedQueryResult)) {
+                result.add(each);
             }
         }
+        return result;
     }
     
-    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
+    /**
+     * Get value case sensitive of columns.
+     *
+     * @param queryResult query result
+     * @return value case sensitive of columns, first element is placeholder for column index 0
+     * @throws SQLException SQL exception
+     */
+    static List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
         List<Boolean> result = Lists.newArrayList(false);
         for (int columnIndex = 1; columnIndex <= queryResult.getColumnCount(); columnIndex++) {
             result.add(queryResult.isCaseSensitive(columnIndex));
@@ -125,10 +80,28 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
         return result;
     }
     
-    private List<MemoryQueryResultRow> getMemoryResultSetRows(final SelectStatementContext selectStatementContext, 
-                                                              final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
-        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
-        Collections.sort(result, new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
-        return result;
+    @Override
+    public boolean next() {
+        return memoryQueryResultRows.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return memoryQueryResultRows.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return memoryQueryResultRows.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return memoryQueryResultRows.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return memoryQueryResultRows.wasNull();
     }
 }
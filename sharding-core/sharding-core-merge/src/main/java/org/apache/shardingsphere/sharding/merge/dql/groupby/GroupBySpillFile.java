@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.AbstractIterator;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Temporary file for spilled rows of group by.
+ *
+ * <p>
+ * Rows are written in sequence and read back once, file is deleted after all rows are read or it is closed.
+ * </p>
+ */
+public final class GroupBySpillFile {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final File file;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private int rowCount;
+    
+    public GroupBySpillFile() throws SQLException {
+        try {
+            file = File.createTempFile("sharding-group-by-", ".spill");
+        } catch (final IOException ex) {
+            throw new SQLException("Can not create group by spill file.", ex);
+        }
+        try {
+            outputStream = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        } catch (final IOException ex) {
+            file.delete();
+            throw new SQLException("Can not create group by spill file.", ex);
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row values
+     * @throws SQLException SQL exception
+     */
+    public void write(final Object[] row) throws SQLException {
+        try {
+            outputStream.writeObject(row);
+            rowCount++;
+            if (0 == rowCount % RESET_INTERVAL) {
+                outputStream.reset();
+            }
+        } catch (final IOException ex) {
+            throw new SQLException("Can not write group by spill file, values of spilled rows must be serializable.", ex);
+        }
+    }
+    
+    /**
+     * Finish writing, so that file handle is not held until rows are read.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void finishWriting() throws SQLException {
+        if (null == outputStream) {
+            return;
+        }
+        try {
+            outputStream.close();
+        } catch (final IOException ex) {
+            throw new SQLException("Can not write group by spill file.", ex);
+        } finally {
+            outputStream = null;
+        }
+    }
+    
+    /**
+     * Read rows.
+     *
+     * <p>
+     * Writing is finished after read, and file is closed when returned iterator is exhausted.
+     * </p>
+     *
+     * @return rows
+     * @throws SQLException SQL exception
+     */
+    public Iterator<Object[]> read() throws SQLException {
+        finishWriting();
+        try {
+            inputStream = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+        } catch (final IOException ex) {
+            throw new SQLException("Can not read group by spill file.", ex);
+        }
+        return new AbstractIterator<Object[]>() {
+            
+            private int readCount;
+            
+            @Override
+            @SneakyThrows
+            protected Object[] computeNext() {
+                if (readCount == rowCount) {
+                    close();
+                    return endOfData();
+                }
+                readCount++;
+                return (Object[]) inputStream.readObject();
+            }
+        };
+    }
+    
+    /**
+     * Close streams and delete file.
+     */
+    public void close() {
+        closeQuietly(outputStream);
+        outputStream = null;
+        closeQuietly(inputStream);
+        inputStream = null;
+        file.delete();
+    }
+    
+    private void closeQuietly(final Closeable closeable) {
+        if (null == closeable) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (final IOException ignored) {
+        }
+    }
+}
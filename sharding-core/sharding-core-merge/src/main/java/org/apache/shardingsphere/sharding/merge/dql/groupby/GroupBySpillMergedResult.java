@@ -0,0 +1,231 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.CloseableMergedResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRows;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Merged result for group by which spills groups beyond memory limit into temporary files.
+ *
+ * <p>
+ * Groups within max memory rows are aggregated in memory, rows of other groups are partitioned into temporary files by hash of group by values.
+ * Every partition is aggregated again in the same way, and its aggregated rows are sorted and written into a temporary file as a sorted run.
+ * All sorted runs are merged when iterating, so that only one row of each run is held in memory.
+ * Sorted runs are merged into one temporary file once too many of them are open.
+ * All temporary files are deleted when this merged result is closed.
+ * </p>
+ */
+public final class GroupBySpillMergedResult implements CloseableMergedResult {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int MAX_SPILL_DEPTH = 4;
+    
+    private static final int MAX_OPEN_RUN_COUNT = 64;
+    
+    private static final HashFunction[] HASH_FUNCTIONS = createHashFunctions();
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int maxMemoryRows;
+    
+    private final boolean approximateDistinctCount;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private final MemoryQueryResultRows memoryQueryResultRows;
+    
+    private QueryResult metaDataQueryResult;
+    
+    private Comparator<MemoryQueryResultRow> rowComparator;
+    
+    public GroupBySpillMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, 
+                                    final int maxMemoryRows, final boolean approximateDistinctCount) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxMemoryRows = maxMemoryRows;
+        this.approximateDistinctCount = approximateDistinctCount;
+        memoryQueryResultRows = new MemoryQueryResultRows(queryResults.isEmpty() ? Collections.<MemoryQueryResultRow>emptyIterator() : init(queryResults));
+    }
+    
+    private static HashFunction[] createHashFunctions() {
+        HashFunction[] result = new HashFunction[MAX_SPILL_DEPTH];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = Hashing.murmur3_32(i);
+        }
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> init(final List<QueryResult> queryResults) throws SQLException {
+        metaDataQueryResult = queryResults.iterator().next();
+        rowComparator = new GroupByRowComparator(selectStatementContext, GroupByMemoryMergedResult.getValueCaseSensitive(metaDataQueryResult));
+        List<Iterator<MemoryQueryResultRow>> sortedRuns = new LinkedList<>();
+        boolean aggregated = false;
+        try {
+            aggregate(queryResults, 0, sortedRuns);
+            aggregated = true;
+        } finally {
+            if (!aggregated) {
+                close();
+            }
+        }
+        return mergeSortedRuns(sortedRuns);
+    }
+    
+    private Iterator<MemoryQueryResultRow> mergeSortedRuns(final List<Iterator<MemoryQueryResultRow>> sortedRuns) {
+        return 1 == sortedRuns.size() ? sortedRuns.get(0) : Iterators.mergeSorted(sortedRuns, rowComparator);
+    }
+    
+    private void aggregate(final Collection<QueryResult> queryResults, final int depth, final List<Iterator<MemoryQueryResultRow>> sortedRuns) throws SQLException {
+        GroupByMemoryAggregation memoryAggregation = new GroupByMemoryAggregation(selectStatementContext, approximateDistinctCount);
+        GroupBySpillFile[] partitions = null;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
+                if (depth >= MAX_SPILL_DEPTH || memoryAggregation.size() < maxMemoryRows || memoryAggregation.contains(groupByValue)) {
+                    memoryAggregation.aggregate(each, groupByValue);
+                    continue;
+                }
+                if (null == partitions) {
+                    partitions = new GroupBySpillFile[PARTITION_COUNT];
+                }
+                int partitionIndex = getPartitionIndex(groupByValue, depth);
+                if (null == partitions[partitionIndex]) {
+                    partitions[partitionIndex] = createSpillFile();
+                }
+                partitions[partitionIndex].write(getRow(each));
+            }
+        }
+        Iterator<MemoryQueryResultRow> memoryRows = memoryAggregation.getSortedRows(rowComparator).iterator();
+        addSortedRun(0 == depth ? memoryRows : writeSortedRun(memoryRows), sortedRuns);
+        if (null == partitions) {
+            return;
+        }
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                each.finishWriting();
+            }
+        }
+        for (GroupBySpillFile each : partitions) {
+            if (null != each) {
+                aggregate(Collections.<QueryResult>singletonList(new GroupBySpillQueryResult(each.read(), metaDataQueryResult)), depth + 1, sortedRuns);
+            }
+        }
+    }
+    
+    private GroupBySpillFile createSpillFile() throws SQLException {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int depth) {
+        return HASH_FUNCTIONS[depth].hashInt(groupByValue.hashCode()).asInt() & (PARTITION_COUNT - 1);
+    }
+    
+    private void addSortedRun(final Iterator<MemoryQueryResultRow> sortedRun, final List<Iterator<MemoryQueryResultRow>> sortedRuns) throws SQLException {
+        sortedRuns.add(sortedRun);
+        if (sortedRuns.size() < MAX_OPEN_RUN_COUNT) {
+            return;
+        }
+        Iterator<MemoryQueryResultRow> mergedRun = writeSortedRun(mergeSortedRuns(sortedRuns));
+        sortedRuns.clear();
+        sortedRuns.add(mergedRun);
+    }
+    
+    private Object[] getRow(final QueryResult queryResult) throws SQLException {
+        Object[] result = new Object[queryResult.getColumnCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private Iterator<MemoryQueryResultRow> writeSortedRun(final Iterator<MemoryQueryResultRow> rows) throws SQLException {
+        int columnCount = metaDataQueryResult.getColumnCount();
+        GroupBySpillFile sortedRun = createSpillFile();
+        while (rows.hasNext()) {
+            MemoryQueryResultRow memoryRow = rows.next();
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = memoryRow.getCell(i + 1);
+            }
+            sortedRun.write(row);
+        }
+        final QueryResult queryResult = new GroupBySpillQueryResult(sortedRun.read(), metaDataQueryResult);
+        return new AbstractIterator<MemoryQueryResultRow>() {
+            
+            @Override
+            @SneakyThrows
+            protected MemoryQueryResultRow computeNext() {
+                return queryResult.next() ? new MemoryQueryResultRow(queryResult) : endOfData();
+            }
+        };
+    }
+    
+    @Override
+    public boolean next() {
+        return memoryQueryResultRows.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return memoryQueryResultRows.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return memoryQueryResultRows.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return memoryQueryResultRows.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return memoryQueryResultRows.wasNull();
+    }
+    
+    @Override
+    public void close() {
+        for (GroupBySpillFile each : spillFiles) {
+            each.close();
+        }
+        spillFiles.clear();
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Calendar;
+import java.util.Iterator;
+
+/**
+ * Query result for spilled rows of group by.
+ */
+@RequiredArgsConstructor
+public final class GroupBySpillQueryResult implements QueryResult {
+    
+    private final Iterator<Object[]> rows;
+    
+    private final QueryResult metaDataQueryResult;
+    
+    private Object[] currentRow;
+    
+    private boolean wasNull;
+    
+    @Override
+    public boolean next() {
+        if (rows.hasNext()) {
+            currentRow = rows.next();
+            return true;
+        }
+        return false;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) {
+        Object result = currentRow[columnIndex - 1];
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return getValue(columnIndex, type);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public int getColumnCount() throws SQLException {
+        return metaDataQueryResult.getColumnCount();
+    }
+    
+    @Override
+    public String getColumnLabel(final int columnIndex) throws SQLException {
+        return metaDataQueryResult.getColumnLabel(columnIndex);
+    }
+    
+    @Override
+    public boolean isCaseSensitive(final int columnIndex) throws SQLException {
+        return metaDataQueryResult.isCaseSensitive(columnIndex);
+    }
+}
@@ -23,6 +23,7 @@ import com.google.common.collect.Maps;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
@@ -31,6 +32,7 @@ import org.apache.shardingsphere.underlying.executor.QueryResult;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -45,21 +47,36 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final List<Object> currentRow;
     
+    private final List<Comparable<?>> aggregationValues = new ArrayList<>(2);
+    
+    private final boolean approximateDistinctCount;
+    
     private List<?> currentGroupByValues;
     
     public GroupByStreamMergedResult(
             final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) throws SQLException {
-        super(queryResults, selectStatementContext.getOrderByContext().getItems());
+        this(labelAndIndexMap, queryResults, selectStatementContext, false);
+    }
+    
+    public GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                     final SelectStatementContext selectStatementContext, final boolean approximateDistinctCount) throws SQLException {
+        this(labelAndIndexMap, queryResults, selectStatementContext, selectStatementContext.getOrderByContext().getItems(), approximateDistinctCount);
+    }
+    
+    GroupByStreamMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, 
+                              final Collection<OrderByItem> orderByItems, final boolean approximateDistinctCount) throws SQLException {
+        super(queryResults, orderByItems);
         this.selectStatementContext = selectStatementContext;
+        this.approximateDistinctCount = approximateDistinctCount;
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        currentGroupByValues = getOrderByValueLoserTree().isEmpty()
                 ? Collections.emptyList() : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
     
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValueLoserTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -78,7 +95,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                     
                     @Override
                     public AggregationUnit apply(final AggregationProjection input) {
-                        return AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection);
+                        return AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection, approximateDistinctCount);
                     }
                 });
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
@@ -95,15 +112,15 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) throws SQLException {
         for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
+            aggregationValues.clear();
             if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
+                aggregationValues.add(getAggregationValue(entry.getKey()));
             } else {
                 for (AggregationProjection each : entry.getKey().getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(each));
+                    aggregationValues.add(getAggregationValue(each));
                 }
             }
-            entry.getValue().merge(values);
+            entry.getValue().merge(aggregationValues);
         }
     }
     
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.underlying.merge.result.impl.memory.MemoryQueryResultRows;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Merged result for group by which merges groups in stream and sorts aggregated groups by order by items.
+ *
+ * <p>
+ * Query results must be sorted by group by items instead of order by items, so that every group is aggregated in stream,
+ * and only aggregated groups are sorted in memory. If max row count is positive, only top max row count groups are kept with a bounded heap.
+ * </p>
+ */
+public final class GroupByStreamSortMergedResult implements MergedResult {
+    
+    private final MemoryQueryResultRows memoryQueryResultRows;
+    
+    public GroupByStreamSortMergedResult(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                         final SelectStatementContext selectStatementContext, final long maxRowCount, final boolean approximateDistinctCount) throws SQLException {
+        memoryQueryResultRows = new MemoryQueryResultRows(queryResults.isEmpty() ? Collections.<MemoryQueryResultRow>emptyIterator()
+                : getSortedRows(labelAndIndexMap, queryResults, selectStatementContext, maxRowCount, approximateDistinctCount).iterator());
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows(final Map<String, Integer> labelAndIndexMap, final List<QueryResult> queryResults, 
+                                                     final SelectStatementContext selectStatementContext, final long maxRowCount, final boolean approximateDistinctCount) throws SQLException {
+        QueryResult metaDataQueryResult = queryResults.get(0);
+        Comparator<MemoryQueryResultRow> rowComparator = new GroupByRowComparator(selectStatementContext, GroupByMemoryMergedResult.getValueCaseSensitive(metaDataQueryResult));
+        MergedResult groups = new GroupByStreamMergedResult(
+                labelAndIndexMap, queryResults, selectStatementContext, selectStatementContext.getGroupByContext().getItems(), approximateDistinctCount);
+        int columnCount = metaDataQueryResult.getColumnCount();
+        List<MemoryQueryResultRow> result = maxRowCount > 0L && maxRowCount < Integer.MAX_VALUE
+                ? getTopRows(groups, columnCount, rowComparator, (int) maxRowCount) : getAllRows(groups, columnCount);
+        Collections.sort(result, rowComparator);
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getTopRows(final MergedResult groups, final int columnCount, final Comparator<MemoryQueryResultRow> rowComparator, final int maxRowCount) throws SQLException {
+        PriorityQueue<MemoryQueryResultRow> topRows = new PriorityQueue<>(maxRowCount, Collections.reverseOrder(rowComparator));
+        while (groups.next()) {
+            MemoryQueryResultRow row = new MemoryQueryResultRow(groups, columnCount);
+            if (topRows.size() < maxRowCount) {
+                topRows.offer(row);
+            } else if (rowComparator.compare(row, topRows.peek()) < 0) {
+                topRows.poll();
+                topRows.offer(row);
+            }
+        }
+        return new ArrayList<>(topRows);
+    }
+    
+    private List<MemoryQueryResultRow> getAllRows(final MergedResult groups, final int columnCount) throws SQLException {
+        List<MemoryQueryResultRow> result = new ArrayList<>();
+        while (groups.next()) {
+            result.add(new MemoryQueryResultRow(groups, columnCount));
+        }
+        return result;
+    }
+    
+    @Override
+    public boolean next() {
+        return memoryQueryResultRows.next();
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        return memoryQueryResultRows.getValue(columnIndex, type);
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        return memoryQueryResultRows.getCalendarValue(columnIndex, type, calendar);
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        return memoryQueryResultRows.getInputStream(columnIndex, type);
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return memoryQueryResultRows.wasNull();
+    }
+}
@@ -40,6 +40,14 @@ public final class GroupByValue {
         groupValues = getGroupByValues(queryResult, groupByItems);
     }
     
+    public GroupByValue(final QueryResult queryResult, final List<Integer> groupByIndexes) throws SQLException {
+        List<Object> values = new ArrayList<>(groupByIndexes.size());
+        for (int each : groupByIndexes) {
+            values.add(queryResult.getValue(each, Object.class));
+        }
+        groupValues = values;
+    }
+    
     private List<?> getGroupByValues(final QueryResult queryResult, final Collection<OrderByItem> groupByItems) throws SQLException {
         List<Object> result = new ArrayList<>(groupByItems.size());
         for (OrderByItem each : groupByItems) {
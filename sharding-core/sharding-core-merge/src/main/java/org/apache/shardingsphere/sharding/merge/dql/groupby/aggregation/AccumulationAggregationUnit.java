@@ -19,7 +19,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -28,21 +27,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private final DecimalAccumulator accumulator = new DecimalAccumulator();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0)) {
             return;
         }
-        if (null == result) {
-            result = new BigDecimal("0");
-        }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        accumulator.add(values.get(0));
+    }
+    
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        accumulator.add(((AccumulationAggregationUnit) aggregationUnit).accumulator);
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return accumulator.getResult();
     }
 }
@@ -27,10 +27,21 @@ public interface AggregationUnit {
     /**
      * merge aggregation values.
      * 
+     * <p>
+     * Values may be reused by caller for next row, so aggregation unit should not keep reference of values.
+     * </p>
+     * 
      * @param values aggregation values
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Combine aggregation unit of the same type, which aggregates values of other rows.
+     * 
+     * @param aggregationUnit aggregation unit to be combined
+     */
+    void combine(AggregationUnit aggregationUnit);
+    
     /**
      * Get aggregation result.
      * 
@@ -35,6 +35,18 @@ public final class AggregationUnitFactory {
      * @return aggregation unit instance
      */
     public static AggregationUnit create(final AggregationType type, final boolean isDistinct) {
+        return create(type, isDistinct, false);
+    }
+    
+    /**
+     * Create aggregation unit instance.
+     *
+     * @param type aggregation function type
+     * @param isDistinct is distinct
+     * @param isApproximateDistinctCount is approximate distinct count
+     * @return aggregation unit instance
+     */
+    public static AggregationUnit create(final AggregationType type, final boolean isDistinct, final boolean isApproximateDistinctCount) {
         switch (type) {
             case MAX:
                 return new ComparableAggregationUnit(false);
@@ -43,7 +55,10 @@ public final class AggregationUnitFactory {
             case SUM:
                 return isDistinct ? new DistinctSumAggregationUnit() : new AccumulationAggregationUnit();
             case COUNT:
-                return isDistinct ? new DistinctCountAggregationUnit() : new AccumulationAggregationUnit();
+                if (isDistinct) {
+                    return isApproximateDistinctCount ? new HyperLogLogDistinctCountAggregationUnit() : new DistinctCountAggregationUnit();
+                }
+                return new AccumulationAggregationUnit();
             case AVG:
                 return isDistinct ? new DistinctAverageAggregationUnit() : new AverageAggregationUnit();
             default:
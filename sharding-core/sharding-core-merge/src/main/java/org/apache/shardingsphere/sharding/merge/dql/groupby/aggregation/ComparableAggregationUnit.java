@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -47,6 +48,11 @@ public final class ComparableAggregationUnit implements AggregationUnit {
         }
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        merge(Collections.<Comparable<?>>singletonList(((ComparableAggregationUnit) aggregationUnit).result));
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Decimal accumulator.
+ *
+ * <p>
+ * Integral values are accumulated into long, and moved into big decimal only when long overflows,
+ * so that accumulating count or integral sum does not allocate for each value.
+ * </p>
+ */
+final class DecimalAccumulator {
+    
+    private long integralSum;
+    
+    private BigDecimal decimalSum;
+    
+    private boolean accumulated;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added
+     */
+    void add(final Comparable<?> value) {
+        accumulated = true;
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            addIntegral(((Number) value).longValue());
+        } else {
+            BigDecimal decimalValue = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+            decimalSum = null == decimalSum ? decimalValue : decimalSum.add(decimalValue);
+        }
+    }
+    
+    /**
+     * Add accumulated result of other accumulator.
+     *
+     * @param accumulator accumulator to be added
+     */
+    void add(final DecimalAccumulator accumulator) {
+        if (accumulator.accumulated) {
+            add(accumulator.getResult());
+        }
+    }
+    
+    private void addIntegral(final long value) {
+        long result = integralSum + value;
+        if (((integralSum ^ result) & (value ^ result)) < 0) {
+            BigDecimal overflowSum = BigDecimal.valueOf(integralSum).add(BigDecimal.valueOf(value));
+            decimalSum = null == decimalSum ? overflowSum : decimalSum.add(overflowSum);
+            integralSum = 0L;
+            return;
+        }
+        integralSum = result;
+    }
+    
+    /**
+     * Get accumulated result.
+     *
+     * @return accumulated result, null if no value added
+     */
+    BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        return null == decimalSum ? BigDecimal.valueOf(integralSum) : decimalSum.add(BigDecimal.valueOf(integralSum));
+    }
+}
@@ -20,9 +20,10 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 import lombok.RequiredArgsConstructor;
 
 import java.math.BigDecimal;
-import java.util.Collection;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Distinct average aggregation unit.
@@ -34,24 +35,35 @@ public final class DistinctAverageAggregationUnit implements AggregationUnit {
     
     private BigDecimal sum;
     
-    private Collection<Comparable<?>> countValues = new LinkedHashSet<>();
-    
-    private Collection<Comparable<?>> sumValues = new LinkedHashSet<>();
+    private Map<Comparable<?>, Comparable<?>> values = new LinkedHashMap<>();
     
     @Override
     public void merge(final List<Comparable<?>> values) {
         if (null == values || null == values.get(0) || null == values.get(1)) {
             return;
         }
-        if (this.countValues.add(values.get(0)) && this.sumValues.add(values.get(0))) {
-            if (null == count) {
-                count = new BigDecimal("0");
-            }
-            if (null == sum) {
-                sum = new BigDecimal("0");
-            }
-            count = count.add(new BigDecimal(values.get(0).toString()));
-            sum = sum.add(new BigDecimal(values.get(1).toString()));
+        merge(values.get(0), values.get(1));
+    }
+    
+    private void merge(final Comparable<?> countValue, final Comparable<?> sumValue) {
+        if (values.containsKey(countValue)) {
+            return;
+        }
+        values.put(countValue, sumValue);
+        if (null == count) {
+            count = new BigDecimal("0");
+        }
+        if (null == sum) {
+            sum = new BigDecimal("0");
+        }
+        count = count.add(new BigDecimal(countValue.toString()));
+        sum = sum.add(new BigDecimal(sumValue.toString()));
+    }
+    
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        for (Entry<Comparable<?>, Comparable<?>> entry : ((DistinctAverageAggregationUnit) aggregationUnit).values.entrySet()) {
+            merge(entry.getKey(), entry.getValue());
         }
     }
     
@@ -19,7 +19,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
@@ -30,7 +29,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class DistinctSumAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private final DecimalAccumulator accumulator = new DecimalAccumulator();
     
     private Collection<Comparable<?>> values = new HashSet<>();
     
@@ -40,15 +39,21 @@ public final class DistinctSumAggregationUnit implements AggregationUnit {
             return;
         }
         if (this.values.add(values.get(0))) {
-            if (null == result) {
-                result = new BigDecimal("0");
+            accumulator.add(values.get(0));
+        }
+    }
+    
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        for (Comparable<?> each : ((DistinctSumAggregationUnit) aggregationUnit).values) {
+            if (values.add(each)) {
+                accumulator.add(each);
             }
-            result = result.add(new BigDecimal(values.get(0).toString()));
         }
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return accumulator.getResult();
     }
 }
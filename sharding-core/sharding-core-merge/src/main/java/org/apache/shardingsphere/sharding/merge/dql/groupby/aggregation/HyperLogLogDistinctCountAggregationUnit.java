@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.util.List;
+
+/**
+ * Approximate distinct count aggregation unit with HyperLogLog.
+ *
+ * <p>
+ * Hashes of distinct values are kept exactly while there are only a few of them,
+ * and folded into 4096 registers of HyperLogLog afterwards, whose standard error is about 1.6%.
+ * </p>
+ */
+public final class HyperLogLogDistinctCountAggregationUnit implements AggregationUnit {
+    
+    private static final int PRECISION = 12;
+    
+    private static final int REGISTER_COUNT = 1 << PRECISION;
+    
+    private static final int SPARSE_CAPACITY = 64;
+    
+    private static final HashFunction HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private long[] sparseHashes = new long[SPARSE_CAPACITY];
+    
+    private int sparseSize;
+    
+    private byte[] registers;
+    
+    @Override
+    public void merge(final List<Comparable<?>> values) {
+        if (null == values || null == values.get(0)) {
+            return;
+        }
+        add(hash(values.get(0)));
+    }
+    
+    private void add(final long hash) {
+        if (null != registers) {
+            addToRegisters(hash);
+            return;
+        }
+        for (int i = 0; i < sparseSize; i++) {
+            if (hash == sparseHashes[i]) {
+                return;
+            }
+        }
+        if (sparseSize < SPARSE_CAPACITY) {
+            sparseHashes[sparseSize++] = hash;
+            return;
+        }
+        registers = new byte[REGISTER_COUNT];
+        for (long each : sparseHashes) {
+            addToRegisters(each);
+        }
+        sparseHashes = null;
+        addToRegisters(hash);
+    }
+    
+    private long hash(final Comparable<?> value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return HASH_FUNCTION.hashLong(((Number) value).longValue()).asLong();
+        }
+        return HASH_FUNCTION.hashUnencodedChars(value.toString()).asLong();
+    }
+    
+    private void addToRegisters(final long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        byte rank = (byte) (Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1);
+        if (rank > registers[index]) {
+            registers[index] = rank;
+        }
+    }
+    
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        HyperLogLogDistinctCountAggregationUnit other = (HyperLogLogDistinctCountAggregationUnit) aggregationUnit;
+        if (null == other.registers) {
+            for (int i = 0; i < other.sparseSize; i++) {
+                add(other.sparseHashes[i]);
+            }
+            return;
+        }
+        if (null == registers) {
+            registers = new byte[REGISTER_COUNT];
+            for (int i = 0; i < sparseSize; i++) {
+                addToRegisters(sparseHashes[i]);
+            }
+            sparseHashes = null;
+        }
+        for (int i = 0; i < REGISTER_COUNT; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult() {
+        if (null == registers) {
+            return sparseSize;
+        }
+        double sum = 0;
+        int zeroRegisterCount = 0;
+        for (byte each : registers) {
+            sum += 1.0D / (1L << each);
+            if (0 == each) {
+                zeroRegisterCount++;
+            }
+        }
+        double estimate = 0.7213D / (1 + 1.079D / REGISTER_COUNT) * REGISTER_COUNT * REGISTER_COUNT / sum;
+        if (estimate <= 2.5D * REGISTER_COUNT && 0 != zeroRegisterCount) {
+            estimate = REGISTER_COUNT * Math.log((double) REGISTER_COUNT / zeroRegisterCount);
+        }
+        return (int) Math.round(estimate);
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics of order by stream merge.
+ *
+ * <p>
+ * Skipped rows of a canceled query result are rows it could still return within max row count, which the query result is no longer fetched for.
+ * </p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class OrderByStreamMergeStatistics {
+    
+    private static final OrderByStreamMergeStatistics INSTANCE = new OrderByStreamMergeStatistics();
+    
+    private final AtomicLong canceledQueryResultCount = new AtomicLong();
+    
+    private final AtomicLong skippedRowCount = new AtomicLong();
+    
+    /**
+     * Get instance of order by stream merge statistics.
+     *
+     * @return instance of order by stream merge statistics
+     */
+    public static OrderByStreamMergeStatistics getInstance() {
+        return INSTANCE;
+    }
+    
+    void recordCanceledQueryResult(final long skippedRowCount) {
+        canceledQueryResultCount.incrementAndGet();
+        this.skippedRowCount.addAndGet(skippedRowCount);
+    }
+    
+    /**
+     * Get count of canceled query results.
+     *
+     * @return count of canceled query results
+     */
+    public long getCanceledQueryResultCount() {
+        return canceledQueryResultCount.get();
+    }
+    
+    /**
+     * Get count of skipped rows.
+     *
+     * @return count of skipped rows
+     */
+    public long getSkippedRowCount() {
+        return skippedRowCount.get();
+    }
+}
@@ -19,63 +19,161 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.underlying.executor.CancelableQueryResult;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.merge.result.impl.stream.StreamMergedResult;
 import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
-import java.util.PriorityQueue;
-import java.util.Queue;
 
 /**
  * Stream merged result for order by.
+ *
+ * <p>
+ * If max row count is positive, query results which can not provide any row within max row count are canceled,
+ * that is, when other query results have at least as many current rows ordered before its current row as rows still needed.
+ * Current rows of other query results are kept in order once they are more than rows still needed,
+ * so that each row only moves the previous first query result in the order instead of sorting all of them again.
+ * </p>
  */
+@Slf4j
 public class OrderByStreamMergedResult extends StreamMergedResult {
     
     private final Collection<OrderByItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
-    private final Queue<OrderByValue> orderByValuesQueue;
+    private final OrderByValueLoserTree orderByValueLoserTree;
     
     @Getter(AccessLevel.PROTECTED)
     private boolean isFirstNext;
     
+    private final long maxRowCount;
+    
+    private long rowCount;
+    
+    private List<OrderByValue> orderedCandidates;
+    
+    private OrderByValue previousFirst;
+    
+    @Getter
+    private int canceledQueryResultCount;
+    
+    @Getter
+    private long skippedRowCount;
+    
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final Collection<OrderByItem> orderByItems) throws SQLException {
+        this(queryResults, orderByItems, 0L);
+    }
+    
+    public OrderByStreamMergedResult(final List<QueryResult> queryResults, final Collection<OrderByItem> orderByItems, final long maxRowCount) throws SQLException {
         this.orderByItems = orderByItems;
-        this.orderByValuesQueue = new PriorityQueue<>(queryResults.size());
-        orderResultSetsToQueue(queryResults);
+        this.maxRowCount = maxRowCount;
+        orderByValueLoserTree = new OrderByValueLoserTree(getOrderByValues(queryResults));
+        setCurrentQueryResult(orderByValueLoserTree.isEmpty() ? queryResults.get(0) : orderByValueLoserTree.peek().getQueryResult());
         isFirstNext = true;
     }
     
-    private void orderResultSetsToQueue(final List<QueryResult> queryResults) throws SQLException {
+    private List<OrderByValue> getOrderByValues(final List<QueryResult> queryResults) throws SQLException {
+        List<OrderByValue> result = new ArrayList<>(queryResults.size());
         for (QueryResult each : queryResults) {
             OrderByValue orderByValue = new OrderByValue(each, orderByItems);
             if (orderByValue.next()) {
-                orderByValuesQueue.offer(orderByValue);
+                result.add(orderByValue);
             }
         }
-        setCurrentQueryResult(orderByValuesQueue.isEmpty() ? queryResults.get(0) : orderByValuesQueue.peek().getQueryResult());
+        return result;
     }
     
     @Override
     public boolean next() throws SQLException {
-        if (orderByValuesQueue.isEmpty()) {
+        if (orderByValueLoserTree.isEmpty()) {
             return false;
         }
         if (isFirstNext) {
             isFirstNext = false;
+            rowCount++;
+            cancelQueryResultsBeyondMaxRowCount(true);
             return true;
         }
-        OrderByValue firstOrderByValue = orderByValuesQueue.poll();
-        if (firstOrderByValue.next()) {
-            orderByValuesQueue.offer(firstOrderByValue);
-        }
-        if (orderByValuesQueue.isEmpty()) {
+        boolean firstHasNext = orderByValueLoserTree.peek().next();
+        orderByValueLoserTree.replayFirst(firstHasNext);
+        if (orderByValueLoserTree.isEmpty()) {
             return false;
         }
-        setCurrentQueryResult(orderByValuesQueue.peek().getQueryResult());
+        setCurrentQueryResult(orderByValueLoserTree.peek().getQueryResult());
+        rowCount++;
+        cancelQueryResultsBeyondMaxRowCount(firstHasNext);
         return true;
     }
+    
+    private void cancelQueryResultsBeyondMaxRowCount(final boolean previousFirstHasNext) {
+        if (maxRowCount <= 0L) {
+            return;
+        }
+        long remainingRowCount = maxRowCount - rowCount;
+        OrderByValue currentFirst = orderByValueLoserTree.peek();
+        if (null == orderedCandidates) {
+            if (orderByValueLoserTree.size() - 1 <= remainingRowCount) {
+                previousFirst = currentFirst;
+                return;
+            }
+            orderedCandidates = orderByValueLoserTree.getOrderByValues();
+            orderedCandidates.remove(currentFirst);
+            Collections.sort(orderedCandidates);
+        } else if (currentFirst != previousFirst) {
+            orderedCandidates.remove(currentFirst);
+            if (previousFirstHasNext) {
+                int index = Collections.binarySearch(orderedCandidates, previousFirst);
+                orderedCandidates.add(index < 0 ? -index - 1 : index, previousFirst);
+            }
+        }
+        previousFirst = currentFirst;
+        List<OrderByValue> canceledOrderByValues = getOrderByValuesBeyondRemainingRowCount(remainingRowCount);
+        if (canceledOrderByValues.isEmpty()) {
+            return;
+        }
+        for (OrderByValue each : canceledOrderByValues) {
+            cancel(each);
+        }
+        orderByValueLoserTree.removeAll(canceledOrderByValues);
+        log.debug("Canceled {} query results beyond max row count {}, total canceled: {}, total skipped rows: {}.", 
+                canceledOrderByValues.size(), maxRowCount, canceledQueryResultCount, skippedRowCount);
+    }
+    
+    private List<OrderByValue> getOrderByValuesBeyondRemainingRowCount(final long remainingRowCount) {
+        int end = orderedCandidates.size();
+        while (end > 0) {
+            int start = end - 1;
+            while (start > 0 && 0 == orderedCandidates.get(start - 1).compareTo(orderedCandidates.get(end - 1))) {
+                start--;
+            }
+            if (start < remainingRowCount) {
+                break;
+            }
+            end = start;
+        }
+        List<OrderByValue> beyondRemainingRowCount = orderedCandidates.subList(end, orderedCandidates.size());
+        List<OrderByValue> result = new ArrayList<>(beyondRemainingRowCount);
+        beyondRemainingRowCount.clear();
+        return result;
+    }
+    
+    private void cancel(final OrderByValue orderByValue) {
+        long skippedRows = Math.max(maxRowCount - orderByValue.getRowCount(), 0L);
+        canceledQueryResultCount++;
+        skippedRowCount += skippedRows;
+        OrderByStreamMergeStatistics.getInstance().recordCanceledQueryResult(skippedRows);
+        if (orderByValue.getQueryResult() instanceof CancelableQueryResult) {
+            try {
+                ((CancelableQueryResult) orderByValue.getQueryResult()).cancel();
+            } catch (final SQLException ex) {
+                log.warn("Cancel query result beyond max row count failure.", ex);
+            }
+        }
+    }
 }
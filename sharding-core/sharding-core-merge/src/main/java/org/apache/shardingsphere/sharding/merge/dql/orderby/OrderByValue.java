@@ -21,39 +21,59 @@ import com.google.common.base.Preconditions;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
 
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
+ *
+ * <p>
+ * Order values of current row are kept in a buffer reused for every row,
+ * and values of case insensitive string columns are upper cased once for each row instead of for each comparison.
+ * </p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final int[] columnIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final OrderDirection[] nullOrderDirections;
+    
+    private final boolean[] orderValuesCaseSensitive;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final Comparable<?>[] orderValues;
     
-    private List<Comparable<?>> orderValues;
+    @Getter
+    private long rowCount;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems) {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
-        this.orderValuesCaseSensitive = getOrderValuesCaseSensitive();
+        columnIndexes = new int[orderByItems.size()];
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullOrderDirections = new OrderDirection[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            columnIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullOrderDirections[i] = each.getSegment().getNullOrderDirection();
+            i++;
+        }
+        orderValuesCaseSensitive = getOrderValuesCaseSensitive();
+        orderValues = new Comparable<?>[orderByItems.size()];
     }
     
     @SneakyThrows
-    private List<Boolean> getOrderValuesCaseSensitive() {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            result.add(queryResult.isCaseSensitive(each.getIndex()));
+    private boolean[] getOrderValuesCaseSensitive() {
+        boolean[] result = new boolean[columnIndexes.length];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            result[i] = queryResult.isCaseSensitive(columnIndexes[i]);
         }
         return result;
     }
@@ -66,30 +86,28 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.<Comparable<?>>emptyList();
+        if (result) {
+            rowCount++;
+            loadOrderValues();
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < columnIndexes.length; i++) {
+            Object value = queryResult.getValue(columnIndexes[i], Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            orderValues[i] = !orderValuesCaseSensitive[i] && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue o) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = CompareUtil.compareTo(orderValues[i], o.orderValues[i], orderDirections[i], nullOrderDirections[i], true);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
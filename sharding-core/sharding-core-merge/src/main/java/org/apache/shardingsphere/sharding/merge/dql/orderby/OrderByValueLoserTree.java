@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ *
+ * <p>
+ * Every order by value is a leaf, and every inner node keeps the loser of its sub tree,
+ * so that replaying the winner after it moved to next row only compares along the path to root, which is log2(k) comparisons.
+ * Exhausted order by values are ordered after all others.
+ * Ties are broken the same way as a priority queue which polls the first order by value and offers it again after it moved to next row:
+ * the moved order by value is ordered after equal order by values of other query results,
+ * and if it is exhausted, the order by value which replaces it is kept on ties.
+ * </p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final OrderByValue[] orderByValues;
+    
+    private final int[] losers;
+    
+    private int size;
+    
+    public OrderByValueLoserTree(final Collection<OrderByValue> orderByValues) {
+        this.orderByValues = orderByValues.toArray(new OrderByValue[orderByValues.size()]);
+        losers = new int[Math.max(this.orderByValues.length, 1)];
+        size = this.orderByValues.length;
+        build(-1);
+    }
+    
+    private void build(final int preferredIndex) {
+        int leafCount = orderByValues.length;
+        if (leafCount < 2) {
+            return;
+        }
+        int[] winners = new int[leafCount * 2];
+        for (int i = 0; i < leafCount; i++) {
+            winners[leafCount + i] = i;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = winners[node * 2];
+            int right = winners[node * 2 + 1];
+            if (isBefore(left, right, preferredIndex)) {
+                winners[node] = left;
+                losers[node] = right;
+            } else {
+                winners[node] = right;
+                losers[node] = left;
+            }
+        }
+        losers[0] = winners[1];
+    }
+    
+    private boolean isBefore(final int index, final int otherIndex, final int preferredIndex) {
+        if (null == orderByValues[otherIndex]) {
+            return null != orderByValues[index] || index < otherIndex;
+        }
+        if (null == orderByValues[index]) {
+            return false;
+        }
+        int result = orderByValues[index].compareTo(orderByValues[otherIndex]);
+        return result < 0 || 0 == result && (index == preferredIndex || otherIndex != preferredIndex && index < otherIndex);
+    }
+    
+    private boolean isReplayedBefore(final int loserIndex, final int winnerIndex, final int replayedIndex) {
+        if (null == orderByValues[loserIndex]) {
+            return false;
+        }
+        if (null == orderByValues[winnerIndex]) {
+            return true;
+        }
+        int result = orderByValues[loserIndex].compareTo(orderByValues[winnerIndex]);
+        if (0 != result) {
+            return result < 0;
+        }
+        if (null == orderByValues[replayedIndex]) {
+            return false;
+        }
+        return winnerIndex == replayedIndex || loserIndex < winnerIndex;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == size;
+    }
+    
+    /**
+     * Get count of order by values not exhausted.
+     *
+     * @return count of order by values not exhausted
+     */
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Get first order by value.
+     *
+     * @return first order by value, null if all order by values are exhausted
+     */
+    public OrderByValue peek() {
+        return 0 == orderByValues.length ? null : orderByValues[losers[0]];
+    }
+    
+    /**
+     * Replay first order by value after it moved to next row.
+     *
+     * @param hasNext whether first order by value has next row
+     */
+    public void replayFirst(final boolean hasNext) {
+        int replayed = losers[0];
+        int winner = replayed;
+        if (!hasNext) {
+            orderByValues[winner] = null;
+            size--;
+        }
+        for (int node = (winner + orderByValues.length) / 2; node > 0; node /= 2) {
+            if (isReplayedBefore(losers[node], winner, replayed)) {
+                int loser = winner;
+                winner = losers[node];
+                losers[node] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    /**
+     * Remove order by values.
+     * 
+     * <p>
+     * First order by value is kept first if it is not removed.
+     * </p>
+     *
+     * @param toBeRemovedOrderByValues order by values to be removed
+     */
+    public void removeAll(final Collection<OrderByValue> toBeRemovedOrderByValues) {
+        int first = losers[0];
+        for (int i = 0; i < orderByValues.length; i++) {
+            if (null != orderByValues[i] && toBeRemovedOrderByValues.contains(orderByValues[i])) {
+                orderByValues[i] = null;
+                size--;
+            }
+        }
+        build(first);
+    }
+    
+    /**
+     * Get order by values not exhausted.
+     *
+     * @return order by values not exhausted
+     */
+    public List<OrderByValue> getOrderByValues() {
+        List<OrderByValue> result = new ArrayList<>(size);
+        for (OrderByValue each : orderByValues) {
+            if (null != each) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+}
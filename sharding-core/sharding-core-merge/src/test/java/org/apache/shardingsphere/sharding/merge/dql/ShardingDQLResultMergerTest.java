@@ -39,6 +39,8 @@ import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrde
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.pagination.rownum.NumberLiteralRowNumberValueSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.junit.Test;
@@ -48,6 +50,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Properties;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.Assert.assertThat;
@@ -219,6 +222,18 @@ public final class ShardingDQLResultMergerTest {
         assertThat(resultMerger.merge(createQueryResults(), selectStatementContext, null), instanceOf(GroupByMemoryMergedResult.class));
     }
     
+    @Test
+    public void assertBuildGroupByMemoryMergedResultWithApproximateDistinctCount() throws SQLException {
+        Properties props = new Properties();
+        props.setProperty(PropertiesConstant.SQL_MERGE_APPROXIMATE_DISTINCT_COUNT_ENABLED.getKey(), Boolean.TRUE.toString());
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), new ShardingSphereProperties(props));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(new SelectStatement(), 
+                new GroupByContext(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.DESC, OrderDirection.ASC))), 0), 
+                new OrderByContext(Collections.<OrderByItem>emptyList(), false), new ProjectionsContext(0, 0, false, Collections.<Projection>emptyList(), Collections.<String>emptyList()), 
+                new PaginationContext(null, null, Collections.emptyList()));
+        assertThat(resultMerger.merge(createQueryResults(), selectStatementContext, null), instanceOf(GroupByMemoryMergedResult.class));
+    }
+    
     @Test
     public void assertBuildGroupByMemoryMergedResultWithMySQLLimit() throws SQLException {
         ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.distinct;
+
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.ColumnProjection;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class DistinctDecoratorMergedResultTest {
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult()), createSelectStatementContext(Collections.<OrderByItem>emptyList()), null);
+        assertThat(actual, instanceOf(DistinctDecoratorMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForResultSetsAllEmptyWithOrderBy() throws SQLException {
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        orderByItem.setIndex(1);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult()), createSelectStatementContext(Collections.singletonList(orderByItem)), null);
+        assertThat(actual, instanceOf(DistinctDecoratorMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForDuplicatedRows() throws SQLException {
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenReturn(true, true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(1, 1, 2, 2);
+        QueryResult queryResult2 = createQueryResult();
+        when(queryResult2.next()).thenReturn(true, true, false);
+        when(queryResult2.getValue(1, Object.class)).thenReturn(2, 3, 3);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(Collections.<OrderByItem>emptyList()), null);
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(1, Object.class), is(2));
+        assertTrue(actual.next());
+        assertThat((Integer) actual.getValue(1, Object.class), is(3));
+        assertFalse(actual.next());
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final Collection<OrderByItem> orderByItems) {
+        ProjectionsContext projectionsContext = new ProjectionsContext(
+                0, 0, true, Collections.<Projection>singletonList(new ColumnProjection(null, "id", null)), Collections.singletonList("id"));
+        return new SelectStatementContext(new SelectStatement(), new GroupByContext(Collections.<OrderByItem>emptyList(), 0), 
+                new OrderByContext(orderByItems, false), projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private QueryResult createQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(1);
+        when(result.getColumnLabel(1)).thenReturn("id");
+        return result;
+    }
+}
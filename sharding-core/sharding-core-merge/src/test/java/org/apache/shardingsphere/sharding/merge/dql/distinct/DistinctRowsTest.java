@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.distinct;
+
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class DistinctRowsTest {
+    
+    @Test
+    public void assertAdd() {
+        DistinctRows distinctRows = new DistinctRows();
+        assertTrue(distinctRows.add(new Object[]{1, "foo"}));
+        assertTrue(distinctRows.add(new Object[]{1, null}));
+        assertFalse(distinctRows.add(new Object[]{1, "foo"}));
+        assertFalse(distinctRows.add(new Object[]{1, null}));
+        assertThat(distinctRows.size(), is(2));
+    }
+    
+    @Test
+    public void assertAddWithSameFingerprint() {
+        DistinctRows distinctRows = new DistinctRows();
+        assertTrue(distinctRows.add(new Object[]{"Aa"}));
+        assertTrue(distinctRows.add(new Object[]{"BB"}));
+        assertFalse(distinctRows.add(new Object[]{"BB"}));
+        assertThat(distinctRows.size(), is(2));
+    }
+    
+    @Test
+    public void assertAddBeyondInitialCapacity() {
+        DistinctRows distinctRows = new DistinctRows();
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(distinctRows.add(new Object[]{i}));
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(distinctRows.add(new Object[]{i}));
+        }
+        assertThat(distinctRows.size(), is(1000));
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.core.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByCombinerTest {
+    
+    @Test
+    public void assertIsCombinable() {
+        assertTrue(GroupByCombiner.isCombinable(createSelectStatementContext(), 2, new ShardingSphereProperties(new Properties())));
+    }
+    
+    @Test
+    public void assertIsNotCombinableForSingleExecutionUnit() {
+        assertFalse(GroupByCombiner.isCombinable(createSelectStatementContext(), 1, new ShardingSphereProperties(new Properties())));
+    }
+    
+    @Test
+    public void assertIsNotCombinableForNotSelectStatement() {
+        assertFalse(GroupByCombiner.isCombinable(mock(SQLStatementContext.class), 2, new ShardingSphereProperties(new Properties())));
+    }
+    
+    @Test
+    public void assertIsNotCombinableWhenSpillEnabled() {
+        Properties props = new Properties();
+        props.setProperty(PropertiesConstant.SQL_MERGE_GROUP_BY_MEMORY_MAX_ROWS.getKey(), "100");
+        assertFalse(GroupByCombiner.isCombinable(createSelectStatementContext(), 2, new ShardingSphereProperties(props)));
+    }
+    
+    @Test
+    public void assertCombine() throws SQLException {
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenReturn(true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20);
+        QueryResult queryResult3 = createQueryResult();
+        when(queryResult3.next()).thenReturn(true, true, false);
+        when(queryResult3.getValue(1, Object.class)).thenReturn(20, 20, 30);
+        when(queryResult3.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult3.getValue(3, Object.class)).thenReturn(2, 2, 3);
+        when(queryResult3.getValue(4, Object.class)).thenReturn(2, 2, 2, 3);
+        when(queryResult3.getValue(5, Object.class)).thenReturn(20, 20, 20, 30);
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        GroupByCombiner groupByCombiner = new GroupByCombiner(selectStatementContext);
+        QueryResult combinedQueryResult1 = groupByCombiner.combine(queryResult1);
+        QueryResult combinedQueryResult3 = groupByCombiner.combine(queryResult3);
+        assertFalse(combinedQueryResult1.next());
+        assertThat(combinedQueryResult1.getColumnCount(), is(5));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"));
+        QueryResult queryResult2 = createQueryResult();
+        MergedResult actual = resultMerger.merge(Arrays.asList(combinedQueryResult1, queryResult2, combinedQueryResult3), selectStatementContext, null);
+        assertThat(actual, instanceOf(GroupByMemoryMergedResult.class));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCombineWithoutSettingIndexesOfSelectStatementContext() throws SQLException {
+        QueryResult queryResult = createQueryResult();
+        when(queryResult.next()).thenReturn(true, false);
+        when(queryResult.getValue(1, Object.class)).thenReturn(2);
+        when(queryResult.getValue(3, Object.class)).thenReturn(20);
+        AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Collections.<Projection>singletonList(aggregationProjection), Collections.<String>emptyList());
+        SelectStatementContext selectStatementContext = new SelectStatementContext(new SelectStatement(),
+                new GroupByContext(Collections.singletonList(new OrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(Collections.<OrderByItem>emptyList(), false), projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+        new GroupByCombiner(selectStatementContext).combine(queryResult);
+        assertThat(aggregationProjection.getIndex(), is(-1));
+        assertThat(selectStatementContext.getGroupByContext().getItems().iterator().next().getIndex(), is(0));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        aggregationProjection1.setIndex(1);
+        AggregationProjection aggregationProjection2 = new AggregationProjection(AggregationType.AVG, "(num)", null);
+        aggregationProjection2.setIndex(2);
+        AggregationProjection derivedAggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0");
+        aggregationProjection2.setIndex(4);
+        aggregationProjection2.getDerivedAggregationProjections().add(derivedAggregationProjection1);
+        AggregationProjection derivedAggregationProjection2 = new AggregationProjection(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0");
+        aggregationProjection2.setIndex(5);
+        aggregationProjection2.getDerivedAggregationProjections().add(derivedAggregationProjection2);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.<Projection>asList(aggregationProjection1, aggregationProjection2), Collections.<String>emptyList());
+        return new SelectStatementContext(new SelectStatement(),
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private QueryResult createQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(5);
+        when(result.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getColumnLabel(3)).thenReturn("id");
+        when(result.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        return result;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.core.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.CloseableMergedResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.junit.Test;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupBySpillMergedResultTest {
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), createProperties(1));
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult()), createSelectStatementContext(), null);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForSomeResultSetsEmpty() throws SQLException {
+        QueryResult queryResult1 = createQueryResult();
+        when(queryResult1.next()).thenReturn(true, false);
+        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
+        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(4, Object.class)).thenReturn(2);
+        when(queryResult1.getValue(5, Object.class)).thenReturn(20);
+        QueryResult queryResult2 = createQueryResult();
+        QueryResult queryResult3 = createQueryResult();
+        when(queryResult3.next()).thenReturn(true, true, false);
+        when(queryResult3.getValue(1, Object.class)).thenReturn(20, 30);
+        when(queryResult3.getValue(2, Object.class)).thenReturn(0);
+        when(queryResult3.getValue(3, Object.class)).thenReturn(2, 3);
+        when(queryResult3.getValue(4, Object.class)).thenReturn(2, 2, 3);
+        when(queryResult3.getValue(5, Object.class)).thenReturn(20, 20, 30);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), createProperties(1));
+        MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupBySpillMergedResult.class));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(30)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(3));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(3)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(30)));
+        assertTrue(actual.next());
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(40)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+        assertThat((Integer) actual.getValue(3, Object.class), is(2));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(4)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(40)));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForGroupsBeyondMaxMemoryRows() throws SQLException {
+        int groupCount = 100;
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), createProperties(3));
+        MergedResult actual = resultMerger.merge(Arrays.asList(createSpillQueryResult(groupCount), createSpillQueryResult(groupCount)), createSelectStatementContext(), null);
+        for (int i = groupCount - 1; i >= 0; i--) {
+            assertTrue(actual.next());
+            assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(2)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(i));
+            assertThat((Integer) actual.getValue(3, Object.class), is(i));
+            assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(2)));
+            assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(i * 2)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertCloseBeforeAllRowsRead() throws SQLException {
+        int spillFileCount = getSpillFileCount();
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), createProperties(1));
+        MergedResult actual = resultMerger.merge(Arrays.asList(createSpillQueryResult(1000), createSpillQueryResult(1000)), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        assertTrue(getSpillFileCount() > spillFileCount);
+        ((CloseableMergedResult) actual).close();
+        assertThat(getSpillFileCount(), is(spillFileCount));
+    }
+    
+    private int getSpillFileCount() {
+        int result = 0;
+        for (File each : new File(System.getProperty("java.io.tmpdir")).listFiles()) {
+            if (each.getName().startsWith("sharding-group-by-")) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private ShardingSphereProperties createProperties(final int groupByMemoryMaxRows) {
+        Properties result = new Properties();
+        result.setProperty(PropertiesConstant.SQL_MERGE_GROUP_BY_MEMORY_MAX_ROWS.getKey(), String.valueOf(groupByMemoryMaxRows));
+        return new ShardingSphereProperties(result);
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        aggregationProjection1.setIndex(1);
+        AggregationProjection aggregationProjection2 = new AggregationProjection(AggregationType.AVG, "(num)", null);
+        aggregationProjection2.setIndex(2);
+        AggregationProjection derivedAggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0");
+        aggregationProjection2.setIndex(4);
+        aggregationProjection2.getDerivedAggregationProjections().add(derivedAggregationProjection1);
+        AggregationProjection derivedAggregationProjection2 = new AggregationProjection(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0");
+        aggregationProjection2.setIndex(5);
+        aggregationProjection2.getDerivedAggregationProjections().add(derivedAggregationProjection2);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.<Projection>asList(aggregationProjection1, aggregationProjection2), Collections.<String>emptyList());
+        return new SelectStatementContext(new SelectStatement(),
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, OrderDirection.ASC))), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private QueryResult createQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(5);
+        when(result.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getColumnLabel(3)).thenReturn("id");
+        when(result.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        return result;
+    }
+    
+    private QueryResult createSpillQueryResult(final int groupCount) throws SQLException {
+        List<Object[]> rows = new ArrayList<>(groupCount);
+        for (int i = 0; i < groupCount; i++) {
+            rows.add(new Object[]{1, i, i, 1, i});
+        }
+        Collections.shuffle(rows, new Random(groupCount));
+        return new GroupBySpillQueryResult(rows.iterator(), createQueryResult());
+    }
+}
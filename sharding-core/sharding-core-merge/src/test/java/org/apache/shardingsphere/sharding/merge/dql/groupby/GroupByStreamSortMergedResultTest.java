@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.core.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.groupby.GroupByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.pagination.PaginationContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.Projection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.ProjectionsContext;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.OrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class GroupByStreamSortMergedResultTest {
+    
+    @Test
+    public void assertNextForResultSetsAllEmpty() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), createProperties());
+        MergedResult actual = resultMerger.merge(Arrays.asList(createQueryResult(), createQueryResult()), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupByStreamSortMergedResult.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForAllGroups() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypes.getActualDatabaseType("MySQL"), createProperties());
+        MergedResult actual = resultMerger.merge(createQueryResults(), createSelectStatementContext(), null);
+        assertThat(actual, instanceOf(GroupByStreamSortMergedResult.class));
+        assertTrue(actual.next());
+        assertRow(actual, 30, 1, 60);
+        assertTrue(actual.next());
+        assertRow(actual, 20, 3, 40);
+        assertTrue(actual.next());
+        assertRow(actual, 5, 2, 10);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextForTopGroups() throws SQLException {
+        List<QueryResult> queryResults = createQueryResults();
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        selectStatementContext.setIndexes(ShardingDQLResultMerger.getColumnLabelIndexMap(queryResults.get(0)));
+        MergedResult actual = new GroupByStreamSortMergedResult(ShardingDQLResultMerger.getColumnLabelIndexMap(queryResults.get(0)), queryResults, selectStatementContext, 2L, false);
+        assertTrue(actual.next());
+        assertRow(actual, 30, 1, 60);
+        assertTrue(actual.next());
+        assertRow(actual, 20, 3, 40);
+        assertFalse(actual.next());
+    }
+    
+    private void assertRow(final MergedResult actual, final int avg, final int id, final int sum) throws SQLException {
+        assertThat((BigDecimal) actual.getValue(1, Object.class), is(new BigDecimal(2)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(avg));
+        assertThat((Integer) actual.getValue(3, Object.class), is(id));
+        assertThat((BigDecimal) actual.getValue(4, Object.class), is(new BigDecimal(2)));
+        assertThat((BigDecimal) actual.getValue(5, Object.class), is(new BigDecimal(sum)));
+    }
+    
+    private ShardingSphereProperties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(PropertiesConstant.SQL_MERGE_GROUP_BY_STREAM_ENABLED.getKey(), Boolean.TRUE.toString());
+        return new ShardingSphereProperties(result);
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        AggregationProjection aggregationProjection1 = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        AggregationProjection aggregationProjection2 = new AggregationProjection(AggregationType.AVG, "(num)", null);
+        aggregationProjection2.getDerivedAggregationProjections().add(new AggregationProjection(AggregationType.COUNT, "(num)", "AVG_DERIVED_COUNT_0"));
+        aggregationProjection2.getDerivedAggregationProjections().add(new AggregationProjection(AggregationType.SUM, "(num)", "AVG_DERIVED_SUM_0"));
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Arrays.<Projection>asList(aggregationProjection1, aggregationProjection2), Collections.<String>emptyList());
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.<OrderByItemSegment>emptyList()));
+        return new SelectStatementContext(selectStatement,
+                new GroupByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, OrderDirection.ASC))), 0),
+                new OrderByContext(Collections.singletonList(createOrderByItem(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))), false),
+                projectionsContext, new PaginationContext(null, null, Collections.emptyList()));
+    }
+    
+    private OrderByItem createOrderByItem(final IndexOrderByItemSegment indexOrderByItemSegment) {
+        OrderByItem result = new OrderByItem(indexOrderByItemSegment);
+        result.setIndex(indexOrderByItemSegment.getColumnIndex());
+        return result;
+    }
+    
+    private List<QueryResult> createQueryResults() throws SQLException {
+        QueryResult queryResult1 = new GroupBySpillQueryResult(Arrays.asList(
+                new Object[]{1, 10, 1, 1, 10}, new Object[]{2, 5, 2, 2, 10}, new Object[]{1, 30, 3, 1, 30}).iterator(), createQueryResult());
+        QueryResult queryResult2 = new GroupBySpillQueryResult(Collections.<Object[]>emptyIterator(), createQueryResult());
+        QueryResult queryResult3 = new GroupBySpillQueryResult(Arrays.asList(new Object[]{1, 50, 1, 1, 50}, new Object[]{1, 10, 3, 1, 10}).iterator(), createQueryResult());
+        return Arrays.asList(queryResult1, queryResult2, queryResult3);
+    }
+    
+    private QueryResult createQueryResult() throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        when(result.getColumnCount()).thenReturn(5);
+        when(result.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getColumnLabel(3)).thenReturn("id");
+        when(result.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        return result;
+    }
+}
@@ -36,4 +36,15 @@ public final class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    public void assertCombine() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(1));
+        AccumulationAggregationUnit otherAccumulationAggregationUnit = new AccumulationAggregationUnit();
+        otherAccumulationAggregationUnit.merge(Collections.<Comparable<?>>singletonList(10));
+        accumulationAggregationUnit.combine(otherAccumulationAggregationUnit);
+        accumulationAggregationUnit.combine(new AccumulationAggregationUnit());
+        assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(11));
+    }
 }
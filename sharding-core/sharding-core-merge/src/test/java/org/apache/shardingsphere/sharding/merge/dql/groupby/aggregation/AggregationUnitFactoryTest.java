@@ -52,6 +52,13 @@ public final class AggregationUnitFactoryTest {
         assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true), instanceOf(DistinctCountAggregationUnit.class));
     }
     
+    @Test
+    public void assertCreateHyperLogLogDistinctCountAggregationUnit() {
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, true, true), instanceOf(HyperLogLogDistinctCountAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.COUNT, false, true), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(AggregationType.SUM, true, true), instanceOf(DistinctSumAggregationUnit.class));
+    }
+    
     @Test
     public void assertCreateDistinctAverageAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.AVG, true), instanceOf(DistinctAverageAggregationUnit.class));
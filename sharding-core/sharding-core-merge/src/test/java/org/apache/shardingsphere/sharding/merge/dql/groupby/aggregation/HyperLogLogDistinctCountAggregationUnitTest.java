@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class HyperLogLogDistinctCountAggregationUnitTest {
+    
+    @Test
+    public void assertGetResultWithoutValue() {
+        assertThat((Integer) new HyperLogLogDistinctCountAggregationUnit().getResult(), is(0));
+    }
+    
+    @Test
+    public void assertGetExactResultForFewDistinctValues() {
+        HyperLogLogDistinctCountAggregationUnit aggregationUnit = new HyperLogLogDistinctCountAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.<Comparable<?>>singletonList(null));
+        for (int i = 0; i < 30; i++) {
+            aggregationUnit.merge(Collections.<Comparable<?>>singletonList(i));
+            aggregationUnit.merge(Collections.<Comparable<?>>singletonList((long) i));
+            aggregationUnit.merge(Collections.<Comparable<?>>singletonList("value_" + i));
+        }
+        assertThat((Integer) aggregationUnit.getResult(), is(60));
+    }
+    
+    @Test
+    public void assertGetApproximateResultForManyDistinctValues() {
+        HyperLogLogDistinctCountAggregationUnit aggregationUnit = new HyperLogLogDistinctCountAggregationUnit();
+        int distinctCount = 100000;
+        for (int i = 0; i < distinctCount; i++) {
+            aggregationUnit.merge(Collections.<Comparable<?>>singletonList(i));
+            aggregationUnit.merge(Collections.<Comparable<?>>singletonList(i));
+        }
+        int actual = (Integer) aggregationUnit.getResult();
+        assertTrue(Math.abs(actual - distinctCount) < distinctCount * 0.05D);
+    }
+    
+    @Test
+    public void assertGetApproximateResultForSmallRange() {
+        HyperLogLogDistinctCountAggregationUnit aggregationUnit = new HyperLogLogDistinctCountAggregationUnit();
+        int distinctCount = 1000;
+        for (int i = 0; i < distinctCount; i++) {
+            aggregationUnit.merge(Collections.<Comparable<?>>singletonList("user_" + i));
+        }
+        int actual = (Integer) aggregationUnit.getResult();
+        assertTrue(Math.abs(actual - distinctCount) < distinctCount * 0.05D);
+    }
+    
+    @Test
+    public void assertCombine() {
+        HyperLogLogDistinctCountAggregationUnit aggregationUnit = new HyperLogLogDistinctCountAggregationUnit();
+        HyperLogLogDistinctCountAggregationUnit sparseAggregationUnit = new HyperLogLogDistinctCountAggregationUnit();
+        HyperLogLogDistinctCountAggregationUnit denseAggregationUnit = new HyperLogLogDistinctCountAggregationUnit();
+        for (int i = 0; i < 30; i++) {
+            aggregationUnit.merge(Collections.<Comparable<?>>singletonList(i));
+            sparseAggregationUnit.merge(Collections.<Comparable<?>>singletonList(i + 10));
+        }
+        for (int i = 0; i < 10000; i++) {
+            denseAggregationUnit.merge(Collections.<Comparable<?>>singletonList(i));
+        }
+        aggregationUnit.combine(sparseAggregationUnit);
+        assertThat((Integer) aggregationUnit.getResult(), is(40));
+        aggregationUnit.combine(denseAggregationUnit);
+        int actual = (Integer) aggregationUnit.getResult();
+        assertTrue(Math.abs(actual - 10000) < 10000 * 0.05D);
+    }
+}
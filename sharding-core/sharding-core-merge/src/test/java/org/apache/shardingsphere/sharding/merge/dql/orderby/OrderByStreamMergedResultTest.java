@@ -29,6 +29,7 @@ import org.apache.shardingsphere.sql.parser.relation.segment.select.projection.P
 import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.underlying.executor.CancelableQueryResult;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.junit.Before;
@@ -44,6 +45,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public final class OrderByStreamMergedResultTest {
@@ -159,4 +161,48 @@ public final class OrderByStreamMergedResultTest {
         assertThat(actual.getValue(1, Object.class).toString(), is("b"));
         assertFalse(actual.next());
     }
+    
+    @Test
+    public void assertNextWithMaxRowCount() throws SQLException {
+        CancelableQueryResult cancelableQueryResult = mock(CancelableQueryResult.class);
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), cancelableQueryResult);
+        when(queryResults.get(0).next()).thenReturn(true, true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn("1", "1", "2", "2", "5", "5");
+        when(queryResults.get(1).next()).thenReturn(true, true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn("3", "3", "4", "4");
+        when(cancelableQueryResult.next()).thenReturn(true, true, false);
+        when(cancelableQueryResult.getValue(1, Object.class)).thenReturn("6", "6", "7", "7");
+        selectStatementContext.setIndexes(Collections.<String, Integer>emptyMap());
+        OrderByStreamMergedResult actual = new OrderByStreamMergedResult(queryResults, selectStatementContext.getOrderByContext().getItems(), 2L);
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("2"));
+        assertThat(actual.getCanceledQueryResultCount(), is(2));
+        assertThat(actual.getSkippedRowCount(), is(2L));
+        verify(cancelableQueryResult).cancel();
+    }
+    
+    @Test
+    public void assertNextWithMaxRowCountWhenFirstQueryResultChanged() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class), mock(QueryResult.class));
+        when(queryResults.get(0).next()).thenReturn(true, true, false);
+        when(queryResults.get(0).getValue(1, Object.class)).thenReturn("1", "5");
+        when(queryResults.get(1).next()).thenReturn(true, true, false);
+        when(queryResults.get(1).getValue(1, Object.class)).thenReturn("2", "3");
+        when(queryResults.get(2).next()).thenReturn(true, false);
+        when(queryResults.get(2).getValue(1, Object.class)).thenReturn("4");
+        when(queryResults.get(3).next()).thenReturn(true, false);
+        when(queryResults.get(3).getValue(1, Object.class)).thenReturn("6");
+        selectStatementContext.setIndexes(Collections.<String, Integer>emptyMap());
+        OrderByStreamMergedResult actual = new OrderByStreamMergedResult(queryResults, selectStatementContext.getOrderByContext().getItems(), 3L);
+        assertTrue(actual.next());
+        assertThat(actual.getCanceledQueryResultCount(), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.getCanceledQueryResultCount(), is(2));
+        assertTrue(actual.next());
+        assertFalse(actual.next());
+        assertThat(actual.getCanceledQueryResultCount(), is(3));
+        assertThat(actual.getSkippedRowCount(), is(5L));
+    }
 }
@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertReplayFirst() throws SQLException {
+        List<OrderByValue> orderByValues = createOrderByValues(new Integer[]{2, 5}, new Integer[]{1, 4, 6}, new Integer[]{3});
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        List<Integer> actual = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            actual.add(orderByValues.indexOf(loserTree.peek()));
+            loserTree.replayFirst(loserTree.peek().next());
+        }
+        assertThat(actual, is(Arrays.asList(1, 0, 2, 1, 0, 1)));
+        assertThat(loserTree.peek(), nullValue());
+    }
+    
+    @Test
+    public void assertReplayFirstWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(createOrderByValues(new Integer[]{1}));
+        assertFalse(loserTree.isEmpty());
+        loserTree.replayFirst(loserTree.peek().next());
+        assertTrue(loserTree.isEmpty());
+    }
+    
+    @Test
+    public void assertReplayFirstWhenEqual() throws SQLException {
+        List<OrderByValue> orderByValues = createOrderByValues(new Integer[]{1}, new Integer[]{1});
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        assertThat(loserTree.peek(), is(orderByValues.get(0)));
+        loserTree.replayFirst(loserTree.peek().next());
+        assertThat(loserTree.peek(), is(orderByValues.get(1)));
+    }
+    
+    @Test
+    public void assertReplayFirstWhenEqualToAdvanced() throws SQLException {
+        List<OrderByValue> orderByValues = createOrderByValues(new Integer[]{1, 2}, new Integer[]{2});
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        loserTree.replayFirst(loserTree.peek().next());
+        assertThat(loserTree.peek(), is(orderByValues.get(1)));
+    }
+    
+    @Test
+    public void assertReplayFirstWhenEqualAfterExhausted() throws SQLException {
+        List<OrderByValue> orderByValues = createOrderByValues(new Integer[]{2}, new Integer[]{1, 2}, new Integer[]{1});
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        List<Integer> actual = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            actual.add(orderByValues.indexOf(loserTree.peek()));
+            loserTree.replayFirst(loserTree.peek().next());
+        }
+        assertThat(actual, is(Arrays.asList(1, 2, 1, 0)));
+    }
+    
+    @Test
+    public void assertRemoveAll() throws SQLException {
+        List<OrderByValue> orderByValues = createOrderByValues(new Integer[]{1}, new Integer[]{2}, new Integer[]{3});
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        loserTree.removeAll(Collections.singletonList(orderByValues.get(0)));
+        assertThat(loserTree.size(), is(2));
+        assertThat(loserTree.peek(), is(orderByValues.get(1)));
+        assertThat(loserTree.getOrderByValues().size(), is(2));
+    }
+    
+    @Test
+    public void assertRemoveAllKeepFirstWhenEqual() throws SQLException {
+        List<OrderByValue> orderByValues = createOrderByValues(new Integer[]{1, 2}, new Integer[]{2}, new Integer[]{3});
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(orderByValues);
+        loserTree.replayFirst(loserTree.peek().next());
+        assertThat(loserTree.peek(), is(orderByValues.get(1)));
+        loserTree.removeAll(Collections.singletonList(orderByValues.get(2)));
+        assertThat(loserTree.peek(), is(orderByValues.get(1)));
+    }
+    
+    @Test
+    public void assertEmpty() {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(Collections.<OrderByValue>emptyList());
+        assertTrue(loserTree.isEmpty());
+        assertThat(loserTree.peek(), nullValue());
+    }
+    
+    private List<OrderByValue> createOrderByValues(final Integer[]... rows) throws SQLException {
+        List<OrderByValue> result = new ArrayList<>(rows.length);
+        for (Integer[] each : rows) {
+            OrderByValue orderByValue = new OrderByValue(createQueryResult(each), Collections.singletonList(createOrderByItem()));
+            assertTrue(orderByValue.next());
+            result.add(orderByValue);
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Boolean[] hasNext = new Boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            hasNext[i] = i < values.length - 1;
+        }
+        when(result.next()).thenReturn(true, hasNext);
+        Object[] nextValues = new Object[values.length - 1];
+        System.arraycopy(values, 1, nextValues, 0, nextValues.length);
+        when(result.getValue(1, Object.class)).thenReturn(values[0], nextValues);
+        return result;
+    }
+    
+    private OrderByItem createOrderByItem() {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        result.setIndex(1);
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rewrite.token.generator.impl;
+
+import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
+import org.apache.shardingsphere.sharding.rewrite.token.pojo.impl.GroupByOrderByToken;
+import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.OptionalSQLTokenGenerator;
+
+/**
+ * Group by order by token generator.
+ */
+public final class GroupByOrderByTokenGenerator implements OptionalSQLTokenGenerator<SelectStatementContext>, IgnoreForSingleRoute {
+    
+    @Override
+    public boolean isGenerateSQLToken(final SQLStatementContext sqlStatementContext) {
+        return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isGroupByItemsAsOrderByItemsAvailable();
+    }
+    
+    @Override
+    public GroupByOrderByToken generateSQLToken(final SelectStatementContext selectStatementContext) {
+        OrderBySegment orderBySegment = selectStatementContext.getSqlStatement().getOrderBy().get();
+        GroupByOrderByToken result = new GroupByOrderByToken(orderBySegment.getStartIndex(), orderBySegment.getStopIndex());
+        for (OrderByItem each : selectStatementContext.getGroupByContext().getItems()) {
+            result.getColumnLabels().add(OrderByTokenGenerator.getColumnLabel(each));
+            result.getOrderDirections().add(each.getSegment().getOrderDirection());
+        }
+        return result;
+    }
+}
@@ -40,21 +40,28 @@ public final class OrderByTokenGenerator implements OptionalSQLTokenGenerator<Se
     @Override
     public OrderByToken generateSQLToken(final SelectStatementContext selectStatementContext) {
         OrderByToken result = new OrderByToken(selectStatementContext.getGroupByContext().getLastIndex() + 1);
-        String columnLabel;
         for (OrderByItem each : selectStatementContext.getOrderByContext().getItems()) {
-            if (each.getSegment() instanceof ColumnOrderByItemSegment) {
-                ColumnOrderByItemSegment columnOrderByItemSegment = (ColumnOrderByItemSegment) each.getSegment();
-                QuoteCharacter quoteCharacter = columnOrderByItemSegment.getColumn().getIdentifier().getQuoteCharacter();
-                columnLabel = quoteCharacter.getStartDelimiter() + columnOrderByItemSegment.getText() + quoteCharacter.getEndDelimiter();
-            } else if (each.getSegment() instanceof ExpressionOrderByItemSegment) {
-                columnLabel = ((ExpressionOrderByItemSegment) each.getSegment()).getText();
-            } else {
-                columnLabel = String.valueOf(each.getIndex());
-            }
-            result.getColumnLabels().add(columnLabel);
+            result.getColumnLabels().add(getColumnLabel(each));
             result.getOrderDirections().add(each.getSegment().getOrderDirection());
         }
         return result;
     }
     
+    /**
+     * Get column label of order by item in SQL.
+     *
+     * @param orderByItem order by item
+     * @return column label of order by item in SQL
+     */
+    static String getColumnLabel(final OrderByItem orderByItem) {
+        if (orderByItem.getSegment() instanceof ColumnOrderByItemSegment) {
+            ColumnOrderByItemSegment columnOrderByItemSegment = (ColumnOrderByItemSegment) orderByItem.getSegment();
+            QuoteCharacter quoteCharacter = columnOrderByItemSegment.getColumn().getIdentifier().getQuoteCharacter();
+            return quoteCharacter.getStartDelimiter() + columnOrderByItemSegment.getText() + quoteCharacter.getEndDelimiter();
+        }
+        if (orderByItem.getSegment() instanceof ExpressionOrderByItemSegment) {
+            return ((ExpressionOrderByItemSegment) orderByItem.getSegment()).getText();
+        }
+        return String.valueOf(orderByItem.getIndex());
+    }
 }
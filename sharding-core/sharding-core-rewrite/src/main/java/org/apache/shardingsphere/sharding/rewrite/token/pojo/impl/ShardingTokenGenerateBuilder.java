@@ -27,6 +27,7 @@ import org.apache.shardingsphere.core.rule.aware.ShardingRuleAware;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.IgnoreForSingleRoute;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.AggregationDistinctTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.DistinctProjectionPrefixTokenGenerator;
+import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.GroupByOrderByTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.IndexTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.OrderByTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.ProjectionsTokenGenerator;
@@ -36,6 +37,8 @@ import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.keygen.Ge
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.keygen.GeneratedKeyForUseDefaultInsertColumnsTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.keygen.GeneratedKeyInsertColumnTokenGenerator;
 import org.apache.shardingsphere.sharding.rewrite.token.generator.impl.keygen.GeneratedKeyInsertValuesTokenGenerator;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.builder.SQLTokenGeneratorBuilder;
 
@@ -50,6 +53,8 @@ public final class ShardingTokenGenerateBuilder implements SQLTokenGeneratorBuil
     
     private final ShardingRule shardingRule;
     
+    private final ShardingSphereProperties properties;
+    
     private final ShardingRouteContext shardingRouteContext;
     
     @Override
@@ -72,6 +77,9 @@ public final class ShardingTokenGenerateBuilder implements SQLTokenGeneratorBuil
         addSQLTokenGenerator(result, new DistinctProjectionPrefixTokenGenerator());
         addSQLTokenGenerator(result, new ProjectionsTokenGenerator());
         addSQLTokenGenerator(result, new OrderByTokenGenerator());
+        if (properties.<Boolean>getValue(PropertiesConstant.SQL_MERGE_GROUP_BY_STREAM_ENABLED)) {
+            addSQLTokenGenerator(result, new GroupByOrderByTokenGenerator());
+        }
         addSQLTokenGenerator(result, new AggregationDistinctTokenGenerator());
         addSQLTokenGenerator(result, new IndexTokenGenerator());
         addSQLTokenGenerator(result, new OffsetTokenGenerator());
@@ -19,7 +19,6 @@ package org.apache.shardingsphere.sharding.route.engine;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngineFactory;
@@ -27,9 +26,12 @@ import org.apache.shardingsphere.underlying.common.constant.properties.ShardingS
 import org.apache.shardingsphere.underlying.route.DateNodeRouter;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingConditions;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingPredicate;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.InsertClauseShardingConditionEngine;
 import org.apache.shardingsphere.sharding.route.engine.condition.engine.WhereClauseShardingConditionEngine;
 import org.apache.shardingsphere.sharding.route.engine.keygen.GeneratedKey;
+import org.apache.shardingsphere.sharding.route.engine.plan.ShardingRoutePlan;
+import org.apache.shardingsphere.sharding.route.engine.plan.ShardingRoutePlanCache;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidator;
 import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidatorFactory;
 import org.apache.shardingsphere.sharding.route.engine.type.ShardingRouteEngine;
@@ -42,7 +44,6 @@ import org.apache.shardingsphere.core.strategy.route.value.ListRouteValue;
 import org.apache.shardingsphere.core.strategy.route.value.RouteValue;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.relation.SQLStatementContextFactory;
-import org.apache.shardingsphere.sql.parser.relation.metadata.RelationMetas;
 import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
 import org.apache.shardingsphere.sql.parser.relation.statement.dml.InsertStatementContext;
 import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
@@ -51,13 +52,13 @@ import org.apache.shardingsphere.sql.parser.sql.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
 /**
  * Sharding router.
  */
-@RequiredArgsConstructor
 public final class ShardingRouter implements DateNodeRouter {
     
     private final ShardingRule shardingRule;
@@ -68,18 +69,34 @@ public final class ShardingRouter implements DateNodeRouter {
     
     private final SQLParserEngine sqlParserEngine;
     
+    private final ShardingRoutePlanCache routePlanCache;
+    
+    public ShardingRouter(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, final SQLParserEngine sqlParserEngine) {
+        this(shardingRule, properties, metaData, sqlParserEngine, new ShardingRoutePlanCache());
+    }
+    
+    public ShardingRouter(final ShardingRule shardingRule, final ShardingSphereProperties properties, final ShardingSphereMetaData metaData, 
+                          final SQLParserEngine sqlParserEngine, final ShardingRoutePlanCache routePlanCache) {
+        this.shardingRule = shardingRule;
+        this.properties = properties;
+        this.metaData = metaData;
+        this.sqlParserEngine = sqlParserEngine;
+        this.routePlanCache = routePlanCache;
+    }
+    
     @Override
     @SuppressWarnings("unchecked")
     public ShardingRouteContext route(final String sql, final List<Object> parameters, final boolean useCache) {
-        SQLStatement sqlStatement = parse(sql, useCache);
-        Optional<ShardingStatementValidator> shardingStatementValidator = ShardingStatementValidatorFactory.newInstance(sqlStatement);
+        ShardingRoutePlan routePlan = getRoutePlan(sql, useCache);
+        SQLStatement sqlStatement = routePlan.getSqlStatement();
+        Optional<ShardingStatementValidator> shardingStatementValidator = routePlan.getShardingStatementValidator();
         if (shardingStatementValidator.isPresent()) {
             shardingStatementValidator.get().validate(shardingRule, sqlStatement, parameters);
         }
         SQLStatementContext sqlStatementContext = SQLStatementContextFactory.newInstance(metaData.getRelationMetas(), sql, parameters, sqlStatement);
         Optional<GeneratedKey> generatedKey = sqlStatement instanceof InsertStatement
                 ? GeneratedKey.getGenerateKey(shardingRule, metaData.getTables(), parameters, (InsertStatement) sqlStatement) : Optional.<GeneratedKey>absent();
-        ShardingConditions shardingConditions = getShardingConditions(parameters, sqlStatementContext, generatedKey.orNull(), metaData.getRelationMetas());
+        ShardingConditions shardingConditions = getShardingConditions(parameters, sqlStatementContext, generatedKey.orNull(), routePlan.getShardingPredicates());
         boolean needMergeShardingValues = isNeedMergeShardingValues(sqlStatementContext);
         if (sqlStatementContext.getSqlStatement() instanceof DMLStatement && needMergeShardingValues) {
             checkSubqueryShardingValues(sqlStatementContext, shardingConditions);
@@ -93,6 +110,26 @@ public final class ShardingRouter implements DateNodeRouter {
         return new ShardingRouteContext(sqlStatementContext, routeResult, shardingConditions, generatedKey.orNull());
     }
     
+    private ShardingRoutePlan getRoutePlan(final String sql, final boolean useCache) {
+        if (!useCache) {
+            return createRoutePlan(sql, false);
+        }
+        Optional<ShardingRoutePlan> cachedRoutePlan = routePlanCache.getRoutePlan(sql);
+        if (cachedRoutePlan.isPresent()) {
+            return cachedRoutePlan.get();
+        }
+        ShardingRoutePlan result = createRoutePlan(sql, true);
+        routePlanCache.put(result);
+        return result;
+    }
+    
+    private ShardingRoutePlan createRoutePlan(final String sql, final boolean useCache) {
+        SQLStatement sqlStatement = parse(sql, useCache);
+        List<Collection<ShardingPredicate>> shardingPredicates = sqlStatement instanceof DMLStatement && !(sqlStatement instanceof InsertStatement)
+                ? new WhereClauseShardingConditionEngine(shardingRule, metaData.getRelationMetas()).findShardingPredicates(sqlStatement) : Collections.<Collection<ShardingPredicate>>emptyList();
+        return new ShardingRoutePlan(sql, sqlStatement, ShardingStatementValidatorFactory.newInstance(sqlStatement).orNull(), shardingPredicates);
+    }
+    
     /*
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -104,13 +141,14 @@ public final class ShardingRouter implements DateNodeRouter {
         return sqlParserEngine.parse(sql, useCache);
     }
     
-    private ShardingConditions getShardingConditions(final List<Object> parameters, final SQLStatementContext sqlStatementContext, final GeneratedKey generatedKey, final RelationMetas relationMetas) {
+    private ShardingConditions getShardingConditions(final List<Object> parameters, final SQLStatementContext sqlStatementContext,
+                                                     final GeneratedKey generatedKey, final List<Collection<ShardingPredicate>> shardingPredicates) {
         if (sqlStatementContext.getSqlStatement() instanceof DMLStatement) {
             if (sqlStatementContext instanceof InsertStatementContext) {
                 InsertStatementContext shardingInsertStatement = (InsertStatementContext) sqlStatementContext;
                 return new ShardingConditions(new InsertClauseShardingConditionEngine(shardingRule).createShardingConditions(shardingInsertStatement, generatedKey, parameters));
             }
-            return new ShardingConditions(new WhereClauseShardingConditionEngine(shardingRule, relationMetas).createShardingConditions(sqlStatementContext.getSqlStatement(), parameters));
+            return new ShardingConditions(new WhereClauseShardingConditionEngine(shardingRule, metaData.getRelationMetas()).createShardingConditions(shardingPredicates, parameters));
         }
         return new ShardingConditions(Collections.<ShardingCondition>emptyList());
     }
@@ -28,6 +28,7 @@ import org.apache.shardingsphere.sharding.route.engine.condition.AlwaysFalseRout
 import org.apache.shardingsphere.sharding.route.engine.condition.AlwaysFalseShardingCondition;
 import org.apache.shardingsphere.sharding.route.engine.condition.Column;
 import org.apache.shardingsphere.sharding.route.engine.condition.ShardingCondition;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingPredicate;
 import org.apache.shardingsphere.sharding.route.engine.condition.generator.ConditionValueGeneratorFactory;
 import org.apache.shardingsphere.sql.parser.relation.metadata.RelationMetas;
 import org.apache.shardingsphere.sql.parser.relation.predicate.PredicateFinder;
@@ -65,13 +66,45 @@ public final class WhereClauseShardingConditionEngine {
      * @return sharding conditions
      */
     public List<ShardingCondition> createShardingConditions(final SQLStatement sqlStatement, final List<Object> parameters) {
+        return createShardingConditions(findShardingPredicates(sqlStatement), parameters);
+    }
+    
+    /**
+     * Create sharding conditions.
+     * 
+     * @param shardingPredicates sharding predicates of every and predicate
+     * @param parameters SQL parameters
+     * @return sharding conditions
+     */
+    public List<ShardingCondition> createShardingConditions(final List<Collection<ShardingPredicate>> shardingPredicates, final List<Object> parameters) {
+        List<ShardingCondition> result = new ArrayList<>(shardingPredicates.size());
+        for (Collection<ShardingPredicate> each : shardingPredicates) {
+            Map<Column, Collection<RouteValue>> routeValueMap = createRouteValueMap(each, parameters);
+            if (routeValueMap.isEmpty()) {
+                return new ArrayList<ShardingCondition>();
+            }
+            result.add(createShardingCondition(routeValueMap));
+        }
+        return result;
+    }
+    
+    /**
+     * Find sharding predicates.
+     * 
+     * <p>
+     * Sharding predicates only depend on SQL statement, so they can be found once and evaluated with parameters of every execution.
+     * </p>
+     * 
+     * @param sqlStatement SQL statement
+     * @return sharding predicates of every and predicate, empty if any and predicate does not contain sharding predicate
+     */
+    public List<Collection<ShardingPredicate>> findShardingPredicates(final SQLStatement sqlStatement) {
         if (!(sqlStatement instanceof WhereSegmentAvailable)) {
             return Collections.emptyList();
         }
-        List<ShardingCondition> result = new ArrayList<>();
         Optional<WhereSegment> whereSegment = ((WhereSegmentAvailable) sqlStatement).getWhere();
-        if (whereSegment.isPresent()) {
-            result.addAll(createShardingConditions((WhereSegmentAvailable) sqlStatement, whereSegment.get().getAndPredicates(), parameters));
+        if (!whereSegment.isPresent()) {
+            return Collections.emptyList();
         }
         // FIXME process subquery
 //        Collection<SubqueryPredicateSegment> subqueryPredicateSegments = sqlStatement.findSQLSegments(SubqueryPredicateSegment.class);
@@ -81,37 +114,43 @@ public final class WhereClauseShardingConditionEngine {
 //                result.addAll(subqueryShardingConditions);
 //            }
 //        }
-        return result;
+        return findShardingPredicates((WhereSegmentAvailable) sqlStatement, whereSegment.get().getAndPredicates());
     }
     
-    private Collection<ShardingCondition> createShardingConditions(final WhereSegmentAvailable sqlStatementContext, final Collection<AndPredicate> andPredicates, final List<Object> parameters) {
-        Collection<ShardingCondition> result = new LinkedList<>();
+    private List<Collection<ShardingPredicate>> findShardingPredicates(final WhereSegmentAvailable sqlStatement, final Collection<AndPredicate> andPredicates) {
+        List<Collection<ShardingPredicate>> result = new ArrayList<>(andPredicates.size());
         for (AndPredicate each : andPredicates) {
-            Map<Column, Collection<RouteValue>> routeValueMap = createRouteValueMap(sqlStatementContext, each, parameters);
-            if (routeValueMap.isEmpty()) {
+            Collection<ShardingPredicate> shardingPredicates = findShardingPredicates(sqlStatement, each);
+            if (shardingPredicates.isEmpty()) {
                 return Collections.emptyList();
             }
-            result.add(createShardingCondition(routeValueMap));
+            result.add(shardingPredicates);
         }
         return result;
     }
     
-    private Map<Column, Collection<RouteValue>> createRouteValueMap(final WhereSegmentAvailable sqlStatementContext, final AndPredicate andPredicate, final List<Object> parameters) {
-        Map<Column, Collection<RouteValue>> result = new HashMap<>();
+    private Collection<ShardingPredicate> findShardingPredicates(final WhereSegmentAvailable sqlStatement, final AndPredicate andPredicate) {
+        Collection<ShardingPredicate> result = new LinkedList<>();
         for (PredicateSegment each : andPredicate.getPredicates()) {
-            Optional<String> tableName = new PredicateFinder(relationMetas, sqlStatementContext.getTables()).findTableName(each);
-            if (!tableName.isPresent() || !shardingRule.isShardingColumn(each.getColumn().getIdentifier().getValue(), tableName.get())) {
-                continue;
+            Optional<String> tableName = new PredicateFinder(relationMetas, sqlStatement.getTables()).findTableName(each);
+            if (tableName.isPresent() && shardingRule.isShardingColumn(each.getColumn().getIdentifier().getValue(), tableName.get())) {
+                result.add(new ShardingPredicate(new Column(each.getColumn().getIdentifier().getValue(), tableName.get()), each.getRightValue()));
             }
-            Column column = new Column(each.getColumn().getIdentifier().getValue(), tableName.get());
-            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), column, parameters);
+        }
+        return result;
+    }
+    
+    private Map<Column, Collection<RouteValue>> createRouteValueMap(final Collection<ShardingPredicate> shardingPredicates, final List<Object> parameters) {
+        Map<Column, Collection<RouteValue>> result = new HashMap<>();
+        for (ShardingPredicate each : shardingPredicates) {
+            Optional<RouteValue> routeValue = ConditionValueGeneratorFactory.generate(each.getRightValue(), each.getColumn(), parameters);
             if (!routeValue.isPresent()) {
                 continue;
             }
-            if (!result.containsKey(column)) {
-                result.put(column, new LinkedList<RouteValue>());
+            if (!result.containsKey(each.getColumn())) {
+                result.put(each.getColumn(), new LinkedList<RouteValue>());
             }
-            result.get(column).add(routeValue.get());
+            result.get(each.getColumn()).add(routeValue.get());
         }
         return result;
     }
@@ -97,9 +97,7 @@ public final class GeneratedKey {
     
     private static GeneratedKey createGeneratedKey(final ShardingRule shardingRule, final InsertStatement insertStatement, final String generateKeyColumnName) {
         GeneratedKey result = new GeneratedKey(generateKeyColumnName, true);
-        for (int i = 0; i < insertStatement.getValueListCount(); i++) {
-            result.getGeneratedValues().add(shardingRule.generateKey(insertStatement.getTable().getTableName().getIdentifier().getValue()));
-        }
+        result.getGeneratedValues().addAll(shardingRule.generateKeys(insertStatement.getTable().getTableName().getIdentifier().getValue(), insertStatement.getValueListCount()));
         return result;
     }
 }
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.plan;
+
+import com.google.common.base.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sharding.route.engine.condition.ShardingPredicate;
+import org.apache.shardingsphere.sharding.route.engine.validator.ShardingStatementValidator;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Sharding route plan.
+ * 
+ * <p>
+ * Route plan keeps the parameter independent part of routing for one SQL.
+ * Executions of same prepared SQL reuse it and only evaluate sharding predicates and sharding algorithms with new parameters.
+ * SQL statement context is not kept, because it is mutated while merging and is created for every execution.
+ * </p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ShardingRoutePlan {
+    
+    private final String sql;
+    
+    private final SQLStatement sqlStatement;
+    
+    private final ShardingStatementValidator shardingStatementValidator;
+    
+    private final List<Collection<ShardingPredicate>> shardingPredicates;
+    
+    /**
+     * Get sharding statement validator.
+     * 
+     * @return sharding statement validator
+     */
+    public Optional<ShardingStatementValidator> getShardingStatementValidator() {
+        return Optional.fromNullable(shardingStatementValidator);
+    }
+}
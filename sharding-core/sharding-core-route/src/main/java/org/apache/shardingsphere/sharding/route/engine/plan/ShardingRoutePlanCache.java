@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.plan;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+/**
+ * Sharding route plan cache.
+ *
+ * <p>
+ * Route plans are cached by SQL and shared by every router of same runtime context.
+ * Cache must be cleared when metadata or rule which sharding predicates are found from is changed.
+ * </p>
+ */
+public final class ShardingRoutePlanCache {
+    
+    private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+    
+    private final Cache<String, ShardingRoutePlan> cache;
+    
+    public ShardingRoutePlanCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public ShardingRoutePlanCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get route plan.
+     *
+     * @param sql SQL
+     * @return route plan
+     */
+    public Optional<ShardingRoutePlan> getRoutePlan(final String sql) {
+        return Optional.fromNullable(cache.getIfPresent(sql));
+    }
+    
+    /**
+     * Put route plan into cache.
+     *
+     * @param routePlan route plan
+     */
+    public void put(final ShardingRoutePlan routePlan) {
+        cache.put(routePlan.getSql(), routePlan);
+    }
+    
+    /**
+     * Get count of cached route plans.
+     *
+     * @return count of cached route plans
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine;
+
+import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
+import org.apache.shardingsphere.sharding.route.engine.plan.ShardingRoutePlanCache;
+import org.apache.shardingsphere.sharding.route.fixture.AbstractRoutingEngineTest;
+import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetas;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class ShardingRouterTest extends AbstractRoutingEngineTest {
+    
+    private final ShardingRoutePlanCache routePlanCache = new ShardingRoutePlanCache();
+    
+    private ShardingRouter shardingRouter;
+    
+    @Before
+    public void setUp() {
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(createDataSourceMetas(), createTableMetas());
+        shardingRouter = new ShardingRouter(createBasedShardingRule(), new ShardingSphereProperties(new Properties()), metaData, SQLParserEngineFactory.getSQLParserEngine("MySQL"), routePlanCache);
+    }
+    
+    private DataSourceMetas createDataSourceMetas() {
+        Map<String, DatabaseAccessConfiguration> databaseAccessConfigurationMap = new HashMap<>(2, 1);
+        databaseAccessConfigurationMap.put("ds_0", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/ds_0", "test", null));
+        databaseAccessConfigurationMap.put("ds_1", new DatabaseAccessConfiguration("jdbc:mysql://127.0.0.1:3306/ds_1", "test", null));
+        return new DataSourceMetas(DatabaseTypes.getActualDatabaseType("MySQL"), databaseAccessConfigurationMap);
+    }
+    
+    private TableMetas createTableMetas() {
+        Map<String, TableMetaData> tableMetaDataMap = new HashMap<>(1, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(
+                new ColumnMetaData("order_id", "int", true), new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "int", false)), Collections.<String>emptySet()));
+        return new TableMetas(tableMetaDataMap);
+    }
+    
+    @Test
+    public void assertRouteWithCachedRoutePlan() {
+        String sql = "SELECT order_id, status FROM t_order WHERE user_id = ? AND order_id = ?";
+        ShardingRouteContext actual1 = shardingRouter.route(sql, Arrays.<Object>asList(0, 1), true);
+        ShardingRouteContext actual2 = shardingRouter.route(sql, Arrays.<Object>asList(1, 0), true);
+        assertSingleRouteUnit(actual1, "ds_0", "t_order_1");
+        assertSingleRouteUnit(actual2, "ds_1", "t_order_0");
+        assertThat(routePlanCache.size(), is(1L));
+        assertThat(actual2.getSqlStatementContext(), not(sameInstance(actual1.getSqlStatementContext())));
+    }
+    
+    @Test
+    public void assertRouteUpdateWithCachedRoutePlan() {
+        String sql = "UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?";
+        ShardingRouteContext actual1 = shardingRouter.route(sql, Arrays.<Object>asList(1, 0, 1), true);
+        ShardingRouteContext actual2 = shardingRouter.route(sql, Arrays.<Object>asList(1, 1, 0), true);
+        assertSingleRouteUnit(actual1, "ds_0", "t_order_1");
+        assertSingleRouteUnit(actual2, "ds_1", "t_order_0");
+        assertThat(routePlanCache.size(), is(1L));
+    }
+    
+    @Test
+    public void assertRouteWithPaginationWithCachedRoutePlan() {
+        String sql = "SELECT order_id, status FROM t_order WHERE user_id = ? AND order_id = ? LIMIT ?";
+        ShardingRouteContext actual1 = shardingRouter.route(sql, Arrays.<Object>asList(0, 1, 10), true);
+        ShardingRouteContext actual2 = shardingRouter.route(sql, Arrays.<Object>asList(1, 0, 20), true);
+        assertSingleRouteUnit(actual1, "ds_0", "t_order_1");
+        assertSingleRouteUnit(actual2, "ds_1", "t_order_0");
+    }
+    
+    @Test
+    public void assertRouteWithDifferentSQL() {
+        shardingRouter.route("SELECT order_id FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList(0, 1), true);
+        ShardingRouteContext actual = shardingRouter.route("SELECT status FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList(0, 1), true);
+        assertSingleRouteUnit(actual, "ds_0", "t_order_1");
+        assertThat(routePlanCache.size(), is(2L));
+    }
+    
+    @Test
+    public void assertRouteAfterRoutePlanCacheCleared() {
+        String sql = "SELECT order_id, status FROM t_order WHERE user_id = ? AND order_id = ?";
+        shardingRouter.route(sql, Arrays.<Object>asList(0, 1), true);
+        routePlanCache.clear();
+        assertFalse(routePlanCache.getRoutePlan(sql).isPresent());
+        assertSingleRouteUnit(shardingRouter.route(sql, Arrays.<Object>asList(1, 0), true), "ds_1", "t_order_0");
+        assertTrue(routePlanCache.getRoutePlan(sql).isPresent());
+    }
+    
+    @Test
+    public void assertRouteWithoutCache() {
+        String sql = "SELECT order_id, status FROM t_order WHERE user_id = ? AND order_id = ?";
+        assertSingleRouteUnit(shardingRouter.route(sql, Arrays.<Object>asList(0, 1), false), "ds_0", "t_order_1");
+        assertThat(routePlanCache.size(), is(0L));
+    }
+    
+    private void assertSingleRouteUnit(final ShardingRouteContext actual, final String expectedDataSourceName, final String expectedTableName) {
+        List<RouteUnit> routeUnits = Arrays.asList(actual.getRouteResult().getRouteUnits().toArray(new RouteUnit[0]));
+        assertThat(routeUnits.size(), is(1));
+        assertThat(routeUnits.get(0).getActualDataSourceName(), is(expectedDataSourceName));
+        assertThat(routeUnits.get(0).getTableUnits().get(0).getActualTableName(), is(expectedTableName));
+    }
+}
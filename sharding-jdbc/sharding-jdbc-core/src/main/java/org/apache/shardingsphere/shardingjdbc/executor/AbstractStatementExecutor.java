@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingjdbc.executor;
 import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -29,6 +30,10 @@ import org.apache.shardingsphere.sharding.execute.metadata.loader.ShardingTableM
 import org.apache.shardingsphere.sharding.execute.sql.StatementExecuteUnit;
 import org.apache.shardingsphere.sharding.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.sharding.execute.sql.execute.SQLExecuteTemplate;
+import org.apache.shardingsphere.sharding.execute.sql.execute.result.MemoryQueryResult;
+import org.apache.shardingsphere.sharding.execute.sql.execute.result.PrefetchQueryResult;
+import org.apache.shardingsphere.sharding.execute.sql.execute.result.StreamQueryResult;
+import org.apache.shardingsphere.sharding.execute.sql.prepare.ConnectionModeAdvisor;
 import org.apache.shardingsphere.sharding.execute.sql.prepare.SQLExecutePrepareTemplate;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.context.ShardingRuntimeContext;
@@ -54,6 +59,11 @@ import org.apache.shardingsphere.underlying.common.metadata.table.TableMetas;
 import org.apache.shardingsphere.underlying.common.metadata.table.init.TableMetaDataInitializer;
 import org.apache.shardingsphere.underlying.common.metadata.table.init.TableMetaDataInitializerEntry;
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.executor.combiner.QueryResultCombiner;
+import org.apache.shardingsphere.underlying.executor.combiner.QueryResultCombinerFactory;
+import org.apache.shardingsphere.underlying.executor.combiner.SPIQueryResultCombinerFactory;
+import org.apache.shardingsphere.underlying.executor.constant.ConnectionMode;
 import org.apache.shardingsphere.underlying.executor.engine.ExecutorEngine;
 import org.apache.shardingsphere.underlying.executor.engine.InputGroup;
 
@@ -66,6 +76,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
@@ -87,16 +98,26 @@ public abstract class AbstractStatementExecutor {
     
     private final ShardingConnection connection;
     
+    private final ConnectionModeAdvisor connectionModeAdvisor;
+    
     private final SQLExecutePrepareTemplate sqlExecutePrepareTemplate;
     
     private final SQLExecuteTemplate sqlExecuteTemplate;
     
+    private final ExecutorEngine executorEngine;
+    
+    private final int streamPrefetchRows;
+    
     private final Collection<Connection> connections = new LinkedList<>();
     
     @Getter
     @Setter
     private SQLStatementContext sqlStatementContext;
     
+    @Getter(AccessLevel.PROTECTED)
+    @Setter(AccessLevel.PROTECTED)
+    private String logicSQL;
+    
     @Getter
     private final List<List<Object>> parameterSets = new LinkedList<>();
     
@@ -108,15 +129,25 @@ public abstract class AbstractStatementExecutor {
     
     private final Collection<InputGroup<StatementExecuteUnit>> inputGroups = new LinkedList<>();
     
+    private final Collection<StreamQueryResult> streamQueryResults = new ConcurrentLinkedQueue<>();
+    
+    private final Collection<PrefetchQueryResult> prefetchQueryResults = new ConcurrentLinkedQueue<>();
+    
+    private final QueryResultCombinerFactory queryResultCombinerFactory = new SPIQueryResultCombinerFactory();
+    
+    private QueryResultCombiner queryResultCombiner;
+    
     public AbstractStatementExecutor(final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final ShardingConnection shardingConnection) {
         this.databaseType = shardingConnection.getRuntimeContext().getDatabaseType();
         this.resultSetType = resultSetType;
         this.resultSetConcurrency = resultSetConcurrency;
         this.resultSetHoldability = resultSetHoldability;
         this.connection = shardingConnection;
+        executorEngine = connection.getRuntimeContext().getExecutorEngine();
+        streamPrefetchRows = connection.getRuntimeContext().getProperties().<Integer>getValue(PropertiesConstant.SQL_MERGE_STREAM_PREFETCH_ROWS);
+        connectionModeAdvisor = connection.getRuntimeContext().getConnectionModeAdvisor();
         int maxConnectionsSizePerQuery = connection.getRuntimeContext().getProperties().<Integer>getValue(PropertiesConstant.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        ExecutorEngine executorEngine = connection.getRuntimeContext().getExecutorEngine();
-        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery);
+        sqlExecutePrepareTemplate = new SQLExecutePrepareTemplate(maxConnectionsSizePerQuery, connectionModeAdvisor);
         sqlExecuteTemplate = new SQLExecuteTemplate(executorEngine, connection.isHoldTransaction());
     }
     
@@ -139,6 +170,39 @@ public abstract class AbstractStatementExecutor {
         }
     }
     
+    protected final void initQueryResultCombiner() {
+        queryResultCombiner = queryResultCombinerFactory.newInstance(sqlStatementContext, statements.size(), connection.getRuntimeContext().getProperties()).orNull();
+    }
+    
+    protected final QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
+        if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
+            return null == queryResultCombiner ? createMemoryQueryResult(resultSet) : queryResultCombiner.combine(new StreamQueryResult(resultSet));
+        }
+        return streamPrefetchRows > 0 ? createPrefetchQueryResult(resultSet) : createStreamQueryResult(resultSet);
+    }
+    
+    private QueryResult createPrefetchQueryResult(final ResultSet resultSet) throws SQLException {
+        PrefetchQueryResult result = new PrefetchQueryResult(resultSet, executorEngine, streamPrefetchRows);
+        prefetchQueryResults.add(result);
+        return result;
+    }
+    
+    private QueryResult createMemoryQueryResult(final ResultSet resultSet) throws SQLException {
+        MemoryQueryResult result = new MemoryQueryResult(resultSet);
+        if (null != connectionModeAdvisor) {
+            connectionModeAdvisor.record(logicSQL, result.getRowCount());
+        }
+        return result;
+    }
+    
+    private QueryResult createStreamQueryResult(final ResultSet resultSet) throws SQLException {
+        StreamQueryResult result = new StreamQueryResult(resultSet);
+        if (null != connectionModeAdvisor) {
+            streamQueryResults.add(result);
+        }
+        return result;
+    }
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -157,6 +221,18 @@ public abstract class AbstractStatementExecutor {
         return result;
     }
     
+    /**
+     * Execute callback asynchronously.
+     *
+     * @param executeCallback execute callback
+     * @param <T> class type of return value
+     * @return future of result
+     */
+    @SuppressWarnings("unchecked")
+    protected final <T> ListenableFuture<List<T>> executeCallbackAsync(final SQLExecuteCallback<T> executeCallback) {
+        return sqlExecuteTemplate.executeAsync((Collection) inputGroups, executeCallback);
+    }
+    
     /**
      * is accumulate.
      * 
@@ -172,7 +248,9 @@ public abstract class AbstractStatementExecutor {
      * @throws SQLException SQL exception
      */
     public void clear() throws SQLException {
-        clearStatements();
+        closeQueryResults();
+        recordStreamQueryResultRowCounts();
+        closeStatements();
         statements.clear();
         parameterSets.clear();
         connections.clear();
@@ -180,7 +258,27 @@ public abstract class AbstractStatementExecutor {
         inputGroups.clear();
     }
     
-    private void clearStatements() throws SQLException {
+    /**
+     * Close query results, rows being prefetched by executor are waited for.
+     */
+    public final void closeQueryResults() {
+        for (PrefetchQueryResult each : prefetchQueryResults) {
+            each.close();
+        }
+        prefetchQueryResults.clear();
+    }
+    
+    private void recordStreamQueryResultRowCounts() {
+        for (StreamQueryResult each : streamQueryResults) {
+            Optional<Integer> rowCount = each.getRowCount();
+            if (rowCount.isPresent()) {
+                connectionModeAdvisor.record(logicSQL, rowCount.get());
+            }
+        }
+        streamQueryResults.clear();
+    }
+    
+    protected void closeStatements() throws SQLException {
         for (Statement each : getStatements()) {
             each.close();
         }
@@ -200,7 +298,11 @@ public abstract class AbstractStatementExecutor {
             refreshTableMetaData(runtimeContext, ((CreateIndexStatementContext) sqlStatementContext).getSqlStatement());
         } else if (sqlStatementContext instanceof DropIndexStatementContext) {
             refreshTableMetaData(runtimeContext, ((DropIndexStatementContext) sqlStatementContext).getSqlStatement());
+        } else {
+            return;
         }
+        runtimeContext.getSqlTemplateCache().clear();
+        runtimeContext.getRoutePlanCache().clear();
     }
     
     private void refreshTableMetaData(final ShardingRuntimeContext runtimeContext, final CreateTableStatement createTableStatement) throws SQLException {
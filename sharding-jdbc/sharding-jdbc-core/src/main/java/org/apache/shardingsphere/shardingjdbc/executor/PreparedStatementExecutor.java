@@ -17,14 +17,15 @@
 
 package org.apache.shardingsphere.shardingjdbc.executor;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import lombok.Getter;
 import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
 import org.apache.shardingsphere.sharding.execute.sql.StatementExecuteUnit;
 import org.apache.shardingsphere.sharding.execute.sql.execute.SQLExecuteCallback;
-import org.apache.shardingsphere.sharding.execute.sql.execute.result.MemoryQueryResult;
-import org.apache.shardingsphere.sharding.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.sharding.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
-import org.apache.shardingsphere.sharding.execute.sql.prepare.SQLExecutePrepareCallback;
+import org.apache.shardingsphere.sharding.execute.sql.prepare.AdvisedSQLExecutePrepareCallback;
+import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteCallback;
+import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.executor.ForceExecuteTemplate;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.executor.constant.ConnectionMode;
@@ -37,16 +38,30 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 
 /**
  * Prepared statement executor.
  */
 public final class PreparedStatementExecutor extends AbstractStatementExecutor {
     
+    private static final int MAX_CACHED_STATEMENTS_PER_CONNECTION = 64;
+    
     @Getter
     private final boolean returnGeneratedKeys;
     
+    private final Map<Connection, Map<String, PreparedStatement>> cachedStatements = new HashMap<>();
+    
+    private final Set<PreparedStatement> executingCachedStatements = new HashSet<>();
+    
     public PreparedStatementExecutor(
             final int resultSetType, final int resultSetConcurrency, final int resultSetHoldability, final boolean returnGeneratedKeys, final ShardingConnection shardingConnection) {
         super(resultSetType, resultSetConcurrency, resultSetHoldability, shardingConnection);
@@ -61,25 +76,90 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
      */
     public void init(final ShardingExecutionContext shardingExecutionContext) throws SQLException {
         setSqlStatementContext(shardingExecutionContext.getSqlStatementContext());
+        setLogicSQL(isParameterized(shardingExecutionContext.getExecutionUnits()) ? null : shardingExecutionContext.getLogicSQL());
+        removeCachedStatementsOfClosedConnections();
         getInputGroups().addAll(obtainExecuteGroups(shardingExecutionContext.getExecutionUnits()));
         cacheStatements();
     }
     
+    private boolean isParameterized(final Collection<ExecutionUnit> executionUnits) {
+        for (ExecutionUnit each : executionUnits) {
+            if (!each.getSqlUnit().getParameters().isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void removeCachedStatementsOfClosedConnections() throws SQLException {
+        Iterator<Connection> connections = cachedStatements.keySet().iterator();
+        while (connections.hasNext()) {
+            if (connections.next().isClosed()) {
+                connections.remove();
+            }
+        }
+    }
+    
     private Collection<InputGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<ExecutionUnit> executionUnits) throws SQLException {
-        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(executionUnits, new SQLExecutePrepareCallback() {
+        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(getLogicSQL(), executionUnits, new AdvisedSQLExecutePrepareCallback() {
             
             @Override
             public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
                 return PreparedStatementExecutor.super.getConnection().getConnections(connectionMode, dataSourceName, connectionSize);
             }
             
+            @Override
+            public int getHeldConnectionSize(final String dataSourceName) {
+                return PreparedStatementExecutor.super.getConnection().getHeldConnectionSize(dataSourceName);
+            }
+            
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final ExecutionUnit executionUnit, final ConnectionMode connectionMode) throws SQLException {
-                return new StatementExecuteUnit(executionUnit, createPreparedStatement(connection, executionUnit.getSqlUnit().getSql()), connectionMode);
+                return new StatementExecuteUnit(executionUnit, getPreparedStatement(connection, executionUnit.getSqlUnit().getSql()), connectionMode);
             }
         });
     }
     
+    private PreparedStatement getPreparedStatement(final Connection connection, final String sql) throws SQLException {
+        Map<String, PreparedStatement> statements = cachedStatements.get(connection);
+        if (null == statements) {
+            statements = createCachedStatements();
+            cachedStatements.put(connection, statements);
+        }
+        PreparedStatement cachedStatement = statements.get(sql);
+        if (null != cachedStatement && !cachedStatement.isClosed()) {
+            return executingCachedStatements.add(cachedStatement) ? cachedStatement : createPreparedStatement(connection, sql);
+        }
+        PreparedStatement result = createPreparedStatement(connection, sql);
+        statements.put(sql, result);
+        executingCachedStatements.add(result);
+        return result;
+    }
+    
+    private Map<String, PreparedStatement> createCachedStatements() {
+        return new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+            
+            @Override
+            protected boolean removeEldestEntry(final Entry<String, PreparedStatement> eldest) {
+                if (size() <= MAX_CACHED_STATEMENTS_PER_CONNECTION) {
+                    return false;
+                }
+                evictCachedStatement(eldest.getValue());
+                return true;
+            }
+        };
+    }
+    
+    private void evictCachedStatement(final PreparedStatement statement) {
+        if (executingCachedStatements.remove(statement)) {
+            return;
+        }
+        try {
+            statement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
     @SuppressWarnings("MagicConstant")
     private PreparedStatement createPreparedStatement(final Connection connection, final String sql) throws SQLException {
         return returnGeneratedKeys ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
@@ -93,22 +173,36 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
      * @throws SQLException SQL exception
      */
     public List<QueryResult> executeQuery() throws SQLException {
+        initQueryResultCombiner();
+        return executeCallback(createQueryCallback());
+    }
+    
+    /**
+     * Execute query asynchronously.
+     *
+     * @return future of result set list
+     */
+    public ListenableFuture<List<QueryResult>> executeQueryAsync() {
+        initQueryResultCombiner();
+        return executeCallbackAsync(createQueryCallback());
+    }
+    
+    private SQLExecuteCallback<QueryResult> createQueryCallback() {
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
-        SQLExecuteCallback<QueryResult> executeCallback = new SQLExecuteCallback<QueryResult>(getDatabaseType(), isExceptionThrown) {
+        return new SQLExecuteCallback<QueryResult>(getDatabaseType(), isExceptionThrown) {
             
             @Override
             protected QueryResult executeSQL(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
                 return getQueryResult(statement, connectionMode);
             }
         };
-        return executeCallback(executeCallback);
     }
     
     private QueryResult getQueryResult(final Statement statement, final ConnectionMode connectionMode) throws SQLException {
         PreparedStatement preparedStatement = (PreparedStatement) statement;
         ResultSet resultSet = preparedStatement.executeQuery();
         getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return createQueryResult(resultSet, connectionMode);
     }
     
     /**
@@ -151,4 +245,50 @@ public final class PreparedStatementExecutor extends AbstractStatementExecutor {
         }
         return result.get(0);
     }
+    
+    @Override
+    protected void closeStatements() throws SQLException {
+        try {
+            for (Statement each : getStatements()) {
+                if (executingCachedStatements.contains(each)) {
+                    closeResultSetIfStatementNotClosed(each);
+                } else {
+                    each.close();
+                }
+            }
+        } finally {
+            executingCachedStatements.clear();
+        }
+    }
+    
+    private void closeResultSetIfStatementNotClosed(final Statement statement) throws SQLException {
+        if (statement.isClosed()) {
+            return;
+        }
+        ResultSet resultSet = statement.getResultSet();
+        if (null != resultSet) {
+            resultSet.close();
+        }
+    }
+    
+    /**
+     * Close cached prepared statements.
+     *
+     * @throws SQLException SQL exception
+     */
+    public void closeCachedStatements() throws SQLException {
+        Collection<PreparedStatement> statements = new LinkedList<>();
+        for (Map<String, PreparedStatement> each : cachedStatements.values()) {
+            statements.addAll(each.values());
+        }
+        cachedStatements.clear();
+        executingCachedStatements.clear();
+        new ForceExecuteTemplate<PreparedStatement>().execute(statements, new ForceExecuteCallback<PreparedStatement>() {
+            
+            @Override
+            public void execute(final PreparedStatement statement) throws SQLException {
+                statement.close();
+            }
+        });
+    }
 }
@@ -20,10 +20,8 @@ package org.apache.shardingsphere.shardingjdbc.executor;
 import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
 import org.apache.shardingsphere.sharding.execute.sql.StatementExecuteUnit;
 import org.apache.shardingsphere.sharding.execute.sql.execute.SQLExecuteCallback;
-import org.apache.shardingsphere.sharding.execute.sql.execute.result.MemoryQueryResult;
-import org.apache.shardingsphere.sharding.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.sharding.execute.sql.execute.threadlocal.ExecutorExceptionHandler;
-import org.apache.shardingsphere.sharding.execute.sql.prepare.SQLExecutePrepareCallback;
+import org.apache.shardingsphere.sharding.execute.sql.prepare.AdvisedSQLExecutePrepareCallback;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.executor.constant.ConnectionMode;
@@ -54,18 +52,24 @@ public final class StatementExecutor extends AbstractStatementExecutor {
      */
     public void init(final ShardingExecutionContext shardingExecutionContext) throws SQLException {
         setSqlStatementContext(shardingExecutionContext.getSqlStatementContext());
+        setLogicSQL(shardingExecutionContext.getLogicSQL());
         getInputGroups().addAll(obtainExecuteGroups(shardingExecutionContext.getExecutionUnits()));
         cacheStatements();
     }
     
     private Collection<InputGroup<StatementExecuteUnit>> obtainExecuteGroups(final Collection<ExecutionUnit> executionUnits) throws SQLException {
-        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(executionUnits, new SQLExecutePrepareCallback() {
+        return getSqlExecutePrepareTemplate().getExecuteUnitGroups(getLogicSQL(), executionUnits, new AdvisedSQLExecutePrepareCallback() {
             
             @Override
             public List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
                 return StatementExecutor.super.getConnection().getConnections(connectionMode, dataSourceName, connectionSize);
             }
-    
+            
+            @Override
+            public int getHeldConnectionSize(final String dataSourceName) {
+                return StatementExecutor.super.getConnection().getHeldConnectionSize(dataSourceName);
+            }
+            
             @SuppressWarnings("MagicConstant")
             @Override
             public StatementExecuteUnit createStatementExecuteUnit(final Connection connection, final ExecutionUnit executionUnit, final ConnectionMode connectionMode) throws SQLException {
@@ -81,6 +85,7 @@ public final class StatementExecutor extends AbstractStatementExecutor {
      * @throws SQLException SQL exception
      */
     public List<QueryResult> executeQuery() throws SQLException {
+        initQueryResultCombiner();
         final boolean isExceptionThrown = ExecutorExceptionHandler.isExceptionThrown();
         SQLExecuteCallback<QueryResult> executeCallback = new SQLExecuteCallback<QueryResult>(getDatabaseType(), isExceptionThrown) {
             
@@ -95,7 +100,7 @@ public final class StatementExecutor extends AbstractStatementExecutor {
     private QueryResult getQueryResult(final String sql, final Statement statement, final ConnectionMode connectionMode) throws SQLException {
         ResultSet resultSet = statement.executeQuery(sql);
         getResultSets().add(resultSet);
-        return ConnectionMode.MEMORY_STRICTLY == connectionMode ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        return createQueryResult(resultSet, connectionMode);
     }
     
     /**
@@ -17,9 +17,12 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.adapter;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.LinkedHashMultimap;
-import com.google.common.collect.Multimap;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Iterables;
 import lombok.Getter;
 import org.apache.shardingsphere.underlying.executor.constant.ConnectionMode;
 import org.apache.shardingsphere.underlying.common.hook.RootInvokeHook;
@@ -35,26 +38,54 @@ import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLWarning;
+import java.util.AbstractCollection;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Adapter for {@code Connection}.
  */
 public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOperationConnection {
     
-    @Getter
-    private final Multimap<String, Connection> cachedConnections = LinkedHashMultimap.create();
+    private static final LoadingCache<DataSource, Lock> BATCH_ACQUIRE_LOCKS = CacheBuilder.newBuilder().weakKeys().build(new CacheLoader<DataSource, Lock>() {
+        
+        @Override
+        public Lock load(final DataSource dataSource) {
+            return new ReentrantLock();
+        }
+    });
+    
+    private final ConcurrentMap<String, List<Connection>> cachedConnections = new ConcurrentHashMap<>();
+    
+    private final Collection<Connection> cachedConnectionsView = new AbstractCollection<Connection>() {
+        
+        @Override
+        public Iterator<Connection> iterator() {
+            return Iterables.concat(cachedConnections.values()).iterator();
+        }
+        
+        @Override
+        public int size() {
+            int result = 0;
+            for (List<Connection> each : cachedConnections.values()) {
+                result += each.size();
+            }
+            return result;
+        }
+    };
     
     @Getter
     private final ForceExecuteTemplate<Connection> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
-    private final ForceExecuteTemplate<Entry<String, Connection>> forceExecuteTemplateForClose = new ForceExecuteTemplate<>();
-    
     private final RootInvokeHook rootInvokeHook = new SPIRootInvokeHook();
     
     private boolean autoCommit = true;
@@ -92,31 +123,32 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     public final List<Connection> getConnections(final ConnectionMode connectionMode, final String dataSourceName, final int connectionSize) throws SQLException {
         DataSource dataSource = getDataSourceMap().get(dataSourceName);
         Preconditions.checkState(null != dataSource, "Missing the data source name: '%s'", dataSourceName);
-        Collection<Connection> connections;
-        synchronized (cachedConnections) {
-            connections = cachedConnections.get(dataSourceName);
+        List<Connection> connections = getOrCreateCachedConnections(dataSourceName);
+        List<Connection> result = new ArrayList<>(connectionSize);
+        for (Connection each : connections) {
+            if (result.size() == connectionSize) {
+                break;
+            }
+            result.add(each);
         }
-        List<Connection> result;
-        if (connections.size() >= connectionSize) {
-            result = new ArrayList<>(connections).subList(0, connectionSize);
-        } else if (!connections.isEmpty()) {
-            result = new ArrayList<>(connectionSize);
-            result.addAll(connections);
-            List<Connection> newConnections = createConnections(dataSourceName, connectionMode, dataSource, connectionSize - connections.size());
+        if (result.size() < connectionSize) {
+            List<Connection> newConnections = createConnections(dataSourceName, connectionMode, dataSource, connectionSize - result.size());
+            connections.addAll(newConnections);
             result.addAll(newConnections);
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, newConnections);
-            }
-        } else {
-            result = new ArrayList<>(createConnections(dataSourceName, connectionMode, dataSource, connectionSize));
-            synchronized (cachedConnections) {
-                cachedConnections.putAll(dataSourceName, result);
-            }
         }
         return result;
     }
     
-    @SuppressWarnings("SynchronizationOnLocalVariableOrMethodParameter")
+    private List<Connection> getOrCreateCachedConnections(final String dataSourceName) {
+        List<Connection> result = cachedConnections.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        List<Connection> connections = new CopyOnWriteArrayList<>();
+        result = cachedConnections.putIfAbsent(dataSourceName, connections);
+        return null == result ? connections : result;
+    }
+    
     private List<Connection> createConnections(final String dataSourceName, final ConnectionMode connectionMode, final DataSource dataSource, final int connectionSize) throws SQLException {
         if (1 == connectionSize) {
             Connection connection = createConnection(dataSourceName, dataSource);
@@ -126,8 +158,12 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         if (ConnectionMode.CONNECTION_STRICTLY == connectionMode) {
             return createConnections(dataSourceName, dataSource, connectionSize);
         }
-        synchronized (dataSource) {
+        Lock lock = BATCH_ACQUIRE_LOCKS.getUnchecked(dataSource);
+        lock.lock();
+        try {
             return createConnections(dataSourceName, dataSource, connectionSize);
+        } finally {
+            lock.unlock();
         }
     }
     
@@ -150,6 +186,58 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     protected abstract Connection createConnection(String dataSourceName, DataSource dataSource) throws SQLException;
     
+    /**
+     * Get size of connections held for data source.
+     *
+     * @param dataSourceName data source name
+     * @return size of held connections
+     */
+    public final int getHeldConnectionSize(final String dataSourceName) {
+        List<Connection> connections = cachedConnections.get(dataSourceName);
+        return null == connections ? 0 : connections.size();
+    }
+    
+    /**
+     * Get cached connections of all data sources.
+     * 
+     * <p>
+     * Cached connections are a read only view of connections held for data sources, which is not copied for every call.
+     * </p>
+     *
+     * @return cached connections
+     */
+    public final Collection<Connection> getCachedConnections() {
+        return cachedConnectionsView;
+    }
+    
+    /**
+     * Find first cached connection.
+     *
+     * @return first cached connection
+     */
+    protected final Optional<Connection> findFirstCachedConnection() {
+        for (List<Connection> each : cachedConnections.values()) {
+            if (!each.isEmpty()) {
+                return Optional.of(each.get(0));
+            }
+        }
+        return Optional.absent();
+    }
+    
+    protected final void closeCachedConnections() throws SQLException {
+        try {
+            forceExecuteTemplate.execute(getCachedConnections(), new ForceExecuteCallback<Connection>() {
+                
+                @Override
+                public void execute(final Connection connection) throws SQLException {
+                    connection.close();
+                }
+            });
+        } finally {
+            cachedConnections.clear();
+        }
+    }
+    
     protected abstract Map<String, DataSource> getDataSourceMap();
     
     @Override
@@ -165,7 +253,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     private void setAutoCommitForLocalTransaction(final boolean autoCommit) throws SQLException {
         recordMethodInvocation(Connection.class, "setAutoCommit", new Class[]{boolean.class}, new Object[]{autoCommit});
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
+        forceExecuteTemplate.execute(getCachedConnections(), new ForceExecuteCallback<Connection>() {
             
             @Override
             public void execute(final Connection connection) throws SQLException {
@@ -176,8 +264,8 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public void commit() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
-        
+        forceExecuteTemplate.execute(getCachedConnections(), new ForceExecuteCallback<Connection>() {
+            
             @Override
             public void execute(final Connection connection) throws SQLException {
                 connection.commit();
@@ -187,8 +275,8 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public void rollback() throws SQLException {
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
-        
+        forceExecuteTemplate.execute(getCachedConnections(), new ForceExecuteCallback<Connection>() {
+            
             @Override
             public void execute(final Connection connection) throws SQLException {
                 connection.rollback();
@@ -201,17 +289,10 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
         closed = true;
         MasterVisitedManager.clear();
         TransactionTypeHolder.clear();
-        int connectionSize = cachedConnections.size();
+        int connectionSize = getCachedConnections().size();
         try {
-            forceExecuteTemplateForClose.execute(cachedConnections.entries(), new ForceExecuteCallback<Entry<String, Connection>>() {
-        
-                @Override
-                public void execute(final Entry<String, Connection> cachedConnections) throws SQLException {
-                    cachedConnections.getValue().close();
-                }
-            });
+            closeCachedConnections();
         } finally {
-            cachedConnections.clear();
             rootInvokeHook.finish(connectionSize);
         }
     }
@@ -230,7 +311,7 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     public final void setReadOnly(final boolean readOnly) throws SQLException {
         this.readOnly = readOnly;
         recordMethodInvocation(Connection.class, "setReadOnly", new Class[]{boolean.class}, new Object[]{readOnly});
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
+        forceExecuteTemplate.execute(getCachedConnections(), new ForceExecuteCallback<Connection>() {
             
             @Override
             public void execute(final Connection connection) throws SQLException {
@@ -241,17 +322,15 @@ public abstract class AbstractConnectionAdapter extends AbstractUnsupportedOpera
     
     @Override
     public final int getTransactionIsolation() throws SQLException {
-        if (cachedConnections.values().isEmpty()) {
-            return transactionIsolation;
-        }
-        return cachedConnections.values().iterator().next().getTransactionIsolation();
+        Optional<Connection> connection = findFirstCachedConnection();
+        return connection.isPresent() ? connection.get().getTransactionIsolation() : transactionIsolation;
     }
     
     @Override
     public final void setTransactionIsolation(final int level) throws SQLException {
         transactionIsolation = level;
         recordMethodInvocation(Connection.class, "setTransactionIsolation", new Class[]{int.class}, new Object[]{level});
-        forceExecuteTemplate.execute(cachedConnections.values(), new ForceExecuteCallback<Connection>() {
+        forceExecuteTemplate.execute(getCachedConnections(), new ForceExecuteCallback<Connection>() {
             
             @Override
             public void execute(final Connection connection) throws SQLException {
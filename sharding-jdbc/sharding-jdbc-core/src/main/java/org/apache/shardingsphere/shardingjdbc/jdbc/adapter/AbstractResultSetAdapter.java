@@ -113,6 +113,10 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
+        if (statement instanceof AbstractStatementAdapter) {
+            ((AbstractStatementAdapter) statement).closeQueryResults();
+        }
+        closeMergedResult();
         forceExecuteTemplate.execute(resultSets, new ForceExecuteCallback<ResultSet>() {
             
             @Override
@@ -122,6 +126,14 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
         });
     }
     
+    /**
+     * Close merged result which may hold resources such as temporary files.
+     *
+     * @throws SQLException SQL exception
+     */
+    protected void closeMergedResult() throws SQLException {
+    }
+    
     @Override
     public final boolean isClosed() {
         return closed;
@@ -47,6 +47,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
+        closeQueryResults();
         try {
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), new ForceExecuteCallback<Statement>() {
         
@@ -58,6 +59,21 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
         } finally {
             getRoutedStatements().clear();
         }
+        closeCachedStatements();
+    }
+    
+    /**
+     * Close query results which may be still fetching rows from routed statements.
+     */
+    protected void closeQueryResults() {
+    }
+    
+    /**
+     * Close statements which are cached for reuse across executions.
+     *
+     * @throws SQLException SQL exception
+     */
+    protected void closeCachedStatements() throws SQLException {
     }
     
     @Override
@@ -27,4 +27,6 @@ import lombok.NoArgsConstructor;
 public final class SQLExceptionConstant {
     
     public static final String SQL_STRING_NULL_OR_EMPTY = "SQL String can not be NULL or empty.";
+    
+    public static final String ASYNC_QUERY_NOT_DONE = "Statement can not be executed before its asynchronous query is done.";
 }
@@ -19,9 +19,11 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.context;
 
 import lombok.Getter;
 import org.apache.shardingsphere.core.log.ConfigurationLogger;
+import org.apache.shardingsphere.sharding.execute.sql.prepare.ConnectionModeAdvisor;
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
@@ -49,16 +51,26 @@ public abstract class AbstractRuntimeContext<T extends BaseRule> implements Runt
     
     private final SQLParserEngine sqlParserEngine;
     
+    private final ConnectionModeAdvisor connectionModeAdvisor;
+    
     protected AbstractRuntimeContext(final T rule, final Properties props, final DatabaseType databaseType) {
         this.rule = rule;
         this.properties = new ShardingSphereProperties(null == props ? new Properties() : props);
         this.databaseType = databaseType;
-        executorEngine = new ExecutorEngine(properties.<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE));
-        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType));
+        executorEngine = new ExecutorEngine(properties.<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE),
+                properties.<Integer>getValue(PropertiesConstant.EXECUTOR_DATA_SOURCE_SIZE), properties.<Integer>getValue(PropertiesConstant.EXECUTOR_DATA_SOURCE_QUEUE_SIZE));
+        connectionModeAdvisor = new ConnectionModeAdvisor(properties.<Integer>getValue(PropertiesConstant.MAX_BUFFERED_ROWS_PER_CONNECTION));
+        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(databaseType), createSQLParseResultCacheOption());
         ConfigurationLogger.log(rule.getRuleConfiguration());
         ConfigurationLogger.log(props);
     }
     
+    private SQLParseResultCacheOption createSQLParseResultCacheOption() {
+        return new SQLParseResultCacheOption(properties.<Integer>getValue(PropertiesConstant.SQL_PARSE_CACHE_INITIAL_CAPACITY),
+                properties.<Long>getValue(PropertiesConstant.SQL_PARSE_CACHE_MAXIMUM_SIZE), properties.<Long>getValue(PropertiesConstant.SQL_PARSE_CACHE_MAXIMUM_WEIGHT),
+                properties.<Long>getValue(PropertiesConstant.SQL_PARSE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS));
+    }
+    
     protected abstract ShardingSphereMetaData getMetaData();
     
     @Override
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.shardingjdbc.jdbc.core.resultset;
 
 import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
 import org.apache.shardingsphere.shardingjdbc.jdbc.adapter.AbstractResultSetAdapter;
+import org.apache.shardingsphere.underlying.merge.result.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
 import java.io.InputStream;
@@ -68,6 +69,13 @@ public final class ShardingResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.next();
     }
     
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        if (mergeResultSet instanceof CloseableMergedResult) {
+            ((CloseableMergedResult) mergeResultSet).close();
+        }
+    }
+    
     @Override
     public boolean wasNull() throws SQLException {
         return mergeResultSet.wasNull();
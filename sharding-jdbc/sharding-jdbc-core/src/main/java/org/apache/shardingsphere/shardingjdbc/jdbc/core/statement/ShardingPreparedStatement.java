@@ -22,7 +22,11 @@ import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.collect.Collections2;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.core.shard.BaseShardingEngine;
 import org.apache.shardingsphere.core.shard.PreparedQueryShardingEngine;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
@@ -58,6 +62,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 /**
  * PreparedStatement that support sharding.
@@ -79,7 +84,9 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     private ShardingExecutionContext shardingExecutionContext;
     
-    private ResultSet currentResultSet;
+    private volatile ResultSet currentResultSet;
+    
+    private volatile ListenableFuture<ResultSet> asyncQueryResult;
     
     public ShardingPreparedStatement(final ShardingConnection connection, final String sql) throws SQLException {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false);
@@ -106,19 +113,21 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         this.connection = connection;
         this.sql = sql;
         ShardingRuntimeContext runtimeContext = connection.getRuntimeContext();
-        shardingEngine = new PreparedQueryShardingEngine(runtimeContext.getRule(), runtimeContext.getProperties(), runtimeContext.getMetaData(), runtimeContext.getSqlParserEngine());
+        shardingEngine = new PreparedQueryShardingEngine(runtimeContext.getRule(), runtimeContext.getProperties(),
+                runtimeContext.getMetaData(), runtimeContext.getSqlParserEngine(), runtimeContext.getSqlTemplateCache(), runtimeContext.getRoutePlanCache());
         preparedStatementExecutor = new PreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
         batchPreparedStatementExecutor = new BatchPreparedStatementExecutor(resultSetType, resultSetConcurrency, resultSetHoldability, returnGeneratedKeys, connection);
     }
     
     @Override
     public ResultSet executeQuery() throws SQLException {
+        checkAsyncQueryDone();
         ResultSet result;
         try {
             clearPrevious();
             shard();
             initPreparedStatementExecutor();
-            result = getResultSet(preparedStatementExecutor.executeQuery());
+            result = getResultSet(preparedStatementExecutor.executeQuery(), shardingExecutionContext);
         } finally {
             clearBatch();
         }
@@ -126,8 +135,61 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         return result;
     }
     
+    /**
+     * Execute query asynchronously.
+     *
+     * <p>Route and connections acquiring are done on caller thread, physical statements are executed by executor engine.
+     * The returned future completes with merged result set after all shard results arrive.
+     * Statement can not be executed again before the returned future is done, and closing statement waits for it.</p>
+     *
+     * @return future of result set
+     * @throws SQLException SQL exception
+     */
+    public ListenableFuture<ResultSet> executeQueryAsync() throws SQLException {
+        checkAsyncQueryDone();
+        ListenableFuture<List<QueryResult>> queryResults;
+        try {
+            clearPrevious();
+            shard();
+            initPreparedStatementExecutor();
+            queryResults = preparedStatementExecutor.executeQueryAsync();
+        } finally {
+            clearBatch();
+        }
+        final ShardingExecutionContext executionContext = shardingExecutionContext;
+        asyncQueryResult = Futures.transform(queryResults, new Function<List<QueryResult>, ResultSet>() {
+            
+            @SneakyThrows
+            @Override
+            public ResultSet apply(final List<QueryResult> input) {
+                currentResultSet = getResultSet(input, executionContext);
+                return currentResultSet;
+            }
+        }, MoreExecutors.directExecutor());
+        return asyncQueryResult;
+    }
+    
+    private void checkAsyncQueryDone() throws SQLException {
+        if (null != asyncQueryResult && !asyncQueryResult.isDone()) {
+            throw new SQLException(SQLExceptionConstant.ASYNC_QUERY_NOT_DONE);
+        }
+    }
+    
+    private void awaitAsyncQueryDone() {
+        if (null == asyncQueryResult) {
+            return;
+        }
+        try {
+            asyncQueryResult.get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ignored) {
+        }
+    }
+    
     @Override
     public ResultSet getResultSet() throws SQLException {
+        checkAsyncQueryDone();
         if (null != currentResultSet) {
             return currentResultSet;
         }
@@ -141,18 +203,18 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
             }
         }
         if (shardingExecutionContext.getSqlStatementContext() instanceof SelectStatementContext || shardingExecutionContext.getSqlStatementContext().getSqlStatement() instanceof DALStatement) {
-            currentResultSet = new ShardingResultSet(resultSets, createMergedResult(resultSets, queryResults), this, shardingExecutionContext);
+            currentResultSet = new ShardingResultSet(resultSets, createMergedResult(resultSets, queryResults, shardingExecutionContext), this, shardingExecutionContext);
             
         }
         return currentResultSet;
     }
     
-    private ShardingResultSet getResultSet(final List<QueryResult> queryResults) throws SQLException {
+    private ShardingResultSet getResultSet(final List<QueryResult> queryResults, final ShardingExecutionContext executionContext) throws SQLException {
         List<ResultSet> resultSets = preparedStatementExecutor.getResultSets();
-        return new ShardingResultSet(resultSets, createMergedResult(resultSets, queryResults), this, shardingExecutionContext);
+        return new ShardingResultSet(resultSets, createMergedResult(resultSets, queryResults, executionContext), this, executionContext);
     }
     
-    private MergedResult createMergedResult(final List<ResultSet> resultSets, final List<QueryResult> queryResults) throws SQLException {
+    private MergedResult createMergedResult(final List<ResultSet> resultSets, final List<QueryResult> queryResults, final ShardingExecutionContext executionContext) throws SQLException {
         Map<BaseRule, ResultProcessEngine> engines = new HashMap<>(2, 1);
         engines.put(connection.getRuntimeContext().getRule(), new ShardingResultMergerEngine());
         EncryptRule encryptRule = connection.getRuntimeContext().getRule().getEncryptRule();
@@ -161,11 +223,12 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         }
         MergeEntry mergeEntry = new MergeEntry(connection.getRuntimeContext().getDatabaseType(),
                 connection.getRuntimeContext().getMetaData().getRelationMetas(), connection.getRuntimeContext().getProperties(), engines);
-        return mergeEntry.process(queryResults, shardingExecutionContext.getSqlStatementContext());
+        return mergeEntry.process(queryResults, executionContext.getSqlStatementContext());
     }
     
     @Override
     public int executeUpdate() throws SQLException {
+        checkAsyncQueryDone();
         try {
             clearPrevious();
             shard();
@@ -178,6 +241,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     @Override
     public boolean execute() throws SQLException {
+        checkAsyncQueryDone();
         try {
             clearPrevious();
             shard();
@@ -228,6 +292,17 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
         preparedStatementExecutor.clear();
     }
     
+    @Override
+    protected void closeQueryResults() {
+        awaitAsyncQueryDone();
+        preparedStatementExecutor.closeQueryResults();
+    }
+    
+    @Override
+    protected void closeCachedStatements() throws SQLException {
+        preparedStatementExecutor.closeCachedStatements();
+    }
+    
     @Override
     public void addBatch() {
         try {
@@ -249,6 +324,7 @@ public final class ShardingPreparedStatement extends AbstractShardingPreparedSta
     
     @Override
     public int[] executeBatch() throws SQLException {
+        checkAsyncQueryDone();
         try {
             initBatchPreparedStatementExecutor();
             return batchPreparedStatementExecutor.executeBatch();
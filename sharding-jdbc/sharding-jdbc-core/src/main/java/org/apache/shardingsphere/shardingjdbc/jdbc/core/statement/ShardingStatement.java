@@ -259,7 +259,8 @@ public final class ShardingStatement extends AbstractStatementAdapter {
     
     private void shard(final String sql) {
         ShardingRuntimeContext runtimeContext = connection.getRuntimeContext();
-        BaseShardingEngine shardingEngine = new SimpleQueryShardingEngine(runtimeContext.getRule(), runtimeContext.getProperties(), runtimeContext.getMetaData(), runtimeContext.getSqlParserEngine());
+        BaseShardingEngine shardingEngine = new SimpleQueryShardingEngine(runtimeContext.getRule(), runtimeContext.getProperties(),
+                runtimeContext.getMetaData(), runtimeContext.getSqlParserEngine(), runtimeContext.getSqlTemplateCache(), runtimeContext.getRoutePlanCache());
         shardingExecutionContext = (ShardingExecutionContext) shardingEngine.shard(sql, Collections.emptyList());
     }
     
@@ -267,6 +268,11 @@ public final class ShardingStatement extends AbstractStatementAdapter {
         statementExecutor.clear();
     }
     
+    @Override
+    protected void closeQueryResults() {
+        statementExecutor.closeQueryResults();
+    }
+    
     @SuppressWarnings("MagicConstant")
     @Override
     public int getResultSetType() {
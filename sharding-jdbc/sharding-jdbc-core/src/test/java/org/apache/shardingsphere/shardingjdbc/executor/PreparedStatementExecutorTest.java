@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.shardingjdbc.executor;
 
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.sharding.execute.context.ShardingExecutionContext;
 import org.apache.shardingsphere.underlying.executor.constant.ConnectionMode;
 import org.apache.shardingsphere.underlying.executor.engine.InputGroup;
 import org.apache.shardingsphere.sharding.execute.sql.StatementExecuteUnit;
@@ -28,11 +29,13 @@ import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConne
 import org.junit.Test;
 
 import java.lang.reflect.Field;
+import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
@@ -42,11 +45,14 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -250,6 +256,98 @@ public final class PreparedStatementExecutorTest extends AbstractBaseExecutorTes
         verify(preparedStatement2).execute();
     }
     
+    @Test
+    public void assertReuseCachedPreparedStatementAfterClear() throws SQLException {
+        Connection connection = getConnection().getConnection("ds_0");
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(preparedStatement.getResultSet()).thenReturn(resultSet);
+        when(connection.prepareStatement(DQL_SQL, 1, 1, 1)).thenReturn(preparedStatement);
+        actual.init(getShardingExecutionContext());
+        actual.clear();
+        actual.init(getShardingExecutionContext());
+        assertThat(actual.getStatements(), is(Collections.<Statement>singletonList(preparedStatement)));
+        verify(connection).prepareStatement(DQL_SQL, 1, 1, 1);
+        verify(resultSet).close();
+        verify(preparedStatement, never()).close();
+    }
+    
+    @Test
+    public void assertNotReuseClosedPreparedStatement() throws SQLException {
+        Connection connection = getConnection().getConnection("ds_0");
+        PreparedStatement closedPreparedStatement = mock(PreparedStatement.class);
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(DQL_SQL, 1, 1, 1)).thenReturn(closedPreparedStatement, preparedStatement);
+        actual.init(getShardingExecutionContext());
+        when(closedPreparedStatement.isClosed()).thenReturn(true);
+        actual.clear();
+        actual.init(getShardingExecutionContext());
+        assertThat(actual.getStatements(), is(Collections.<Statement>singletonList(preparedStatement)));
+        verify(closedPreparedStatement, never()).getResultSet();
+    }
+    
+    @Test
+    public void assertCloseCachedPreparedStatements() throws SQLException {
+        Connection connection = getConnection().getConnection("ds_0");
+        PreparedStatement preparedStatement = mock(PreparedStatement.class);
+        when(connection.prepareStatement(DQL_SQL, 1, 1, 1)).thenReturn(preparedStatement);
+        actual.init(getShardingExecutionContext());
+        actual.clear();
+        actual.closeCachedStatements();
+        verify(preparedStatement).close();
+    }
+    
+    @Test
+    public void assertEvictCachedPreparedStatementWhenExceedMaxCachedStatements() throws SQLException {
+        Connection connection = getConnection().getConnection("ds_0");
+        ShardingExecutionContext shardingExecutionContext = new ShardingExecutionContext(DQL_SQL, getSQLStatementContext(), null);
+        List<PreparedStatement> preparedStatements = new LinkedList<>();
+        for (int i = 0; i < 65; i++) {
+            String sql = DQL_SQL + " WHERE id = " + i;
+            PreparedStatement preparedStatement = mock(PreparedStatement.class);
+            when(connection.prepareStatement(sql, 1, 1, 1)).thenReturn(preparedStatement);
+            preparedStatements.add(preparedStatement);
+            shardingExecutionContext.getExecutionUnits().add(new ExecutionUnit("ds_0", new SQLUnit(sql, Collections.<Object>singletonList(1))));
+        }
+        actual.init(shardingExecutionContext);
+        actual.clear();
+        verify(preparedStatements.get(0)).close();
+        verify(preparedStatements.get(64), never()).close();
+    }
+    
+    @Test
+    public void assertRemoveCachedPreparedStatementsOfClosedConnection() throws SQLException {
+        Connection connection = getConnection().getConnection("ds_0");
+        when(connection.prepareStatement(DQL_SQL, 1, 1, 1)).thenReturn(mock(PreparedStatement.class));
+        actual.init(getShardingExecutionContext());
+        actual.clear();
+        when(connection.isClosed()).thenReturn(true);
+        actual.init(getShardingExecutionContext());
+        verify(connection, times(2)).prepareStatement(DQL_SQL, 1, 1, 1);
+    }
+    
+    @Test
+    public void assertNotObserveParameterizedLogicSQL() throws SQLException {
+        when(getConnection().getConnection("ds_0").prepareStatement(DQL_SQL, 1, 1, 1)).thenReturn(mock(PreparedStatement.class));
+        actual.init(getShardingExecutionContext());
+        assertNull(actual.getLogicSQL());
+    }
+    
+    @Test
+    public void assertObserveLogicSQLWithoutParameters() throws SQLException {
+        when(getConnection().getConnection("ds_0").prepareStatement(DQL_SQL, 1, 1, 1)).thenReturn(mock(PreparedStatement.class));
+        ShardingExecutionContext shardingExecutionContext = new ShardingExecutionContext(DQL_SQL, getSQLStatementContext(), null);
+        shardingExecutionContext.getExecutionUnits().add(new ExecutionUnit("ds_0", new SQLUnit(DQL_SQL, Collections.emptyList())));
+        actual.init(shardingExecutionContext);
+        assertThat(actual.getLogicSQL(), is(DQL_SQL));
+    }
+    
+    private ShardingExecutionContext getShardingExecutionContext() {
+        ShardingExecutionContext result = new ShardingExecutionContext(DQL_SQL, getSQLStatementContext(), null);
+        result.getExecutionUnits().add(new ExecutionUnit("ds_0", new SQLUnit(DQL_SQL, Collections.<Object>singletonList(1))));
+        return result;
+    }
+    
     private PreparedStatement getPreparedStatement() throws SQLException {
         PreparedStatement statement = mock(PreparedStatement.class);
         ShardingConnection connection = mock(ShardingConnection.class);
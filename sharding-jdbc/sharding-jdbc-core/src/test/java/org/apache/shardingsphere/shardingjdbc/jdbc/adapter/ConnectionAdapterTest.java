@@ -17,8 +17,6 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.adapter;
 
-import com.google.common.collect.Multimap;
-import lombok.SneakyThrows;
 import org.apache.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.connection.ShardingConnection;
 import org.apache.shardingsphere.shardingjdbc.jdbc.core.fixture.BASEShardingTransactionManagerFixture;
@@ -29,10 +27,10 @@ import org.apache.shardingsphere.transaction.core.TransactionTypeHolder;
 import org.junit.After;
 import org.junit.Test;
 
-import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -58,9 +56,9 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
             actual.createStatement().executeQuery(sql);
             actual.setAutoCommit(false);
             assertFalse(actual.getAutoCommit());
-            Multimap<String, Connection> cachedConnections = getCachedConnections(actual);
+            Collection<Connection> cachedConnections = actual.getCachedConnections();
             assertThat(cachedConnections.size(), is(1));
-            for (Connection each : cachedConnections.values()) {
+            for (Connection each : cachedConnections) {
                 assertFalse(each.getAutoCommit());
             }
         }
@@ -74,9 +72,9 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
             actual.setAutoCommit(false);
             actual.createStatement().executeQuery(sql);
             assertTrue(actual.getShardingTransactionManager().isInTransaction());
-            Multimap<String, Connection> cachedConnections = getCachedConnections(actual);
+            Collection<Connection> cachedConnections = actual.getCachedConnections();
             assertThat(cachedConnections.size(), is(1));
-            for (Connection each : cachedConnections.values()) {
+            for (Connection each : cachedConnections) {
                 assertTrue(each.getAutoCommit());
             }
         }
@@ -145,6 +143,18 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
         }
     }
     
+    @Test
+    public void assertGetCachedConnectionsAfterConnectionAcquired() throws SQLException {
+        try (ShardingConnection actual = getShardingDataSource().getConnection()) {
+            Collection<Connection> cachedConnections = actual.getCachedConnections();
+            assertTrue(cachedConnections.isEmpty());
+            Connection connection = actual.getConnection("jdbc_0");
+            assertThat(cachedConnections.size(), is(1));
+            assertThat(cachedConnections.iterator().next(), is(connection));
+            assertThat(actual.getMetaData().getURL(), is(connection.getMetaData().getURL()));
+        }
+    }
+    
     @Test
     public void assertClose() throws SQLException {
         try (ShardingConnection actual = getShardingDataSource().getConnection()) {
@@ -156,7 +166,7 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
     
     private void assertClose(final ShardingConnection actual) {
         assertTrue(actual.isClosed());
-        Multimap<String, Connection> cachedConnections = getCachedConnections(actual);
+        Collection<Connection> cachedConnections = actual.getCachedConnections();
         assertTrue(cachedConnections.isEmpty());
     }
     
@@ -174,9 +184,9 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
     
     private void assertReadOnly(final ShardingConnection actual, final boolean readOnly) throws SQLException {
         assertThat(actual.isReadOnly(), is(readOnly));
-        Multimap<String, Connection> cachedConnections = getCachedConnections(actual);
+        Collection<Connection> cachedConnections = actual.getCachedConnections();
         assertThat(cachedConnections.size(), is(1));
-        for (Connection each : cachedConnections.values()) {
+        for (Connection each : cachedConnections) {
             assertThat(each.isReadOnly(), is(readOnly));
         }
     }
@@ -203,9 +213,9 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
     
     private void assertTransactionIsolation(final ShardingConnection actual, final int transactionIsolation) throws SQLException {
         assertThat(actual.getTransactionIsolation(), is(transactionIsolation));
-        Multimap<String, Connection> cachedConnections = getCachedConnections(actual);
+        Collection<Connection> cachedConnections = actual.getCachedConnections();
         assertThat(cachedConnections.size(), is(1));
-        for (Connection each : cachedConnections.values()) {
+        for (Connection each : cachedConnections) {
             assertThat(each.getTransactionIsolation(), is(transactionIsolation));
         }
     }
@@ -238,12 +248,4 @@ public final class ConnectionAdapterTest extends AbstractShardingJDBCDatabaseAnd
             assertThat(actual.getHoldability(), is(ResultSet.CLOSE_CURSORS_AT_COMMIT));
         }
     }
-    
-    @SuppressWarnings("unchecked")
-    @SneakyThrows
-    private Multimap<String, Connection> getCachedConnections(final AbstractConnectionAdapter connectionAdapter) {
-        Field field = AbstractConnectionAdapter.class.getDeclaredField("cachedConnections");
-        field.setAccessible(true);
-        return (Multimap<String, Connection>) field.get(connectionAdapter);
-    }
 }
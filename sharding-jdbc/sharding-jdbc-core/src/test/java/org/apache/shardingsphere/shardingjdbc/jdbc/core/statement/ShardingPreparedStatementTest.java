@@ -17,20 +17,27 @@
 
 package org.apache.shardingsphere.shardingjdbc.jdbc.core.statement;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.shardingjdbc.common.base.AbstractShardingJDBCDatabaseAndTableTest;
+import org.apache.shardingsphere.shardingjdbc.jdbc.core.constant.SQLExceptionConstant;
 import org.junit.Test;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDatabaseAndTableTest {
     
@@ -263,6 +270,68 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
         }
     }
     
+    @Test
+    public void assertExecuteQueryAsync() throws SQLException, InterruptedException, ExecutionException {
+        try (
+            Connection connection = getShardingDataSource().getConnection();
+            PreparedStatement insertStatement = connection.prepareStatement(INSERT_WITH_GENERATE_KEY_SQL);
+            ShardingPreparedStatement queryStatement = (ShardingPreparedStatement) connection.prepareStatement(SELECT_SQL_WITH_PARAMETER_MARKER)) {
+            insertStatement.setInt(1, 3101);
+            insertStatement.setInt(2, 11);
+            insertStatement.setInt(3, 11);
+            insertStatement.setString(4, "BATCH");
+            insertStatement.executeUpdate();
+            queryStatement.setInt(1, 11);
+            queryStatement.setInt(2, 11);
+            try (ResultSet resultSet = queryStatement.executeQueryAsync().get()) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(3101));
+                assertFalse(resultSet.next());
+            }
+        }
+    }
+    
+    @Test
+    public void assertExecuteQueryBeforeAsyncQueryDone() throws SQLException {
+        try (ShardingPreparedStatement preparedStatement = (ShardingPreparedStatement) getShardingDataSource().getConnection().prepareStatement(SELECT_SQL_WITH_PARAMETER_MARKER)) {
+            SettableFuture<ResultSet> asyncQueryResult = SettableFuture.create();
+            setAsyncQueryResult(preparedStatement, asyncQueryResult);
+            preparedStatement.setInt(1, 11);
+            preparedStatement.setInt(2, 11);
+            try {
+                preparedStatement.executeQuery();
+                fail("Expected statement to reject execution before asynchronous query is done.");
+            } catch (final SQLException ex) {
+                assertThat(ex.getMessage(), is(SQLExceptionConstant.ASYNC_QUERY_NOT_DONE));
+            }
+            asyncQueryResult.set(null);
+            assertFalse(preparedStatement.executeQuery().next());
+        }
+    }
+    
+    @Test
+    public void assertCloseWaitsForAsyncQueryDone() throws SQLException, InterruptedException {
+        PreparedStatement preparedStatement = getShardingDataSource().getConnection().prepareStatement(SELECT_SQL_WITH_PARAMETER_MARKER);
+        final SettableFuture<ResultSet> asyncQueryResult = SettableFuture.create();
+        setAsyncQueryResult((ShardingPreparedStatement) preparedStatement, asyncQueryResult);
+        Thread thread = new Thread(new Runnable() {
+            
+            @Override
+            public void run() {
+                try {
+                    Thread.sleep(100L);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                asyncQueryResult.set(null);
+            }
+        });
+        thread.start();
+        preparedStatement.close();
+        assertTrue(asyncQueryResult.isDone());
+        thread.join();
+    }
+    
     @Test(expected = SQLException.class)
     public void assertQueryWithNull() throws SQLException {
         try (PreparedStatement preparedStatement = getShardingDataSource().getConnection().prepareStatement(null)) {
@@ -276,4 +345,11 @@ public final class ShardingPreparedStatementTest extends AbstractShardingJDBCDat
             preparedStatement.executeQuery();
         }
     }
+    
+    @SneakyThrows
+    private void setAsyncQueryResult(final ShardingPreparedStatement preparedStatement, final ListenableFuture<ResultSet> asyncQueryResult) {
+        Field field = ShardingPreparedStatement.class.getDeclaredField("asyncQueryResult");
+        field.setAccessible(true);
+        field.set(preparedStatement, asyncQueryResult);
+    }
 }
@@ -65,6 +65,22 @@ public final class ShardingStatementTest extends AbstractShardingJDBCDatabaseAnd
         }
     }
     
+    @Test
+    public void assertGetMetaDataAfterQueryResultCanceled() throws SQLException {
+        try (Connection connection = getShardingDataSource().getConnection()) {
+            connection.setAutoCommit(false);
+            try (
+                    Statement statement = connection.createStatement();
+                    ResultSet resultSet = statement.executeQuery("SELECT order_id, status FROM t_order WHERE order_id IN (1000, 1100) ORDER BY order_id DESC LIMIT 1")) {
+                assertTrue(resultSet.next());
+                assertThat(resultSet.getInt(1), is(1100));
+                assertThat(resultSet.getMetaData().getColumnCount(), is(2));
+                assertThat(resultSet.getMetaData().getColumnLabel(1), is("order_id"));
+                assertFalse(resultSet.next());
+            }
+        }
+    }
+    
     @Test(expected = SQLException.class)
     public void assertQueryWithNull() throws SQLException {
         try (Statement statement = getShardingDataSource().getConnection().createStatement()) {
@@ -51,6 +51,7 @@ import org.apache.shardingsphere.underlying.common.rule.BaseRule;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.merge.MergeEntry;
 import org.apache.shardingsphere.underlying.merge.engine.ResultProcessEngine;
+import org.apache.shardingsphere.underlying.merge.result.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
 import java.sql.SQLException;
@@ -123,6 +124,9 @@ public final class JDBCDatabaseCommunicationEngine implements DatabaseCommunicat
             return response;
         }
         this.mergedResult = createMergedResult(sqlStatementContext, ((QueryResponse) response).getQueryResults());
+        if (mergedResult instanceof CloseableMergedResult) {
+            executeEngine.getBackendConnection().add((CloseableMergedResult) mergedResult);
+        }
         handleColumnsForQueryHeader(sqlStatementContext);
         return response;
     }
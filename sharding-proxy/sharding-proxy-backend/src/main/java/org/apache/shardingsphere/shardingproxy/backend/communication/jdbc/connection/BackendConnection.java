@@ -27,6 +27,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.underlying.executor.constant.ConnectionMode;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.masterslave.route.engine.impl.MasterVisitedManager;
+import org.apache.shardingsphere.sharding.execute.sql.execute.result.PrefetchQueryResult;
+import org.apache.shardingsphere.underlying.merge.result.CloseableMergedResult;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.transaction.core.TransactionType;
@@ -70,6 +72,10 @@ public final class BackendConnection implements AutoCloseable {
     
     private final Collection<ResultSet> cachedResultSets = new CopyOnWriteArrayList<>();
     
+    private final Collection<PrefetchQueryResult> cachedPrefetchQueryResults = new CopyOnWriteArrayList<>();
+    
+    private final Collection<CloseableMergedResult> cachedMergedResults = new CopyOnWriteArrayList<>();
+    
     private final Collection<MethodInvocation> methodInvocations = new ArrayList<>();
     
     @Getter
@@ -230,6 +236,24 @@ public final class BackendConnection implements AutoCloseable {
         cachedResultSets.add(resultSet);
     }
     
+    /**
+     * Add prefetch query result.
+     *
+     * @param prefetchQueryResult prefetch query result to be added
+     */
+    public void add(final PrefetchQueryResult prefetchQueryResult) {
+        cachedPrefetchQueryResults.add(prefetchQueryResult);
+    }
+    
+    /**
+     * Add merged result.
+     *
+     * @param mergedResult merged result to be added
+     */
+    public void add(final CloseableMergedResult mergedResult) {
+        cachedMergedResults.add(mergedResult);
+    }
+    
     @Override
     public void close() throws SQLException {
         close(false);
@@ -244,6 +268,8 @@ public final class BackendConnection implements AutoCloseable {
     public synchronized void close(final boolean forceClose) throws SQLException {
         Collection<SQLException> exceptions = new LinkedList<>();
         MasterVisitedManager.clear();
+        closePrefetchQueryResults();
+        exceptions.addAll(closeMergedResults());
         exceptions.addAll(closeResultSets());
         exceptions.addAll(closeStatements());
         if (!stateHandler.isInTransaction() || forceClose) {
@@ -253,6 +279,26 @@ public final class BackendConnection implements AutoCloseable {
         throwSQLExceptionIfNecessary(exceptions);
     }
     
+    private void closePrefetchQueryResults() {
+        for (PrefetchQueryResult each : cachedPrefetchQueryResults) {
+            each.close();
+        }
+        cachedPrefetchQueryResults.clear();
+    }
+    
+    private Collection<SQLException> closeMergedResults() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (CloseableMergedResult each : cachedMergedResults) {
+            try {
+                each.close();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        cachedMergedResults.clear();
+        return result;
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execu
 import org.apache.shardingsphere.underlying.executor.constant.ConnectionMode;
 import org.apache.shardingsphere.sharding.execute.sql.execute.SQLExecuteCallback;
 import org.apache.shardingsphere.sharding.execute.sql.execute.result.MemoryQueryResult;
+import org.apache.shardingsphere.sharding.execute.sql.execute.result.PrefetchQueryResult;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.sharding.execute.sql.execute.result.StreamQueryResult;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
@@ -27,8 +28,12 @@ import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execut
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteResponse;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.execute.response.ExecuteUpdateResponse;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.wrapper.JDBCExecutorWrapper;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryHeader;
 import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.executor.combiner.QueryResultCombiner;
 
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -50,15 +55,18 @@ public final class ProxySQLExecuteCallback extends SQLExecuteCallback<ExecuteRes
     
     private final boolean fetchMetaData;
     
+    private final QueryResultCombiner queryResultCombiner;
+    
     private boolean hasMetaData;
 
     public ProxySQLExecuteCallback(final BackendConnection backendConnection, final JDBCExecutorWrapper jdbcExecutorWrapper,
-                                   final boolean isExceptionThrown, final boolean isReturnGeneratedKeys, final boolean fetchMetaData) {
+                                   final boolean isExceptionThrown, final boolean isReturnGeneratedKeys, final boolean fetchMetaData, final QueryResultCombiner queryResultCombiner) {
         super(LogicSchemas.getInstance().getDatabaseType(), isExceptionThrown);
         this.backendConnection = backendConnection;
         this.jdbcExecutorWrapper = jdbcExecutorWrapper;
         this.isReturnGeneratedKeys = isReturnGeneratedKeys;
         this.fetchMetaData = fetchMetaData;
+        this.queryResultCombiner = queryResultCombiner;
     }
     
     @Override
@@ -90,7 +98,16 @@ public final class ProxySQLExecuteCallback extends SQLExecuteCallback<ExecuteRes
     }
     
     private QueryResult createQueryResult(final ResultSet resultSet, final ConnectionMode connectionMode) throws SQLException {
-        return connectionMode == ConnectionMode.MEMORY_STRICTLY ? new StreamQueryResult(resultSet) : new MemoryQueryResult(resultSet);
+        if (connectionMode != ConnectionMode.MEMORY_STRICTLY) {
+            return null == queryResultCombiner ? new MemoryQueryResult(resultSet) : queryResultCombiner.combine(new StreamQueryResult(resultSet));
+        }
+        int streamPrefetchRows = ShardingProxyContext.getInstance().getProperties().<Integer>getValue(PropertiesConstant.SQL_MERGE_STREAM_PREFETCH_ROWS);
+        if (streamPrefetchRows <= 0) {
+            return new StreamQueryResult(resultSet);
+        }
+        PrefetchQueryResult result = new PrefetchQueryResult(resultSet, BackendExecutorContext.getInstance().getExecutorEngine(), streamPrefetchRows);
+        backendConnection.add(result);
+        return result;
     }
     
     private long getGeneratedKey(final Statement statement) throws SQLException {
@@ -81,7 +81,8 @@ public final class PreparedStatementExecutorWrapper implements JDBCExecutorWrapp
     
     private ExecutionContext doShardingRoute(final String sql) {
         PreparedQueryShardingEngine shardingEngine = new PreparedQueryShardingEngine(
-                logicSchema.getShardingRule(), ShardingProxyContext.getInstance().getProperties(), logicSchema.getMetaData(), logicSchema.getSqlParserEngine());
+                logicSchema.getShardingRule(), ShardingProxyContext.getInstance().getProperties(), logicSchema.getMetaData(), logicSchema.getSqlParserEngine(), 
+                ((ShardingSchema) logicSchema).getSqlTemplateCache(), ((ShardingSchema) logicSchema).getRoutePlanCache());
         return shardingEngine.shard(sql, parameters);
     }
     
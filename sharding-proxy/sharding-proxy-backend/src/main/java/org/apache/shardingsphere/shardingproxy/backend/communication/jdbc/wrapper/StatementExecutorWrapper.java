@@ -78,7 +78,8 @@ public final class StatementExecutorWrapper implements JDBCExecutorWrapper {
     
     private ExecutionContext doShardingRoute(final String sql) {
         SimpleQueryShardingEngine shardingEngine = new SimpleQueryShardingEngine(
-                logicSchema.getShardingRule(), ShardingProxyContext.getInstance().getProperties(), logicSchema.getMetaData(), logicSchema.getSqlParserEngine());
+                logicSchema.getShardingRule(), ShardingProxyContext.getInstance().getProperties(), logicSchema.getMetaData(), logicSchema.getSqlParserEngine(), 
+                ((ShardingSchema) logicSchema).getSqlTemplateCache(), ((ShardingSchema) logicSchema).getRoutePlanCache());
         return shardingEngine.shard(sql, Collections.emptyList());
     }
     
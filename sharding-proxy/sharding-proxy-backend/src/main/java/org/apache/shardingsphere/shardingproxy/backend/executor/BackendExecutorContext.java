@@ -33,8 +33,9 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = new ExecutorEngine(
-            ShardingProxyContext.getInstance().getProperties().<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE));
+    private final ExecutorEngine executorEngine = new ExecutorEngine(ShardingProxyContext.getInstance().getProperties().<Integer>getValue(PropertiesConstant.EXECUTOR_SIZE),
+            ShardingProxyContext.getInstance().getProperties().<Integer>getValue(PropertiesConstant.EXECUTOR_DATA_SOURCE_SIZE),
+            ShardingProxyContext.getInstance().getProperties().<Integer>getValue(PropertiesConstant.EXECUTOR_DATA_SOURCE_QUEUE_SIZE));
     
     /**
      * Get executor context instance.
@@ -23,12 +23,17 @@ import org.apache.shardingsphere.core.rule.ShardingRule;
 import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchestrationEventBus;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.DataSourceChangedEvent;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.datasource.JDBCBackendDataSource;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
 import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.SQLParserEngineFactory;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
 import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
 import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
 import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
 
@@ -51,11 +56,18 @@ public abstract class LogicSchema {
     
     public LogicSchema(final String name, final Map<String, YamlDataSourceParameter> dataSources) {
         this.name = name;
-        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(LogicSchemas.getInstance().getDatabaseType()));
+        sqlParserEngine = SQLParserEngineFactory.getSQLParserEngine(DatabaseTypes.getTrunkDatabaseTypeName(LogicSchemas.getInstance().getDatabaseType()), createSQLParseResultCacheOption());
         backendDataSource = new JDBCBackendDataSource(dataSources);
         ShardingOrchestrationEventBus.getInstance().register(this);
     }
     
+    private SQLParseResultCacheOption createSQLParseResultCacheOption() {
+        ShardingSphereProperties properties = ShardingProxyContext.getInstance().getProperties();
+        return new SQLParseResultCacheOption(properties.<Integer>getValue(PropertiesConstant.SQL_PARSE_CACHE_INITIAL_CAPACITY),
+                properties.<Long>getValue(PropertiesConstant.SQL_PARSE_CACHE_MAXIMUM_SIZE), properties.<Long>getValue(PropertiesConstant.SQL_PARSE_CACHE_MAXIMUM_WEIGHT),
+                properties.<Long>getValue(PropertiesConstant.SQL_PARSE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS));
+    }
+    
     protected final Map<String, DatabaseAccessConfiguration> getDatabaseAccessConfigurationMap() {
         Map<String, DatabaseAccessConfiguration> result = new HashMap<>(backendDataSource.getDataSourceParameters().size(), 1);
         for (Entry<String, YamlDataSourceParameter> entry : backendDataSource.getDataSourceParameters().entrySet()) {
@@ -102,6 +114,7 @@ public abstract class LogicSchema {
             return;
         }
         backendDataSource.renew(DataSourceConverter.getDataSourceParameterMap(dataSourceChangedEvent.getDataSourceConfigurations()));
+        BackendExecutorContext.getInstance().getExecutorEngine().closeDataSourceExecutorServices(name);
     }
     
     /**
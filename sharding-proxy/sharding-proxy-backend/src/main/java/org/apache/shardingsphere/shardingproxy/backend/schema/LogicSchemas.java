@@ -26,6 +26,7 @@ import org.apache.shardingsphere.orchestration.internal.eventbus.ShardingOrchest
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.SchemaAddedEvent;
 import org.apache.shardingsphere.orchestration.internal.registry.config.event.SchemaDeletedEvent;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.recognizer.JDBCDriverURLRecognizerEngine;
+import org.apache.shardingsphere.shardingproxy.backend.executor.BackendExecutorContext;
 import org.apache.shardingsphere.shardingproxy.config.yaml.YamlDataSourceParameter;
 import org.apache.shardingsphere.shardingproxy.util.DataSourceConverter;
 import org.apache.shardingsphere.spi.database.type.DatabaseType;
@@ -144,6 +145,7 @@ public final class LogicSchemas {
         logicSchemas.put(schemaAddedEvent.getShardingSchemaName(), LogicSchemaFactory.newInstance(schemaAddedEvent.getShardingSchemaName(), 
                 Collections.singletonMap(schemaAddedEvent.getShardingSchemaName(), DataSourceConverter.getDataSourceParameterMap(schemaAddedEvent.getDataSourceConfigurations())), 
                 schemaAddedEvent.getRuleConfiguration(), true));
+        BackendExecutorContext.getInstance().getExecutorEngine().closeDataSourceExecutorServices(schemaAddedEvent.getShardingSchemaName());
     }
     
     /**
@@ -154,5 +156,6 @@ public final class LogicSchemas {
     @Subscribe
     public synchronized void renew(final SchemaDeletedEvent schemaDeletedEvent) {
         logicSchemas.remove(schemaDeletedEvent.getShardingSchemaName());
+        BackendExecutorContext.getInstance().getExecutorEngine().closeDataSourceExecutorServices(schemaDeletedEvent.getShardingSchemaName());
     }
 }
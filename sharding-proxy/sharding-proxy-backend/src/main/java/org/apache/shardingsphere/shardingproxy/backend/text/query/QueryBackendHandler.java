@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.text.query;
 
+import com.google.common.base.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngine;
 import org.apache.shardingsphere.shardingproxy.backend.communication.DatabaseCommunicationEngineFactory;
@@ -25,7 +26,12 @@ import org.apache.shardingsphere.shardingproxy.backend.exception.NoDatabaseSelec
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchema;
+import org.apache.shardingsphere.shardingproxy.backend.schema.impl.TransparentSchema;
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
+import org.apache.shardingsphere.shardingproxy.context.ShardingProxyContext;
+import org.apache.shardingsphere.sql.parser.normalize.NormalizedSQL;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
 
 import java.sql.SQLException;
 
@@ -48,10 +54,21 @@ public final class QueryBackendHandler implements TextProtocolBackendHandler {
         if (null == backendConnection.getLogicSchema()) {
             return new ErrorResponse(new NoDatabaseSelectedException());
         }
-        databaseCommunicationEngine = databaseCommunicationEngineFactory.newTextProtocolInstance(backendConnection.getLogicSchema(), sql, backendConnection);
+        databaseCommunicationEngine = createDatabaseCommunicationEngine(backendConnection.getLogicSchema());
         return databaseCommunicationEngine.execute();
     }
     
+    private DatabaseCommunicationEngine createDatabaseCommunicationEngine(final LogicSchema logicSchema) {
+        Optional<NormalizedSQL> normalizedSQL = isLiteralNormalizationEnabled(logicSchema) ? logicSchema.getSqlParserEngine().normalize(sql) : Optional.<NormalizedSQL>absent();
+        return normalizedSQL.isPresent()
+                ? databaseCommunicationEngineFactory.newBinaryProtocolInstance(logicSchema, normalizedSQL.get().getSql(), normalizedSQL.get().getParameters(), backendConnection)
+                : databaseCommunicationEngineFactory.newTextProtocolInstance(logicSchema, sql, backendConnection);
+    }
+    
+    private boolean isLiteralNormalizationEnabled(final LogicSchema logicSchema) {
+        return !(logicSchema instanceof TransparentSchema) && ShardingProxyContext.getInstance().getProperties().<Boolean>getValue(PropertiesConstant.PROXY_SQL_LITERAL_NORMALIZATION_ENABLED);
+    }
+    
     @Override
     public boolean next() throws SQLException {
         return databaseCommunicationEngine.next();
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.shardingproxy.backend.text.sctl.show;
 
 import com.google.common.base.Optional;
 import org.apache.shardingsphere.sharding.merge.dal.common.MultipleLocalDataMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergeStatistics;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
@@ -28,6 +30,7 @@ import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryRespo
 import org.apache.shardingsphere.shardingproxy.backend.text.TextProtocolBackendHandler;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.UnsupportedShardingCTLTypeException;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
 import java.sql.SQLException;
@@ -62,11 +65,35 @@ public final class ShardingCTLShowBackendHandler implements TextProtocolBackendH
                 return createResponsePackets("TRANSACTION_TYPE", backendConnection.getTransactionType().name());
             case "CACHED_CONNECTIONS":
                 return createResponsePackets("CACHED_CONNECTIONS", backendConnection.getConnectionSize());
+            case "CANCELED_QUERY_RESULTS":
+                return createResponsePackets("CANCELED_QUERY_RESULTS", OrderByStreamMergeStatistics.getInstance().getCanceledQueryResultCount());
+            case "SKIPPED_ROWS":
+                return createResponsePackets("SKIPPED_ROWS", OrderByStreamMergeStatistics.getInstance().getSkippedRowCount());
+            case "PARSE_CACHE_HIT_RATE":
+            case "PARSE_CACHE_EVICTIONS":
+            case "PARSE_LATENCY_P50_MICROS":
+            case "PARSE_LATENCY_P99_MICROS":
+                return createParseStatisticsResponsePackets(showStatement.get().getValue());
             default:
                 return new ErrorResponse(new UnsupportedShardingCTLTypeException(sql));
         }
     }
     
+    private BackendResponse createParseStatisticsResponsePackets(final String columnName) {
+        if (null == backendConnection.getLogicSchema()) {
+            return new ErrorResponse(new NoDatabaseSelectedException());
+        }
+        SQLParserEngine sqlParserEngine = backendConnection.getLogicSchema().getSqlParserEngine();
+        if ("PARSE_CACHE_HIT_RATE".equals(columnName)) {
+            return createResponsePackets(columnName, sqlParserEngine.getCacheStats().hitRate());
+        }
+        if ("PARSE_CACHE_EVICTIONS".equals(columnName)) {
+            return createResponsePackets(columnName, sqlParserEngine.getCacheStats().evictionCount());
+        }
+        double percentile = "PARSE_LATENCY_P50_MICROS".equals(columnName) ? 0.5 : 0.99;
+        return createResponsePackets(columnName, sqlParserEngine.getParseLatencyHistogram().getPercentileUpperBoundMicros(percentile));
+    }
+    
     private BackendResponse createResponsePackets(final String columnName, final Object... values) {
         mergedResult = new MultipleLocalDataMergedResult(Collections.singletonList(Arrays.asList(values)));
         return new QueryResponse(Collections.singletonList(new QueryHeader("", "", columnName, columnName, 100, Types.VARCHAR, 0, false, false, false, false)));
@@ -17,13 +17,18 @@
 
 package org.apache.shardingsphere.shardingproxy.backend.text.sctl.show;
 
+import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergeStatistics;
+import org.apache.shardingsphere.shardingproxy.backend.MockLogicSchemasUtil;
 import org.apache.shardingsphere.shardingproxy.backend.communication.jdbc.connection.BackendConnection;
+import org.apache.shardingsphere.shardingproxy.backend.exception.NoDatabaseSelectedException;
 import org.apache.shardingsphere.shardingproxy.backend.response.BackendResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.error.ErrorResponse;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryData;
 import org.apache.shardingsphere.shardingproxy.backend.response.query.QueryResponse;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.InvalidShardingCTLFormatException;
+import org.apache.shardingsphere.shardingproxy.backend.schema.LogicSchemas;
 import org.apache.shardingsphere.shardingproxy.backend.text.sctl.exception.UnsupportedShardingCTLTypeException;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
@@ -33,6 +38,7 @@ import java.sql.SQLException;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
 
 public final class ShardingCTLShowBackendHandlerTest {
     
@@ -62,6 +68,39 @@ public final class ShardingCTLShowBackendHandlerTest {
         assertThat(queryData.getData().iterator().next(), CoreMatchers.<Object>is(0));
     }
     
+    @Test
+    public void assertShowSkippedRows() throws SQLException {
+        backendConnection.setCurrentSchema("schema");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show skipped_rows", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        assertThat(((QueryResponse) actual).getQueryHeaders().size(), is(1));
+        backendHandler.next();
+        QueryData queryData = backendHandler.getQueryData();
+        assertThat(queryData.getData().iterator().next(), CoreMatchers.<Object>is(OrderByStreamMergeStatistics.getInstance().getSkippedRowCount()));
+    }
+    
+    @Test
+    public void assertShowParseCacheEvictions() throws SQLException {
+        MockLogicSchemasUtil.setLogicSchemas("schema", 1);
+        when(LogicSchemas.getInstance().getLogicSchema("schema_0").getSqlParserEngine()).thenReturn(new SQLParserEngine("MySQL"));
+        backendConnection.setCurrentSchema("schema_0");
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show parse_cache_evictions", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(QueryResponse.class));
+        backendHandler.next();
+        QueryData queryData = backendHandler.getQueryData();
+        assertThat(queryData.getData().iterator().next(), CoreMatchers.<Object>is(0L));
+    }
+    
+    @Test
+    public void assertShowParseLatencyWithoutSchema() {
+        ShardingCTLShowBackendHandler backendHandler = new ShardingCTLShowBackendHandler("sctl:show parse_latency_p99_micros", backendConnection);
+        BackendResponse actual = backendHandler.execute();
+        assertThat(actual, instanceOf(ErrorResponse.class));
+        assertThat(((ErrorResponse) actual).getCause(), instanceOf(NoDatabaseSelectedException.class));
+    }
+    
     @Test
     public void assertShowCachedConnectionFailed() {
         backendConnection.setCurrentSchema("schema");
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.execute;
+
+import org.apache.shardingsphere.benchmark.AbstractShardingBenchmark;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.core.shard.PreparedQueryShardingEngine;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.executor.context.ExecutionUnit;
+import org.apache.shardingsphere.underlying.executor.engine.ExecutorEngine;
+import org.apache.shardingsphere.underlying.executor.engine.GroupedCallback;
+import org.apache.shardingsphere.underlying.executor.engine.InputGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Benchmark for {@code ExecutorEngine.execute} over H2 stand-ins.
+ * 
+ * <p>
+ * Execution units come from real routing and rewriting, grouped by data source like memory strictly connection mode.
+ * </p>
+ */
+public class ExecutorEngineBenchmark extends AbstractShardingBenchmark {
+    
+    private static final int ROWS_PER_TABLE = 100;
+    
+    @Param({"2", "16", "64"})
+    private int shardCount;
+    
+    @Param({"POINT_SELECT", "RANGE_SELECT", "FULL_SCAN_ORDER_BY"})
+    private BenchmarkSQL sql;
+    
+    @Param({"false", "true"})
+    private boolean serial;
+    
+    private final Map<String, Connection> connections = new LinkedHashMap<>();
+    
+    private final Collection<InputGroup<ExecutionUnit>> inputGroups = new LinkedList<>();
+    
+    private ExecutorEngine executorEngine;
+    
+    /**
+     * Set up.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        BenchmarkShardingEnvironment environment = new BenchmarkShardingEnvironment(shardCount);
+        for (Entry<String, DataSource> entry : environment.createDataSources(ROWS_PER_TABLE).entrySet()) {
+            connections.put(entry.getKey(), entry.getValue().getConnection());
+        }
+        Collection<ExecutionUnit> executionUnits = new PreparedQueryShardingEngine(
+                environment.getShardingRule(), environment.getProperties(), environment.getMetaData(), environment.getSqlParserEngine()).shard(sql.getSql(), sql.cloneParameters()).getExecutionUnits();
+        inputGroups.addAll(createInputGroups(executionUnits));
+        int executorSize = environment.getProperties().getValue(PropertiesConstant.EXECUTOR_SIZE);
+        executorEngine = new ExecutorEngine(executorSize);
+    }
+    
+    private Collection<InputGroup<ExecutionUnit>> createInputGroups(final Collection<ExecutionUnit> executionUnits) {
+        Map<String, List<ExecutionUnit>> executionUnitsMap = new LinkedHashMap<>();
+        for (ExecutionUnit each : executionUnits) {
+            if (!executionUnitsMap.containsKey(each.getDataSourceName())) {
+                executionUnitsMap.put(each.getDataSourceName(), new LinkedList<ExecutionUnit>());
+            }
+            executionUnitsMap.get(each.getDataSourceName()).add(each);
+        }
+        Collection<InputGroup<ExecutionUnit>> result = new LinkedList<>();
+        for (List<ExecutionUnit> each : executionUnitsMap.values()) {
+            result.add(new InputGroup<>(each));
+        }
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     * 
+     * @throws SQLException SQL exception
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        executorEngine.close();
+        for (Connection each : connections.values()) {
+            each.close();
+        }
+        connections.clear();
+        inputGroups.clear();
+    }
+    
+    /**
+     * Execute SQL on every data source.
+     * 
+     * @return fetched row counts of every execution unit
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public List<Integer> execute() throws SQLException {
+        return executorEngine.execute(inputGroups, null, new ExecuteQueryCallback(), serial);
+    }
+    
+    private final class ExecuteQueryCallback implements GroupedCallback<ExecutionUnit, Integer> {
+        
+        @Override
+        public Collection<Integer> execute(final Collection<ExecutionUnit> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+            Collection<Integer> result = new LinkedList<>();
+            for (ExecutionUnit each : inputs) {
+                result.add(executeQuery(each));
+            }
+            return result;
+        }
+        
+        private int executeQuery(final ExecutionUnit executionUnit) throws SQLException {
+            try (PreparedStatement preparedStatement = connections.get(executionUnit.getDataSourceName()).prepareStatement(executionUnit.getSqlUnit().getSql())) {
+                int index = 1;
+                for (Object each : executionUnit.getSqlUnit().getParameters()) {
+                    preparedStatement.setObject(index++, each);
+                }
+                int result = 0;
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        result++;
+                    }
+                }
+                return result;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL shapes for benchmark.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum BenchmarkSQL {
+    
+    POINT_SELECT("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList(10, 1000)),
+    
+    RANGE_SELECT("SELECT order_id, user_id, status FROM t_order WHERE order_id BETWEEN ? AND ?", Arrays.<Object>asList(1000, 1100)),
+    
+    FULL_SCAN_ORDER_BY("SELECT order_id, user_id, status FROM t_order ORDER BY order_id", Collections.<Object>emptyList()),
+    
+    PAGINATION("SELECT order_id, user_id, status FROM t_order ORDER BY order_id LIMIT ?, ?", Arrays.<Object>asList(100, 10)),
+    
+    GROUP_BY("SELECT user_id, COUNT(*) AS order_count, SUM(order_id) AS order_total FROM t_order GROUP BY user_id ORDER BY user_id", Collections.<Object>emptyList()),
+    
+    GROUP_BY_ORDER_BY_AGGREGATION("SELECT user_id, COUNT(*) AS order_count, SUM(order_id) AS order_total FROM t_order GROUP BY user_id ORDER BY order_total DESC", Collections.<Object>emptyList()),
+    
+    INSERT("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)", Arrays.<Object>asList(1001, 11, "init")),
+    
+    UPDATE("UPDATE t_order SET status = ? WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList("paid", 10, 1000));
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    /**
+     * Clone parameters, because routing and rewriting may change them.
+     * 
+     * @return cloned parameters
+     */
+    public List<Object> cloneParameters() {
+        return new ArrayList<>(parameters);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import lombok.Getter;
+import org.apache.shardingsphere.api.config.sharding.ShardingRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.TableRuleConfiguration;
+import org.apache.shardingsphere.api.config.sharding.strategy.InlineShardingStrategyConfiguration;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.underlying.common.config.DatabaseAccessConfiguration;
+import org.apache.shardingsphere.underlying.common.constant.properties.PropertiesConstant;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.column.ColumnMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.datasource.DataSourceMetas;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetaData;
+import org.apache.shardingsphere.underlying.common.metadata.table.TableMetas;
+import org.h2.jdbcx.JdbcDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Sharding environment for benchmark.
+ *
+ * <p>
+ * Logic table {@code t_order} is sharded to {@code ds_${user_id % 2}.t_order_${order_id % shardCount}}, H2 in MySQL mode stands in for actual databases.
+ * </p>
+ */
+@Getter
+public final class BenchmarkShardingEnvironment {
+    
+    public static final String DATABASE_TYPE = "MySQL";
+    
+    private static final int DATA_SOURCE_COUNT = 2;
+    
+    private static final int USER_COUNT = 100;
+    
+    private final int shardCount;
+    
+    private final List<String> dataSourceNames;
+    
+    private final ShardingRule shardingRule;
+    
+    private final ShardingSphereProperties properties;
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final SQLParserEngine sqlParserEngine;
+    
+    public BenchmarkShardingEnvironment(final int shardCount) {
+        this.shardCount = shardCount;
+        dataSourceNames = createDataSourceNames();
+        shardingRule = new ShardingRule(createShardingRuleConfiguration(), dataSourceNames);
+        properties = createProperties();
+        metaData = new ShardingSphereMetaData(createDataSourceMetas(), createTableMetas());
+        sqlParserEngine = new SQLParserEngine(DATABASE_TYPE);
+    }
+    
+    private List<String> createDataSourceNames() {
+        List<String> result = new LinkedList<>();
+        for (int i = 0; i < DATA_SOURCE_COUNT; i++) {
+            result.add("ds_" + i);
+        }
+        return result;
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        TableRuleConfiguration tableRuleConfig = new TableRuleConfiguration("t_order", String.format("ds_${0..%d}.t_order_${0..%d}", DATA_SOURCE_COUNT - 1, shardCount - 1));
+        tableRuleConfig.setDatabaseShardingStrategyConfig(new InlineShardingStrategyConfiguration("user_id", String.format("ds_${user_id %% %d}", DATA_SOURCE_COUNT)));
+        tableRuleConfig.setTableShardingStrategyConfig(new InlineShardingStrategyConfiguration("order_id", String.format("t_order_${order_id %% %d}", shardCount)));
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        result.getTableRuleConfigs().add(tableRuleConfig);
+        return result;
+    }
+    
+    private ShardingSphereProperties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(PropertiesConstant.ALLOW_RANGE_QUERY_WITH_INLINE_SHARDING.getKey(), Boolean.TRUE.toString());
+        return new ShardingSphereProperties(result);
+    }
+    
+    private DataSourceMetas createDataSourceMetas() {
+        Map<String, DatabaseAccessConfiguration> databaseAccessConfigurationMap = new LinkedHashMap<>(DATA_SOURCE_COUNT, 1);
+        for (String each : dataSourceNames) {
+            databaseAccessConfigurationMap.put(each, new DatabaseAccessConfiguration(getURL(each), "sa", null));
+        }
+        return new DataSourceMetas(DatabaseTypes.getActualDatabaseType("H2"), databaseAccessConfigurationMap);
+    }
+    
+    private TableMetas createTableMetas() {
+        Map<String, TableMetaData> tableMetaDataMap = new LinkedHashMap<>(1, 1);
+        tableMetaDataMap.put("t_order", new TableMetaData(Arrays.asList(new ColumnMetaData("order_id", "int", true),
+                new ColumnMetaData("user_id", "int", false), new ColumnMetaData("status", "varchar", false)), Collections.<String>emptySet()));
+        return new TableMetas(tableMetaDataMap);
+    }
+    
+    private String getURL(final String dataSourceName) {
+        return String.format("jdbc:h2:mem:benchmark_%s;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", dataSourceName);
+    }
+    
+    /**
+     * Create H2 data sources and fill every actual table.
+     *
+     * @param rowsPerTable rows count of each actual table
+     * @return data source map
+     * @throws SQLException SQL exception
+     */
+    public Map<String, DataSource> createDataSources(final int rowsPerTable) throws SQLException {
+        Map<String, DataSource> result = new LinkedHashMap<>(DATA_SOURCE_COUNT, 1);
+        for (int i = 0; i < DATA_SOURCE_COUNT; i++) {
+            String dataSourceName = dataSourceNames.get(i);
+            JdbcDataSource dataSource = new JdbcDataSource();
+            dataSource.setURL(getURL(dataSourceName));
+            dataSource.setUser("sa");
+            initActualTables(dataSource, i, rowsPerTable);
+            result.put(dataSourceName, dataSource);
+        }
+        return result;
+    }
+    
+    private void initActualTables(final DataSource dataSource, final int dataSourceIndex, final int rowsPerTable) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            for (int i = 0; i < shardCount; i++) {
+                String actualTableName = "t_order_" + i;
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute(String.format("DROP TABLE IF EXISTS %s", actualTableName));
+                    statement.execute(String.format("CREATE TABLE %s (order_id INT PRIMARY KEY, user_id INT NOT NULL, status VARCHAR(45))", actualTableName));
+                }
+                try (PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (order_id, user_id, status) VALUES (?, ?, ?)", actualTableName))) {
+                    for (int j = 0; j < rowsPerTable; j++) {
+                        preparedStatement.setInt(1, i + j * shardCount);
+                        preparedStatement.setInt(2, dataSourceIndex + j % (USER_COUNT / DATA_SOURCE_COUNT) * DATA_SOURCE_COUNT);
+                        preparedStatement.setString(3, "init");
+                        preparedStatement.addBatch();
+                    }
+                    preparedStatement.executeBatch();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import org.apache.shardingsphere.benchmark.AbstractShardingBenchmark;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkQueryResult;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.sharding.merge.ShardingResultMergerEngine;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
+import org.apache.shardingsphere.sql.parser.relation.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.underlying.common.database.type.DatabaseTypes;
+import org.apache.shardingsphere.underlying.common.rule.BaseRule;
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.MergeEntry;
+import org.apache.shardingsphere.underlying.merge.engine.ResultProcessEngine;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Benchmark for {@code MergeEntry.process}.
+ * 
+ * <p>
+ * {@code FULL_SCAN_ORDER_BY}, {@code PAGINATION} and {@code GROUP_BY} are merged by stream.
+ * Merge properties are left as default, that is {@code sql.merge.group.by.memory.max.rows} is 0, {@code sql.merge.group.by.stream.enabled} is false
+ * and query results are not combined by executor, so {@code GROUP_BY_ORDER_BY_AGGREGATION} is merged by {@code GroupByMemoryMergedResult} without spilling.
+ * Every actual table returns rows ordered by the first column, and the first column is the group by key shared by all actual tables.
+ * </p>
+ */
+public class MergeEntryBenchmark extends AbstractShardingBenchmark {
+    
+    @Param({"2", "16", "64"})
+    private int shardCount;
+    
+    @Param({"100", "1000"})
+    private int rowsPerShard;
+    
+    @Param({"FULL_SCAN_ORDER_BY", "PAGINATION", "GROUP_BY", "GROUP_BY_ORDER_BY_AGGREGATION"})
+    private BenchmarkSQL sql;
+    
+    private MergeEntry mergeEntry;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private List<String> columnLabels;
+    
+    private List<List<Object[]>> shardRows;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkShardingEnvironment environment = new BenchmarkShardingEnvironment(shardCount);
+        mergeEntry = new MergeEntry(DatabaseTypes.getActualDatabaseType(BenchmarkShardingEnvironment.DATABASE_TYPE), environment.getMetaData().getRelationMetas(), environment.getProperties(), 
+                Collections.<BaseRule, ResultProcessEngine>singletonMap(environment.getShardingRule(), new ShardingResultMergerEngine()));
+        selectStatementContext = (SelectStatementContext) new ShardingRouter(environment.getShardingRule(), environment.getProperties(), environment.getMetaData(), environment.getSqlParserEngine())
+                .route(sql.getSql(), sql.cloneParameters(), true).getSqlStatementContext();
+        columnLabels = selectStatementContext.getProjectionsContext().getColumnLabels();
+        shardRows = createShardRows(environment.getDataSourceNames().size() * shardCount);
+    }
+    
+    private List<List<Object[]>> createShardRows(final int actualTableCount) {
+        List<List<Object[]>> result = new ArrayList<>(actualTableCount);
+        for (int i = 0; i < actualTableCount; i++) {
+            List<Object[]> rows = new ArrayList<>(rowsPerShard);
+            for (int j = 0; j < rowsPerShard; j++) {
+                rows.add(createRow(actualTableCount, i, j));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    private Object[] createRow(final int actualTableCount, final int actualTableIndex, final int rowIndex) {
+        Object[] result = new Object[columnLabels.size()];
+        result[0] = (long) rowIndex;
+        for (int i = 1; i < result.length; i++) {
+            result[i] = "status".equals(columnLabels.get(i)) ? "init" : (long) rowIndex * actualTableCount + actualTableIndex;
+        }
+        return result;
+    }
+    
+    /**
+     * Merge query results of every actual table and iterate merged result.
+     * 
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void process(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardRows.size());
+        for (List<Object[]> each : shardRows) {
+            queryResults.add(new BenchmarkQueryResult(columnLabels, each));
+        }
+        MergedResult mergedResult = mergeEntry.process(queryResults, selectStatementContext);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
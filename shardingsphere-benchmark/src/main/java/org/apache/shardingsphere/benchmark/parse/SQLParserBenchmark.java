@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.parse;
+
+import org.apache.shardingsphere.benchmark.AbstractShardingBenchmark;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.sql.parser.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmark for {@code SQLParserEngine.parse}.
+ */
+public class SQLParserBenchmark extends AbstractShardingBenchmark {
+    
+    @Param({"POINT_SELECT", "RANGE_SELECT", "PAGINATION", "GROUP_BY", "INSERT", "UPDATE"})
+    private BenchmarkSQL sql;
+    
+    @Param({"true", "false"})
+    private boolean useCache;
+    
+    private SQLParserEngine sqlParserEngine;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        sqlParserEngine = new SQLParserEngine(BenchmarkShardingEnvironment.DATABASE_TYPE);
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * @return SQL statement
+     */
+    @Benchmark
+    public SQLStatement parse() {
+        return sqlParserEngine.parse(sql.getSql(), useCache);
+    }
+}
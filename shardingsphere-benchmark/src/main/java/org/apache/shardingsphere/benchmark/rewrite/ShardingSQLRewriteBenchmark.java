@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.rewrite;
+
+import org.apache.shardingsphere.benchmark.AbstractShardingBenchmark;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.core.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rewrite.context.ShardingSQLRewriteContextDecorator;
+import org.apache.shardingsphere.sharding.rewrite.engine.ShardingSQLRewriteEngine;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
+import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
+import org.apache.shardingsphere.underlying.common.rule.BaseRule;
+import org.apache.shardingsphere.underlying.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
+import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Benchmark for {@code SQLRewriteEntry.createSQLRewriteContext} and {@code ShardingSQLRewriteEngine.rewrite} of every route unit.
+ */
+public class ShardingSQLRewriteBenchmark extends AbstractShardingBenchmark {
+    
+    @Param({"2", "16", "64"})
+    private int shardCount;
+    
+    @Param({"POINT_SELECT", "RANGE_SELECT", "PAGINATION", "GROUP_BY", "INSERT", "UPDATE"})
+    private BenchmarkSQL sql;
+    
+    private ShardingRule shardingRule;
+    
+    private SQLRewriteEntry sqlRewriteEntry;
+    
+    private ShardingRouteContext shardingRouteContext;
+    
+    private Map<BaseRule, SQLRewriteContextDecorator> decorators;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkShardingEnvironment environment = new BenchmarkShardingEnvironment(shardCount);
+        shardingRule = environment.getShardingRule();
+        sqlRewriteEntry = new SQLRewriteEntry(environment.getMetaData(), environment.getProperties());
+        ShardingRouter shardingRouter = new ShardingRouter(shardingRule, environment.getProperties(), environment.getMetaData(), environment.getSqlParserEngine());
+        shardingRouteContext = shardingRouter.route(sql.getSql(), sql.cloneParameters(), true);
+        decorators = Collections.<BaseRule, SQLRewriteContextDecorator>singletonMap(shardingRule, new ShardingSQLRewriteContextDecorator(shardingRouteContext));
+    }
+    
+    /**
+     * Rewrite SQL for every route unit.
+     * 
+     * @param blackhole blackhole
+     */
+    @Benchmark
+    public void rewrite(final Blackhole blackhole) {
+        SQLRewriteContext sqlRewriteContext = sqlRewriteEntry.createSQLRewriteContext(sql.getSql(), sql.cloneParameters(), shardingRouteContext.getSqlStatementContext(), decorators);
+        for (RouteUnit each : shardingRouteContext.getRouteResult().getRouteUnits()) {
+            blackhole.consume(new ShardingSQLRewriteEngine(shardingRule, shardingRouteContext.getShardingConditions(), each).rewrite(sqlRewriteContext));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.route;
+
+import org.apache.shardingsphere.benchmark.AbstractShardingBenchmark;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkShardingEnvironment;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkSQL;
+import org.apache.shardingsphere.sharding.route.engine.ShardingRouter;
+import org.apache.shardingsphere.sharding.route.engine.context.ShardingRouteContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Benchmark for {@code ShardingRouter.route}.
+ * 
+ * <p>
+ * Parse result is cached, so the numbers only reflect validating, statement context creating, sharding conditions extracting and routing.
+ * </p>
+ */
+public class ShardingRouterBenchmark extends AbstractShardingBenchmark {
+    
+    @Param({"2", "16", "64"})
+    private int shardCount;
+    
+    @Param({"POINT_SELECT", "RANGE_SELECT", "PAGINATION", "GROUP_BY", "INSERT", "UPDATE"})
+    private BenchmarkSQL sql;
+    
+    private ShardingRouter shardingRouter;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkShardingEnvironment environment = new BenchmarkShardingEnvironment(shardCount);
+        shardingRouter = new ShardingRouter(environment.getShardingRule(), environment.getProperties(), environment.getMetaData(), environment.getSqlParserEngine());
+    }
+    
+    /**
+     * Route SQL.
+     * 
+     * @return sharding route context
+     */
+    @Benchmark
+    public ShardingRouteContext route() {
+        return shardingRouter.route(sql.getSql(), sql.cloneParameters(), true);
+    }
+}
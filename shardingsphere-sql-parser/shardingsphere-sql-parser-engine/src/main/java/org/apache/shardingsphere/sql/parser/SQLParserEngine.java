@@ -18,25 +18,49 @@
 package org.apache.shardingsphere.sql.parser;
 
 import com.google.common.base.Optional;
-import lombok.RequiredArgsConstructor;
+import com.google.common.cache.CacheStats;
+import lombok.Getter;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCache;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 import org.apache.shardingsphere.sql.parser.core.constant.RuleName;
 import org.apache.shardingsphere.sql.parser.core.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.core.simple.SimpleDMLParser;
 import org.apache.shardingsphere.sql.parser.core.visitor.ParseTreeVisitorFactory;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
 import org.apache.shardingsphere.sql.parser.hook.ParsingHook;
 import org.apache.shardingsphere.sql.parser.hook.SPIParsingHook;
+import org.apache.shardingsphere.sql.parser.normalize.NormalizedSQL;
+import org.apache.shardingsphere.sql.parser.normalize.SQLLiteralNormalizer;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statistics.SQLParseLatencyHistogram;
 
 /**
  * SQL parser engine.
  */
-@RequiredArgsConstructor
 public final class SQLParserEngine {
     
     private final String databaseTypeName;
     
-    private final SQLParseResultCache cache = new SQLParseResultCache();
+    private final SQLParseResultCache cache;
+    
+    private final boolean simpleDMLParserEnabled;
+    
+    private final boolean literalNormalizationSupported;
+    
+    @Getter
+    private final SQLParseLatencyHistogram parseLatencyHistogram = new SQLParseLatencyHistogram();
+    
+    public SQLParserEngine(final String databaseTypeName) {
+        this(databaseTypeName, new SQLParseResultCacheOption());
+    }
+    
+    public SQLParserEngine(final String databaseTypeName, final SQLParseResultCacheOption cacheOption) {
+        this.databaseTypeName = databaseTypeName;
+        cache = new SQLParseResultCache(cacheOption);
+        simpleDMLParserEnabled = SimpleDMLParser.isSupported(databaseTypeName);
+        literalNormalizationSupported = SQLLiteralNormalizer.isSupported(databaseTypeName);
+    }
     
     /**
      * Parse SQL.
@@ -60,6 +84,31 @@ public final class SQLParserEngine {
         }
     }
     
+    /**
+     * Normalize literals of SQL into parameter markers.
+     * 
+     * <p>
+     * Normalized SQL is parsed into cache, SQL different in literals only share one parse result if they are parsed with normalized SQL and literals as parameters.
+     * </p>
+     *
+     * @param sql SQL
+     * @return normalized SQL, absent if database type is not supported, SQL has no literal to be normalized or normalized SQL can not be parsed
+     */
+    public Optional<NormalizedSQL> normalize(final String sql) {
+        if (!literalNormalizationSupported) {
+            return Optional.absent();
+        }
+        Optional<NormalizedSQL> result = new SQLLiteralNormalizer(sql).normalize();
+        if (!result.isPresent()) {
+            return result;
+        }
+        try {
+            return parse0(result.get().getSql(), true).getParametersCount() == result.get().getParameters().size() ? result : Optional.<NormalizedSQL>absent();
+        } catch (final SQLParsingException ex) {
+            return Optional.absent();
+        }
+    }
+    
     private SQLStatement parse0(final String sql, final boolean useCache) {
         if (useCache) {
             Optional<SQLStatement> cachedSQLStatement = cache.getSQLStatement(sql);
@@ -67,11 +116,32 @@ public final class SQLParserEngine {
                 return cachedSQLStatement.get();
             }
         }
-        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute();
-        SQLStatement result = (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, RuleName.valueOf(parseTree.getClass())).visit(parseTree);
+        long startNanos = System.nanoTime();
+        SQLStatement result = parseSQL(sql);
+        parseLatencyHistogram.record(System.nanoTime() - startNanos);
         if (useCache) {
             cache.put(sql, result);
         }
         return result;
     }
+    
+    private SQLStatement parseSQL(final String sql) {
+        if (simpleDMLParserEnabled) {
+            Optional<SQLStatement> result = new SimpleDMLParser(sql).parse();
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        ParseTree parseTree = new SQLParserExecutor(databaseTypeName, sql).execute();
+        return (SQLStatement) ParseTreeVisitorFactory.newInstance(databaseTypeName, RuleName.valueOf(parseTree.getClass())).visit(parseTree);
+    }
+    
+    /**
+     * Get statistics of parse result cache.
+     * 
+     * @return statistics of parse result cache, includes hit rate and eviction count
+     */
+    public CacheStats getCacheStats() {
+        return cache.getStats();
+    }
 }
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sql.parser;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -29,7 +30,7 @@ import java.util.concurrent.ConcurrentHashMap;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserEngineFactory {
     
-    private static final Map<String, SQLParserEngine> ENGINES = new ConcurrentHashMap<>();
+    private static final Map<String, Map<SQLParseResultCacheOption, SQLParserEngine>> ENGINES = new ConcurrentHashMap<>();
     
     /**
      * Get SQL parser engine.
@@ -38,15 +39,35 @@ public final class SQLParserEngineFactory {
      * @return SQL parser engine
      */
     public static SQLParserEngine getSQLParserEngine(final String databaseTypeName) {
-        if (ENGINES.containsKey(databaseTypeName)) {
-            return ENGINES.get(databaseTypeName);
+        return getSQLParserEngine(databaseTypeName, new SQLParseResultCacheOption());
+    }
+    
+    /**
+     * Get SQL parser engine.
+     * 
+     * <p>
+     * Engines are shared by data sources which have same database type and same cache option.
+     * </p>
+     *
+     * @param databaseTypeName name of database type
+     * @param cacheOption option of SQL parse result cache
+     * @return SQL parser engine
+     */
+    public static SQLParserEngine getSQLParserEngine(final String databaseTypeName, final SQLParseResultCacheOption cacheOption) {
+        Map<SQLParseResultCacheOption, SQLParserEngine> engines = ENGINES.get(databaseTypeName);
+        if (null != engines && engines.containsKey(cacheOption)) {
+            return engines.get(cacheOption);
         }
         synchronized (ENGINES) {
-            if (ENGINES.containsKey(databaseTypeName)) {
-                return ENGINES.get(databaseTypeName);
+            if (!ENGINES.containsKey(databaseTypeName)) {
+                ENGINES.put(databaseTypeName, new ConcurrentHashMap<SQLParseResultCacheOption, SQLParserEngine>());
+            }
+            engines = ENGINES.get(databaseTypeName);
+            if (engines.containsKey(cacheOption)) {
+                return engines.get(cacheOption);
             }
-            SQLParserEngine result = new SQLParserEngine(databaseTypeName);
-            ENGINES.put(databaseTypeName, result);
+            SQLParserEngine result = new SQLParserEngine(databaseTypeName, cacheOption);
+            engines.put(cacheOption, result);
             return result;
         }
     }
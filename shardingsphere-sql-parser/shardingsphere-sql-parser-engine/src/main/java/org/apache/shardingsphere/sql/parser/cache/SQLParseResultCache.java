@@ -20,14 +20,61 @@ package org.apache.shardingsphere.sql.parser.cache;
 import com.google.common.base.Optional;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.Weigher;
 import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * SQL parse result cache.
+ * 
+ * <p>
+ * Cache holds SQL statements strongly and is bounded by total length of cached SQL, 
+ * so that cached parse results will not be evicted all at once under GC pressure.
+ * Cache is also bounded by count of cached SQL statements, 
+ * each cached SQL weighs at least maximum weight divided by maximum size because Guava cache can not be bounded by both of them.
+ * </p>
  */
 public final class SQLParseResultCache {
     
-    private final Cache<String, SQLStatement> cache = CacheBuilder.newBuilder().softValues().initialCapacity(2000).maximumSize(65535).build();
+    private final Cache<String, SQLStatement> cache;
+    
+    public SQLParseResultCache() {
+        this(new SQLParseResultCacheOption());
+    }
+    
+    public SQLParseResultCache(final SQLParseResultCacheOption option) {
+        cache = createCache(option);
+    }
+    
+    private Cache<String, SQLStatement> createCache(final SQLParseResultCacheOption option) {
+        CacheBuilder<String, SQLStatement> result = CacheBuilder.newBuilder()
+                .initialCapacity(option.getInitialCapacity()).maximumWeight(option.getMaximumWeight()).weigher(createWeigher(option)).recordStats();
+        if (option.getExpireAfterAccessSeconds() > 0) {
+            result.expireAfterAccess(option.getExpireAfterAccessSeconds(), TimeUnit.SECONDS);
+        }
+        return result.build();
+    }
+    
+    private Weigher<String, SQLStatement> createWeigher(final SQLParseResultCacheOption option) {
+        final int minimumWeight = getMinimumWeight(option);
+        return new Weigher<String, SQLStatement>() {
+            
+            @Override
+            public int weigh(final String sql, final SQLStatement sqlStatement) {
+                return Math.max(sql.length(), minimumWeight);
+            }
+        };
+    }
+    
+    private int getMinimumWeight(final SQLParseResultCacheOption option) {
+        if (option.getMaximumSize() <= 0) {
+            return 0;
+        }
+        long result = (option.getMaximumWeight() + option.getMaximumSize() - 1) / option.getMaximumSize();
+        return (int) Math.min(result, Integer.MAX_VALUE);
+    }
     
     /**
      * Put SQL and parse result into cache.
@@ -49,6 +96,24 @@ public final class SQLParseResultCache {
         return Optional.fromNullable(cache.getIfPresent(sql));
     }
     
+    /**
+     * Get cache statistics.
+     * 
+     * @return cache statistics, includes hit rate and eviction count
+     */
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+    
+    /**
+     * Get count of cached SQL statements.
+     * 
+     * @return count of cached SQL statements
+     */
+    public long size() {
+        return cache.size();
+    }
+    
     /**
      * Clear cache.
      */
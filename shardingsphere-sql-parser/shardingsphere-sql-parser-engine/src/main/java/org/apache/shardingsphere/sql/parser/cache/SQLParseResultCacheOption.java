@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.cache;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * SQL parse result cache option.
+ */
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class SQLParseResultCacheOption {
+    
+    public static final int DEFAULT_INITIAL_CAPACITY = 2000;
+    
+    public static final long DEFAULT_MAXIMUM_SIZE = 4096L;
+    
+    public static final long DEFAULT_MAXIMUM_WEIGHT = 16 * 1024 * 1024;
+    
+    public static final long DEFAULT_EXPIRE_AFTER_ACCESS_SECONDS = 0L;
+    
+    private final int initialCapacity;
+    
+    private final long maximumSize;
+    
+    private final long maximumWeight;
+    
+    private final long expireAfterAccessSeconds;
+    
+    public SQLParseResultCacheOption() {
+        this(DEFAULT_INITIAL_CAPACITY, DEFAULT_MAXIMUM_SIZE, DEFAULT_MAXIMUM_WEIGHT, DEFAULT_EXPIRE_AFTER_ACCESS_SECONDS);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.simple;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Simple DML lexer.
+ * 
+ * <p>
+ * Lexer only recognizes unquoted or back quoted identifiers, unsigned integers, single quoted strings without escapes, parameter markers and a few symbols.
+ * Any other character makes the SQL unsupported, comments and hints included.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SimpleDMLLexer {
+    
+    private final String sql;
+    
+    /**
+     * Split SQL into tokens.
+     * 
+     * @return tokens ended with {@code END} token, absent if SQL contains any unsupported character
+     */
+    public Optional<List<SimpleDMLToken>> tokenize() {
+        List<SimpleDMLToken> result = new ArrayList<>();
+        int position = 0;
+        while (position < sql.length()) {
+            char current = sql.charAt(position);
+            if (isWhitespace(current)) {
+                position++;
+                continue;
+            }
+            int stopIndex = getStopIndex(current, position);
+            if (stopIndex < position) {
+                return Optional.absent();
+            }
+            result.add(new SimpleDMLToken(getTokenType(current), sql.substring(position, stopIndex + 1), position, stopIndex));
+            position = stopIndex + 1;
+        }
+        result.add(new SimpleDMLToken(SimpleDMLTokenType.END, "", sql.length(), sql.length()));
+        return Optional.of(result);
+    }
+    
+    private boolean isWhitespace(final char ch) {
+        return ' ' == ch || '\t' == ch || '\r' == ch || '\n' == ch;
+    }
+    
+    private int getStopIndex(final char current, final int startIndex) {
+        if (isIdentifierStart(current)) {
+            return getIdentifierStopIndex(startIndex);
+        }
+        if (isDigit(current)) {
+            return getNumberStopIndex(startIndex);
+        }
+        if ('`' == current) {
+            return getQuotedStopIndex('`', startIndex);
+        }
+        if ('\'' == current) {
+            return getQuotedStopIndex('\'', startIndex);
+        }
+        return null == getSymbolType(current) ? -1 : startIndex;
+    }
+    
+    private int getIdentifierStopIndex(final int startIndex) {
+        int result = startIndex;
+        while (result + 1 < sql.length() && isIdentifierPart(sql.charAt(result + 1))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int getNumberStopIndex(final int startIndex) {
+        int result = startIndex;
+        while (result + 1 < sql.length() && isDigit(sql.charAt(result + 1))) {
+            result++;
+        }
+        if (result + 1 < sql.length() && (isIdentifierPart(sql.charAt(result + 1)) || '.' == sql.charAt(result + 1))) {
+            return -1;
+        }
+        return result;
+    }
+    
+    private int getQuotedStopIndex(final char quote, final int startIndex) {
+        for (int i = startIndex + 1; i < sql.length(); i++) {
+            char current = sql.charAt(i);
+            if ('\\' == current) {
+                return -1;
+            }
+            if (quote == current) {
+                boolean isEmpty = i == startIndex + 1;
+                boolean isDoubledQuote = i + 1 < sql.length() && quote == sql.charAt(i + 1);
+                return isEmpty || isDoubledQuote ? -1 : i;
+            }
+        }
+        return -1;
+    }
+    
+    private SimpleDMLTokenType getTokenType(final char current) {
+        if (isIdentifierStart(current)) {
+            return SimpleDMLTokenType.IDENTIFIER;
+        }
+        if (isDigit(current)) {
+            return SimpleDMLTokenType.NUMBER;
+        }
+        if ('`' == current) {
+            return SimpleDMLTokenType.QUOTED_IDENTIFIER;
+        }
+        if ('\'' == current) {
+            return SimpleDMLTokenType.STRING;
+        }
+        return getSymbolType(current);
+    }
+    
+    private SimpleDMLTokenType getSymbolType(final char current) {
+        switch (current) {
+            case '?':
+                return SimpleDMLTokenType.PARAMETER_MARKER;
+            case ',':
+                return SimpleDMLTokenType.COMMA;
+            case '.':
+                return SimpleDMLTokenType.DOT;
+            case '(':
+                return SimpleDMLTokenType.LEFT_PAREN;
+            case ')':
+                return SimpleDMLTokenType.RIGHT_PAREN;
+            case '=':
+                return SimpleDMLTokenType.EQUAL;
+            case '*':
+                return SimpleDMLTokenType.ASTERISK;
+            default:
+                return null;
+        }
+    }
+    
+    private boolean isIdentifierStart(final char ch) {
+        return ch >= 'a' && ch <= 'z' || ch >= 'A' && ch <= 'Z' || '_' == ch || '$' == ch;
+    }
+    
+    private boolean isIdentifierPart(final char ch) {
+        return isIdentifierStart(ch) || isDigit(ch);
+    }
+    
+    private boolean isDigit(final char ch) {
+        return ch >= '0' && ch <= '9';
+    }
+}
@@ -0,0 +1,430 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.simple;
+
+import com.google.common.base.Optional;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.SetAssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.InsertColumnsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.AndPredicate;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.AliasSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.OwnerSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.apache.shardingsphere.sql.parser.sql.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.value.literal.impl.NumberLiteralValue;
+import org.apache.shardingsphere.sql.parser.sql.value.literal.impl.StringLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Simple DML parser.
+ * 
+ * <p>
+ * Hand written recursive descent parser for point DML, which is the majority of OLTP traffic:
+ * </p>
+ * 
+ * <ul>
+ *     <li>{@code SELECT * | column [[AS] alias] [, column [[AS] alias] ...] FROM table [WHERE column = value [AND column = value ...]]}</li>
+ *     <li>{@code INSERT INTO table [(column [, column ...])] VALUES (value [, value ...]) [, (value [, value ...]) ...]}</li>
+ *     <li>{@code UPDATE table SET column = value [, column = value ...] [WHERE ...]}</li>
+ *     <li>{@code DELETE FROM table [WHERE ...]}</li>
+ * </ul>
+ * 
+ * <p>
+ * Value is parameter marker, unsigned integer or simple string. Segments and their indexes are the same as the ones created by MySQL visitor.
+ * Texts of projections are taken from SQL by indexes, so they are the same as written in SQL.
+ * Any other SQL returns absent and should be parsed by ANTLR parser.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SimpleDMLParser {
+    
+    private static final String MYSQL = "MySQL";
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "ALL", "AND", "AS", "ASC", "BETWEEN", "BINARY", "BY", "CASE", "CROSS", "CURRENT_DATE", "CURRENT_TIME", "CURRENT_TIMESTAMP", "CURRENT_USER", "DEFAULT", "DELAYED", "DELETE", "DESC",
+            "DISTINCT", "DISTINCTROW", "DIV", "DUAL", "ELSE", "END", "EXISTS", "FALSE", "FOR", "FORCE", "FROM", "GROUP", "HAVING", "HIGH_PRIORITY", "IGNORE", "IN", "INDEX", "INNER", "INSERT",
+            "INTERVAL", "INTO", "IS", "JOIN", "KEY", "LEFT", "LIKE", "LIMIT", "LOCALTIME", "LOCALTIMESTAMP", "LOCK", "LOW_PRIORITY", "MOD", "N", "NATURAL", "NOT", "NULL", "OFFSET", "ON", "OR",
+            "ORDER", "OUTER", "PARTITION", "QUICK", "REGEXP", "RIGHT", "RLIKE", "ROW", "SELECT", "SET", "SQL_CALC_FOUND_ROWS", "STRAIGHT_JOIN", "THEN", "TRUE", "UNION", "UNKNOWN", "UPDATE",
+            "USE", "USING", "VALUE", "VALUES", "WHEN", "WHERE", "WITH", "XOR", "Y"));
+    
+    private final String sql;
+    
+    private List<SimpleDMLToken> tokens;
+    
+    private int position;
+    
+    private int parameterIndex;
+    
+    /**
+     * Judge whether database type is supported by simple DML parser.
+     * 
+     * @param databaseTypeName database type name
+     * @return supported or not
+     */
+    public static boolean isSupported(final String databaseTypeName) {
+        return MYSQL.equals(databaseTypeName);
+    }
+    
+    /**
+     * Parse SQL.
+     * 
+     * @return SQL statement, absent if SQL is not simple DML
+     */
+    public Optional<SQLStatement> parse() {
+        Optional<List<SimpleDMLToken>> tokens = new SimpleDMLLexer(sql).tokenize();
+        if (!tokens.isPresent()) {
+            return Optional.absent();
+        }
+        this.tokens = tokens.get();
+        SQLStatement result = parseStatement();
+        return null != result && isType(SimpleDMLTokenType.END) ? Optional.of(result) : Optional.<SQLStatement>absent();
+    }
+    
+    private SQLStatement parseStatement() {
+        if (isKeyword("SELECT")) {
+            return parseSelect();
+        }
+        if (isKeyword("INSERT")) {
+            return parseInsert();
+        }
+        if (isKeyword("UPDATE")) {
+            return parseUpdate();
+        }
+        if (isKeyword("DELETE")) {
+            return parseDelete();
+        }
+        return null;
+    }
+    
+    private SelectStatement parseSelect() {
+        position++;
+        ProjectionsSegment projections = parseProjections();
+        if (null == projections || !acceptKeyword("FROM")) {
+            return null;
+        }
+        TableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        SelectStatement result = new SelectStatement();
+        result.setProjections(projections);
+        result.getTables().add(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        result.setParametersCount(parameterIndex);
+        return result;
+    }
+    
+    private ProjectionsSegment parseProjections() {
+        int startIndex = current().getStartIndex();
+        Collection<ProjectionSegment> projections = new LinkedList<>();
+        if (isType(SimpleDMLTokenType.ASTERISK)) {
+            SimpleDMLToken asterisk = next();
+            projections.add(new ShorthandProjectionSegment(asterisk.getStartIndex(), asterisk.getStopIndex(), asterisk.getText()));
+            if (!accept(SimpleDMLTokenType.COMMA)) {
+                return createProjectionsSegment(startIndex, projections);
+            }
+        }
+        do {
+            ColumnProjectionSegment projection = parseColumnProjection();
+            if (null == projection) {
+                return null;
+            }
+            projections.add(projection);
+        } while (accept(SimpleDMLTokenType.COMMA));
+        return createProjectionsSegment(startIndex, projections);
+    }
+    
+    private ColumnProjectionSegment parseColumnProjection() {
+        ColumnSegment column = parseColumn();
+        if (null == column) {
+            return null;
+        }
+        ColumnProjectionSegment result = new ColumnProjectionSegment(sql.substring(column.getStartIndex(), column.getStopIndex() + 1), column);
+        boolean hasAs = acceptKeyword("AS");
+        if (!isIdentifier() && !isType(SimpleDMLTokenType.STRING)) {
+            return hasAs ? null : result;
+        }
+        SimpleDMLToken alias = next();
+        result.setAlias(new AliasSegment(alias.getStartIndex(), alias.getStopIndex(), new IdentifierValue(sql.substring(alias.getStartIndex(), alias.getStopIndex() + 1))));
+        return result;
+    }
+    
+    private ProjectionsSegment createProjectionsSegment(final int startIndex, final Collection<ProjectionSegment> projections) {
+        ProjectionsSegment result = new ProjectionsSegment(startIndex, previous().getStopIndex());
+        result.getProjections().addAll(projections);
+        return result;
+    }
+    
+    private InsertStatement parseInsert() {
+        position++;
+        if (!acceptKeyword("INTO")) {
+            return null;
+        }
+        TableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        InsertColumnsSegment insertColumns = parseInsertColumns();
+        if (null == insertColumns || !acceptKeyword("VALUES") && !acceptKeyword("VALUE")) {
+            return null;
+        }
+        InsertStatement result = new InsertStatement();
+        result.setInsertColumns(insertColumns);
+        do {
+            InsertValuesSegment insertValues = parseInsertValues();
+            if (null == insertValues) {
+                return null;
+            }
+            result.getValues().add(insertValues);
+        } while (accept(SimpleDMLTokenType.COMMA));
+        result.setTable(table);
+        result.setParametersCount(parameterIndex);
+        return result;
+    }
+    
+    private InsertColumnsSegment parseInsertColumns() {
+        if (!isType(SimpleDMLTokenType.LEFT_PAREN)) {
+            int index = current().getStartIndex() - 1;
+            return new InsertColumnsSegment(index, index, Collections.<ColumnSegment>emptyList());
+        }
+        int startIndex = next().getStartIndex();
+        Collection<ColumnSegment> columns = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column) {
+                return null;
+            }
+            columns.add(column);
+        } while (accept(SimpleDMLTokenType.COMMA));
+        return accept(SimpleDMLTokenType.RIGHT_PAREN) ? new InsertColumnsSegment(startIndex, previous().getStopIndex(), columns) : null;
+    }
+    
+    private InsertValuesSegment parseInsertValues() {
+        if (!isType(SimpleDMLTokenType.LEFT_PAREN)) {
+            return null;
+        }
+        int startIndex = next().getStartIndex();
+        List<ExpressionSegment> values = new ArrayList<>();
+        do {
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            values.add(value);
+        } while (accept(SimpleDMLTokenType.COMMA));
+        return accept(SimpleDMLTokenType.RIGHT_PAREN) ? new InsertValuesSegment(startIndex, previous().getStopIndex(), values) : null;
+    }
+    
+    private UpdateStatement parseUpdate() {
+        position++;
+        TableSegment table = parseTable();
+        if (null == table || !isKeyword("SET")) {
+            return null;
+        }
+        int startIndex = next().getStartIndex();
+        Collection<AssignmentSegment> assignments = new LinkedList<>();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column || !accept(SimpleDMLTokenType.EQUAL)) {
+                return null;
+            }
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            assignments.add(new AssignmentSegment(column.getStartIndex(), value.getStopIndex(), column, value));
+        } while (accept(SimpleDMLTokenType.COMMA));
+        UpdateStatement result = new UpdateStatement();
+        result.getTables().add(table);
+        result.setSetAssignment(new SetAssignmentSegment(startIndex, previous().getStopIndex(), assignments));
+        if (isKeyword("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        result.setParametersCount(parameterIndex);
+        return result;
+    }
+    
+    private DeleteStatement parseDelete() {
+        position++;
+        if (!acceptKeyword("FROM")) {
+            return null;
+        }
+        TableSegment table = parseTable();
+        if (null == table) {
+            return null;
+        }
+        DeleteStatement result = new DeleteStatement();
+        result.getTables().add(table);
+        if (isKeyword("WHERE")) {
+            WhereSegment where = parseWhere();
+            if (null == where) {
+                return null;
+            }
+            result.setWhere(where);
+        }
+        result.setParametersCount(parameterIndex);
+        return result;
+    }
+    
+    private WhereSegment parseWhere() {
+        int startIndex = next().getStartIndex();
+        AndPredicate andPredicate = new AndPredicate();
+        do {
+            ColumnSegment column = parseColumn();
+            if (null == column || !accept(SimpleDMLTokenType.EQUAL)) {
+                return null;
+            }
+            ExpressionSegment value = parseValue();
+            if (null == value) {
+                return null;
+            }
+            andPredicate.getPredicates().add(new PredicateSegment(column.getStartIndex(), value.getStopIndex(), column, new PredicateCompareRightValue("=", value)));
+        } while (acceptKeyword("AND"));
+        WhereSegment result = new WhereSegment(startIndex, previous().getStopIndex());
+        result.getAndPredicates().add(andPredicate);
+        return result;
+    }
+    
+    private TableSegment parseTable() {
+        if (!isIdentifier()) {
+            return null;
+        }
+        SimpleDMLToken first = next();
+        if (!accept(SimpleDMLTokenType.DOT)) {
+            return new TableSegment(new TableNameSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        }
+        if (!isIdentifier()) {
+            return null;
+        }
+        SimpleDMLToken second = next();
+        TableSegment result = new TableSegment(new TableNameSegment(first.getStartIndex(), second.getStopIndex(), new IdentifierValue(second.getText())));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private ColumnSegment parseColumn() {
+        if (!isIdentifier()) {
+            return null;
+        }
+        SimpleDMLToken first = next();
+        if (!accept(SimpleDMLTokenType.DOT)) {
+            return new ColumnSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText()));
+        }
+        if (!isIdentifier()) {
+            return null;
+        }
+        SimpleDMLToken second = next();
+        ColumnSegment result = new ColumnSegment(first.getStartIndex(), second.getStopIndex(), new IdentifierValue(second.getText()));
+        result.setOwner(new OwnerSegment(first.getStartIndex(), first.getStopIndex(), new IdentifierValue(first.getText())));
+        return result;
+    }
+    
+    private ExpressionSegment parseValue() {
+        SimpleDMLToken token = current();
+        switch (token.getType()) {
+            case PARAMETER_MARKER:
+                position++;
+                return new ParameterMarkerExpressionSegment(token.getStartIndex(), token.getStopIndex(), parameterIndex++);
+            case NUMBER:
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new NumberLiteralValue(token.getText()).getValue());
+            case STRING:
+                position++;
+                return new LiteralExpressionSegment(token.getStartIndex(), token.getStopIndex(), new StringLiteralValue(token.getText()).getValue());
+            default:
+                return null;
+        }
+    }
+    
+    private boolean isIdentifier() {
+        SimpleDMLToken token = current();
+        return SimpleDMLTokenType.QUOTED_IDENTIFIER == token.getType() || SimpleDMLTokenType.IDENTIFIER == token.getType() && !RESERVED_WORDS.contains(token.getText().toUpperCase());
+    }
+    
+    private boolean isKeyword(final String keyword) {
+        return SimpleDMLTokenType.IDENTIFIER == current().getType() && keyword.equalsIgnoreCase(current().getText());
+    }
+    
+    private boolean isType(final SimpleDMLTokenType type) {
+        return type == current().getType();
+    }
+    
+    private boolean acceptKeyword(final String keyword) {
+        if (isKeyword(keyword)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private boolean accept(final SimpleDMLTokenType type) {
+        if (isType(type)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+    
+    private SimpleDMLToken current() {
+        return tokens.get(position);
+    }
+    
+    private SimpleDMLToken next() {
+        return tokens.get(position++);
+    }
+    
+    private SimpleDMLToken previous() {
+        return tokens.get(position - 1);
+    }
+}
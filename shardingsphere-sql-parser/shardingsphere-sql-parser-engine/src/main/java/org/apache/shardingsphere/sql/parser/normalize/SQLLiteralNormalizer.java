@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.normalize;
+
+import com.google.common.base.Optional;
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.sql.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * SQL literal normalizer.
+ * 
+ * <p>
+ * Replace literals of DML with parameter markers, so that SQL different in literals only share one parse result.
+ * Only literals which are safe to be parameters are normalized, they are numbers and strings compared with columns after {@code WHERE}, {@code SET}, {@code ON} or {@code HAVING},
+ * values of {@code VALUES} and {@code IN} lists, and numbers of {@code LIMIT} and {@code OFFSET}.
+ * Predicate ends at {@code GROUP}, {@code ORDER}, {@code LIMIT} or {@code UNION}, and predicate of subquery starts over from its {@code SELECT}.
+ * State of predicate is kept for each parenthesis and restored when the parenthesis closes, so that predicate goes on after {@code IN} list or subquery.
+ * Strings with backslash are kept because their values depend on SQL mode of database.
+ * SQL which already has parameter markers is not normalized.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class SQLLiteralNormalizer {
+    
+    private static final String MYSQL = "MySQL";
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> PREDICATE_KEYWORDS = new HashSet<>(Arrays.asList("WHERE", "SET", "ON", "HAVING"));
+    
+    private static final Collection<String> VALUE_LIST_KEYWORDS = new HashSet<>(Arrays.asList("VALUES", "VALUE", "IN"));
+    
+    private static final Collection<String> PREDICATE_END_KEYWORDS = new HashSet<>(Arrays.asList("GROUP", "ORDER", "LIMIT", "UNION"));
+    
+    private static final Collection<String> PAGINATION_KEYWORDS = new HashSet<>(Arrays.asList("LIMIT", "OFFSET"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<>", "!=", "<", ">", "<=", ">="));
+    
+    private static final String OPERATOR_CHARACTERS = "<>=!";
+    
+    private final String sql;
+    
+    private final StringBuilder normalizedSQL = new StringBuilder();
+    
+    private final List<Object> parameters = new ArrayList<>();
+    
+    private final List<ParenState> parenStates = new ArrayList<>();
+    
+    private String previousToken = "";
+    
+    private boolean inPredicate;
+    
+    private boolean inValues;
+    
+    private boolean inPagination;
+    
+    /**
+     * Judge whether database type is supported by SQL literal normalizer.
+     * 
+     * @param databaseTypeName database type name
+     * @return supported or not
+     */
+    public static boolean isSupported(final String databaseTypeName) {
+        return MYSQL.equals(databaseTypeName);
+    }
+    
+    /**
+     * Normalize SQL.
+     * 
+     * @return normalized SQL, absent if SQL is not DML, has parameter markers or has no literal to be normalized
+     */
+    public Optional<NormalizedSQL> normalize() {
+        int position = 0;
+        while (position < sql.length()) {
+            int stopIndex = normalizeToken(position);
+            if (stopIndex < position) {
+                return Optional.absent();
+            }
+            position = stopIndex + 1;
+        }
+        return parameters.isEmpty() ? Optional.<NormalizedSQL>absent() : Optional.of(new NormalizedSQL(normalizedSQL.toString(), parameters));
+    }
+    
+    private int normalizeToken(final int startIndex) {
+        char current = sql.charAt(startIndex);
+        if (Character.isWhitespace(current)) {
+            normalizedSQL.append(current);
+            return startIndex;
+        }
+        if (isComment(startIndex)) {
+            return appendRaw(startIndex, getCommentStopIndex(startIndex));
+        }
+        if ('`' == current || '"' == current) {
+            int result = getQuotedStopIndex(startIndex);
+            previousToken = sql.substring(startIndex, result + 1);
+            return appendRaw(startIndex, result);
+        }
+        if ('\'' == current) {
+            return normalizeString(startIndex);
+        }
+        if (isWordCharacter(current)) {
+            return normalizeWord(startIndex);
+        }
+        if ('?' == current) {
+            return -1;
+        }
+        return normalizeSymbol(startIndex);
+    }
+    
+    private boolean isComment(final int startIndex) {
+        char current = sql.charAt(startIndex);
+        if ('#' == current) {
+            return true;
+        }
+        if (startIndex + 1 >= sql.length()) {
+            return false;
+        }
+        char next = sql.charAt(startIndex + 1);
+        return '/' == current && '*' == next || '-' == current && '-' == next && (startIndex + 2 == sql.length() || Character.isWhitespace(sql.charAt(startIndex + 2)));
+    }
+    
+    private int getCommentStopIndex(final int startIndex) {
+        if ('/' == sql.charAt(startIndex)) {
+            int result = sql.indexOf("*/", startIndex + 2);
+            return result < 0 ? sql.length() - 1 : result + 1;
+        }
+        int result = sql.indexOf('\n', startIndex);
+        return result < 0 ? sql.length() - 1 : result;
+    }
+    
+    private int getQuotedStopIndex(final int startIndex) {
+        char quote = sql.charAt(startIndex);
+        int result = startIndex + 1;
+        while (result < sql.length()) {
+            char current = sql.charAt(result);
+            if ('\\' == current && '`' != quote) {
+                result += 2;
+                continue;
+            }
+            if (quote == current) {
+                if (result + 1 < sql.length() && quote == sql.charAt(result + 1)) {
+                    result += 2;
+                    continue;
+                }
+                return result;
+            }
+            result++;
+        }
+        return sql.length() - 1;
+    }
+    
+    private int normalizeString(final int startIndex) {
+        int result = getQuotedStopIndex(startIndex);
+        String text = sql.substring(startIndex, Math.min(result + 1, sql.length()));
+        if (isNormalizable() && text.length() > 1 && '\'' == text.charAt(text.length() - 1) && -1 == text.indexOf('\\')) {
+            appendParameter(text.substring(1, text.length() - 1).replace("''", "'"));
+        } else {
+            normalizedSQL.append(text);
+        }
+        previousToken = text;
+        return result;
+    }
+    
+    private int normalizeWord(final int startIndex) {
+        int result = startIndex;
+        while (result + 1 < sql.length() && isWordCharacter(sql.charAt(result + 1))) {
+            result++;
+        }
+        if (isNumber(startIndex, result)) {
+            result = getNumberStopIndex(result);
+            String text = sql.substring(startIndex, result + 1);
+            if (isNormalizable() && isPlainNumber(result)) {
+                appendParameter(new NumberLiteralValue(text).getValue());
+            } else {
+                normalizedSQL.append(text);
+            }
+            previousToken = text;
+            return result;
+        }
+        String word = sql.substring(startIndex, result + 1).toUpperCase();
+        if (previousToken.isEmpty() && !DML_KEYWORDS.contains(word)) {
+            return -1;
+        }
+        if (PREDICATE_KEYWORDS.contains(word)) {
+            inPredicate = true;
+        }
+        if (PREDICATE_END_KEYWORDS.contains(word)) {
+            inPredicate = false;
+        }
+        if (VALUE_LIST_KEYWORDS.contains(word) && !"IN".equals(word)) {
+            inValues = true;
+        }
+        if ("SELECT".equals(word)) {
+            inPredicate = false;
+            inValues = false;
+            if ("(".equals(previousToken)) {
+                parenStates.get(parenStates.size() - 1).valueList = false;
+            }
+        }
+        inPagination = PAGINATION_KEYWORDS.contains(word);
+        previousToken = word;
+        return appendRaw(startIndex, result);
+    }
+    
+    private boolean isNumber(final int startIndex, final int stopIndex) {
+        for (int i = startIndex; i <= stopIndex; i++) {
+            if (!Character.isDigit(sql.charAt(i))) {
+                return false;
+            }
+        }
+        return startIndex == 0 || !isWordCharacter(sql.charAt(startIndex - 1)) && '.' != sql.charAt(startIndex - 1);
+    }
+    
+    private int getNumberStopIndex(final int integerStopIndex) {
+        int result = integerStopIndex;
+        if (result + 2 < sql.length() && '.' == sql.charAt(result + 1) && Character.isDigit(sql.charAt(result + 2))) {
+            result += 2;
+            while (result + 1 < sql.length() && Character.isDigit(sql.charAt(result + 1))) {
+                result++;
+            }
+        }
+        return result;
+    }
+    
+    private boolean isPlainNumber(final int stopIndex) {
+        return stopIndex + 1 == sql.length() || !isWordCharacter(sql.charAt(stopIndex + 1)) && '.' != sql.charAt(stopIndex + 1);
+    }
+    
+    private int normalizeSymbol(final int startIndex) {
+        char current = sql.charAt(startIndex);
+        int result = startIndex;
+        if (-1 != OPERATOR_CHARACTERS.indexOf(current)) {
+            while (result + 1 < sql.length() && -1 != OPERATOR_CHARACTERS.indexOf(sql.charAt(result + 1))) {
+                result++;
+            }
+        }
+        if ('(' == current) {
+            parenStates.add(new ParenState(VALUE_LIST_KEYWORDS.contains(previousToken) || inValues && ",".equals(previousToken) && parenStates.isEmpty(), inPredicate, inValues));
+        } else if (')' == current && !parenStates.isEmpty()) {
+            ParenState parenState = parenStates.remove(parenStates.size() - 1);
+            inPredicate = parenState.outerPredicate;
+            inValues = parenState.outerValues;
+        }
+        if (',' != current) {
+            inPagination = false;
+        }
+        previousToken = sql.substring(startIndex, result + 1);
+        return appendRaw(startIndex, result);
+    }
+    
+    private boolean isNormalizable() {
+        if (inPagination) {
+            return PAGINATION_KEYWORDS.contains(previousToken) || ",".equals(previousToken);
+        }
+        if (isInValueList()) {
+            return "(".equals(previousToken) || ",".equals(previousToken);
+        }
+        return inPredicate && COMPARISON_OPERATORS.contains(previousToken);
+    }
+    
+    private boolean isInValueList() {
+        return !parenStates.isEmpty() && parenStates.get(parenStates.size() - 1).valueList;
+    }
+    
+    private boolean isWordCharacter(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch || '$' == ch;
+    }
+    
+    private void appendParameter(final Object value) {
+        normalizedSQL.append('?');
+        parameters.add(value);
+    }
+    
+    private int appendRaw(final int startIndex, final int stopIndex) {
+        normalizedSQL.append(sql, startIndex, stopIndex + 1);
+        return stopIndex;
+    }
+    
+    @AllArgsConstructor
+    private static final class ParenState {
+        
+        private boolean valueList;
+        
+        private final boolean outerPredicate;
+        
+        private final boolean outerValues;
+    }
+}
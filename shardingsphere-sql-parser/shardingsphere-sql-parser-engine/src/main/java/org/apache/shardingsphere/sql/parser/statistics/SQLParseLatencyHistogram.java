@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.statistics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SQL parse latency histogram.
+ * 
+ * <p>
+ * Bucket {@code i} counts parses which take less than {@code 2^i} microseconds, the last bucket counts all slower parses.
+ * </p>
+ */
+public final class SQLParseLatencyHistogram {
+    
+    private static final int BUCKET_COUNT = 24;
+    
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    
+    private final AtomicLong totalNanos = new AtomicLong();
+    
+    /**
+     * Record parse latency.
+     * 
+     * @param elapsedNanos elapsed nanoseconds of parse
+     */
+    public void record(final long elapsedNanos) {
+        long elapsed = Math.max(elapsedNanos, 0L);
+        bucketCounts.incrementAndGet(getBucketIndex(TimeUnit.NANOSECONDS.toMicros(elapsed)));
+        totalNanos.addAndGet(elapsed);
+    }
+    
+    private int getBucketIndex(final long elapsedMicros) {
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(elapsedMicros), BUCKET_COUNT - 1);
+    }
+    
+    /**
+     * Get bucket count.
+     * 
+     * @return bucket count
+     */
+    public int getBucketCount() {
+        return BUCKET_COUNT;
+    }
+    
+    /**
+     * Get exclusive upper bound of bucket in microseconds.
+     * 
+     * @param bucketIndex bucket index
+     * @return exclusive upper bound of bucket in microseconds, {@code Long.MAX_VALUE} for the last bucket
+     */
+    public long getBucketUpperBoundMicros(final int bucketIndex) {
+        return BUCKET_COUNT - 1 == bucketIndex ? Long.MAX_VALUE : 1L << bucketIndex;
+    }
+    
+    /**
+     * Get parse count of bucket.
+     * 
+     * @param bucketIndex bucket index
+     * @return parse count of bucket
+     */
+    public long getCount(final int bucketIndex) {
+        return bucketCounts.get(bucketIndex);
+    }
+    
+    /**
+     * Get total parse count.
+     * 
+     * @return total parse count
+     */
+    public long getTotalCount() {
+        long result = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            result += bucketCounts.get(i);
+        }
+        return result;
+    }
+    
+    /**
+     * Get total parse time in nanoseconds.
+     * 
+     * @return total parse time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos.get();
+    }
+    
+    /**
+     * Get upper bound of percentile latency in microseconds.
+     * 
+     * @param percentile percentile between 0 and 1
+     * @return upper bound of percentile latency in microseconds, 0 if nothing recorded
+     */
+    public long getPercentileUpperBoundMicros(final double percentile) {
+        long totalCount = getTotalCount();
+        if (0L == totalCount) {
+            return 0L;
+        }
+        long threshold = (long) Math.ceil(totalCount * percentile);
+        long accumulated = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulated += bucketCounts.get(i);
+            if (accumulated >= threshold) {
+                return getBucketUpperBoundMicros(i);
+            }
+        }
+        return getBucketUpperBoundMicros(BUCKET_COUNT - 1);
+    }
+}
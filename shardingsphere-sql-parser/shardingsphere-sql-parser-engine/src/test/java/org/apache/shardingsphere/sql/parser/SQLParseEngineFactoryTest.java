@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser;
 
+import org.apache.shardingsphere.sql.parser.cache.SQLParseResultCacheOption;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,6 +26,7 @@ import java.lang.reflect.Field;
 import java.util.Map;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.junit.Assert.assertThat;
 
 public final class SQLParseEngineFactoryTest {
@@ -41,4 +43,11 @@ public final class SQLParseEngineFactoryTest {
     public void assertGetSQLParseEngine() {
         assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL"), is(SQLParserEngineFactory.getSQLParserEngine("MySQL")));
     }
+    
+    @Test
+    public void assertGetSQLParseEngineWithCacheOption() {
+        SQLParseResultCacheOption cacheOption = new SQLParseResultCacheOption(128, 65535L, 1024L, 60L);
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", cacheOption), is(SQLParserEngineFactory.getSQLParserEngine("MySQL", new SQLParseResultCacheOption(128, 65535L, 1024L, 60L))));
+        assertThat(SQLParserEngineFactory.getSQLParserEngine("MySQL", cacheOption), not(SQLParserEngineFactory.getSQLParserEngine("MySQL")));
+    }
 }
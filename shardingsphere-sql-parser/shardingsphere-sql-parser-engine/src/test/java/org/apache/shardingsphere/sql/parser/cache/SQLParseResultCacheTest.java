@@ -53,4 +53,32 @@ public final class SQLParseResultCacheTest {
         actual.clear();
         assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
     }
+    
+    @Test
+    public void assertGetStats() {
+        SQLParseResultCache actual = new SQLParseResultCache();
+        actual.put("SELECT 1", new SelectStatement());
+        actual.getSQLStatement("SELECT 1");
+        actual.getSQLStatement("SELECT 2");
+        assertThat(actual.getStats().hitCount(), is(1L));
+        assertThat(actual.getStats().missCount(), is(1L));
+    }
+    
+    @Test
+    public void assertPutWithSQLHeavierThanMaximumWeight() {
+        SQLParseResultCache actual = new SQLParseResultCache(new SQLParseResultCacheOption(16, 65535L, 4L, 0L));
+        actual.put("SELECT 1", new SelectStatement());
+        assertFalse(actual.getSQLStatement("SELECT 1").isPresent());
+        assertThat(actual.size(), is(0L));
+        assertThat(actual.getStats().evictionCount(), is(1L));
+    }
+    
+    @Test
+    public void assertPutWithMoreSQLThanMaximumSize() {
+        SQLParseResultCache actual = new SQLParseResultCache(new SQLParseResultCacheOption(16, 1L, 16L, 0L));
+        actual.put("SELECT 1", new SelectStatement());
+        actual.put("SELECT 2", new SelectStatement());
+        assertThat(actual.size(), is(1L));
+        assertThat(actual.getStats().evictionCount(), is(1L));
+    }
 }
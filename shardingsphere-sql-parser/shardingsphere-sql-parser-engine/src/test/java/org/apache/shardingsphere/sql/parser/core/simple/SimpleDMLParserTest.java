@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.simple;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.sql.parser.core.constant.QuoteCharacter;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.AssignmentSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.assignment.InsertValuesSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.PredicateSegment;
+import org.apache.shardingsphere.sql.parser.sql.segment.dml.predicate.value.PredicateCompareRightValue;
+import org.apache.shardingsphere.sql.parser.sql.segment.generic.TableSegment;
+import org.apache.shardingsphere.sql.parser.sql.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.DeleteStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.InsertStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.statement.dml.UpdateStatement;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SimpleDMLParserTest {
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(SimpleDMLParser.isSupported("MySQL"));
+        assertFalse(SimpleDMLParser.isSupported("PostgreSQL"));
+    }
+    
+    @Test
+    public void assertParseSelect() {
+        Optional<SQLStatement> actual = new SimpleDMLParser("SELECT order_id, o.user_id FROM t_order WHERE user_id = ? AND order_id = 1").parse();
+        assertTrue(actual.isPresent());
+        SelectStatement selectStatement = (SelectStatement) actual.get();
+        assertThat(selectStatement.getParametersCount(), is(1));
+        assertThat(selectStatement.getProjections().getStartIndex(), is(7));
+        assertThat(selectStatement.getProjections().getStopIndex(), is(25));
+        List<ProjectionSegment> projections = new ArrayList<>(selectStatement.getProjections().getProjections());
+        assertThat(projections.size(), is(2));
+        assertThat(((ColumnProjectionSegment) projections.get(0)).getText(), is("order_id"));
+        ColumnProjectionSegment ownedProjection = (ColumnProjectionSegment) projections.get(1);
+        assertThat(ownedProjection.getText(), is("o.user_id"));
+        assertThat(ownedProjection.getStartIndex(), is(17));
+        assertThat(ownedProjection.getStopIndex(), is(25));
+        assertThat(ownedProjection.getOwner().get().getIdentifier().getValue(), is("o"));
+        TableSegment table = selectStatement.getTables().iterator().next();
+        assertThat(table.getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(table.getStartIndex(), is(32));
+        assertThat(table.getStopIndex(), is(38));
+        assertThat(selectStatement.getWhere().get().getStartIndex(), is(40));
+        assertThat(selectStatement.getWhere().get().getStopIndex(), is(73));
+        assertThat(selectStatement.getWhere().get().getAndPredicates().size(), is(1));
+        Iterator<PredicateSegment> predicates = selectStatement.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator();
+        PredicateSegment firstPredicate = predicates.next();
+        assertThat(firstPredicate.getStartIndex(), is(46));
+        assertThat(firstPredicate.getStopIndex(), is(56));
+        assertThat(firstPredicate.getColumn().getIdentifier().getValue(), is("user_id"));
+        PredicateCompareRightValue firstRightValue = (PredicateCompareRightValue) firstPredicate.getRightValue();
+        assertThat(firstRightValue.getOperator(), is("="));
+        assertThat(((ParameterMarkerExpressionSegment) firstRightValue.getExpression()).getParameterMarkerIndex(), is(0));
+        PredicateSegment secondPredicate = predicates.next();
+        assertThat(secondPredicate.getStartIndex(), is(62));
+        assertThat(secondPredicate.getStopIndex(), is(73));
+        assertThat(((LiteralExpressionSegment) ((PredicateCompareRightValue) secondPredicate.getRightValue()).getExpression()).getLiterals(), is((Object) 1));
+    }
+    
+    @Test
+    public void assertParseSelectWithAliases() {
+        Optional<SQLStatement> actual = new SimpleDMLParser("SELECT `order_id` AS oid, o.user_id 'uid', status FROM t_order").parse();
+        assertTrue(actual.isPresent());
+        SelectStatement selectStatement = (SelectStatement) actual.get();
+        assertThat(selectStatement.getProjections().getStopIndex(), is(48));
+        List<ProjectionSegment> projections = new ArrayList<>(selectStatement.getProjections().getProjections());
+        ColumnProjectionSegment quotedProjection = (ColumnProjectionSegment) projections.get(0);
+        assertThat(quotedProjection.getText(), is("`order_id`"));
+        assertThat(quotedProjection.getAlias().get(), is("oid"));
+        ColumnProjectionSegment ownedProjection = (ColumnProjectionSegment) projections.get(1);
+        assertThat(ownedProjection.getText(), is("o.user_id"));
+        assertThat(ownedProjection.getAlias().get(), is("uid"));
+        assertFalse(((ColumnProjectionSegment) projections.get(2)).getAlias().isPresent());
+    }
+    
+    @Test
+    public void assertParseSelectWithAsWithoutAlias() {
+        assertFalse(new SimpleDMLParser("SELECT order_id AS FROM t_order").parse().isPresent());
+    }
+    
+    @Test
+    public void assertParseSelectWithShorthandAndLowerCaseKeywords() {
+        Optional<SQLStatement> actual = new SimpleDMLParser("select * from t_order").parse();
+        assertTrue(actual.isPresent());
+        SelectStatement selectStatement = (SelectStatement) actual.get();
+        ProjectionSegment projection = selectStatement.getProjections().getProjections().iterator().next();
+        assertThat(projection, instanceOf(ShorthandProjectionSegment.class));
+        assertThat(projection.getStartIndex(), is(7));
+        assertThat(projection.getStopIndex(), is(7));
+        assertFalse(selectStatement.getWhere().isPresent());
+    }
+    
+    @Test
+    public void assertParseInsert() {
+        Optional<SQLStatement> actual = new SimpleDMLParser("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, 'init')").parse();
+        assertTrue(actual.isPresent());
+        InsertStatement insertStatement = (InsertStatement) actual.get();
+        assertThat(insertStatement.getParametersCount(), is(2));
+        assertThat(insertStatement.getTable().getStartIndex(), is(12));
+        assertThat(insertStatement.getTable().getStopIndex(), is(18));
+        assertThat(insertStatement.getInsertColumns().get().getStartIndex(), is(20));
+        assertThat(insertStatement.getInsertColumns().get().getStopIndex(), is(46));
+        assertThat(insertStatement.getColumnNames().toString(), is("[order_id, user_id, status]"));
+        InsertValuesSegment insertValues = insertStatement.getValues().iterator().next();
+        assertThat(insertValues.getStartIndex(), is(55));
+        assertThat(insertValues.getStopIndex(), is(68));
+        assertThat(((ParameterMarkerExpressionSegment) insertValues.getValues().get(1)).getParameterMarkerIndex(), is(1));
+        assertThat(((LiteralExpressionSegment) insertValues.getValues().get(2)).getLiterals(), is((Object) "init"));
+    }
+    
+    @Test
+    public void assertParseInsertWithoutColumnsAndMultipleValues() {
+        Optional<SQLStatement> actual = new SimpleDMLParser("INSERT INTO t_order VALUES (1, 2), (3, 4)").parse();
+        assertTrue(actual.isPresent());
+        InsertStatement insertStatement = (InsertStatement) actual.get();
+        assertTrue(insertStatement.useDefaultColumns());
+        assertThat(insertStatement.getInsertColumns().get().getStartIndex(), is(19));
+        assertThat(insertStatement.getInsertColumns().get().getStopIndex(), is(19));
+        assertThat(insertStatement.getValueListCount(), is(2));
+        Iterator<InsertValuesSegment> insertValues = insertStatement.getValues().iterator();
+        insertValues.next();
+        InsertValuesSegment secondInsertValues = insertValues.next();
+        assertThat(secondInsertValues.getStartIndex(), is(35));
+        assertThat(secondInsertValues.getStopIndex(), is(40));
+    }
+    
+    @Test
+    public void assertParseUpdate() {
+        Optional<SQLStatement> actual = new SimpleDMLParser("UPDATE t_order SET status = ?, user_id = 1 WHERE order_id = ?").parse();
+        assertTrue(actual.isPresent());
+        UpdateStatement updateStatement = (UpdateStatement) actual.get();
+        assertThat(updateStatement.getParametersCount(), is(2));
+        assertThat(updateStatement.getTables().iterator().next().getStopIndex(), is(13));
+        assertThat(updateStatement.getSetAssignment().getStartIndex(), is(15));
+        assertThat(updateStatement.getSetAssignment().getStopIndex(), is(41));
+        AssignmentSegment assignment = updateStatement.getSetAssignment().getAssignments().iterator().next();
+        assertThat(assignment.getStartIndex(), is(19));
+        assertThat(assignment.getStopIndex(), is(28));
+        assertThat(assignment.getColumn().getIdentifier().getValue(), is("status"));
+        assertThat(updateStatement.getWhere().get().getStartIndex(), is(43));
+        PredicateSegment predicate = updateStatement.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator().next();
+        assertThat(((ParameterMarkerExpressionSegment) ((PredicateCompareRightValue) predicate.getRightValue()).getExpression()).getParameterMarkerIndex(), is(1));
+    }
+    
+    @Test
+    public void assertParseDeleteWithOwnerAndQuotedTable() {
+        Optional<SQLStatement> actual = new SimpleDMLParser("DELETE FROM ds.`t_order` WHERE order_id = 10").parse();
+        assertTrue(actual.isPresent());
+        DeleteStatement deleteStatement = (DeleteStatement) actual.get();
+        TableSegment table = deleteStatement.getTables().iterator().next();
+        assertThat(table.getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(table.getTableName().getIdentifier().getQuoteCharacter(), is(QuoteCharacter.BACK_QUOTE));
+        assertThat(table.getTableName().getStartIndex(), is(12));
+        assertThat(table.getTableName().getStopIndex(), is(23));
+        assertThat(table.getOwner().get().getIdentifier().getValue(), is("ds"));
+        assertThat(table.getOwner().get().getStopIndex(), is(13));
+        assertThat(deleteStatement.getWhere().get().getStartIndex(), is(25));
+        assertThat(deleteStatement.getWhere().get().getStopIndex(), is(43));
+        ColumnSegment column = deleteStatement.getWhere().get().getAndPredicates().iterator().next().getPredicates().iterator().next().getColumn();
+        assertThat(column.getStartIndex(), is(31));
+        assertThat(column.getStopIndex(), is(38));
+    }
+    
+    @Test
+    public void assertParseWithUnsupportedSQL() {
+        assertFalse(new SimpleDMLParser("SELECT * FROM t_order ORDER BY order_id").parse().isPresent());
+        assertFalse(new SimpleDMLParser("SELECT * FROM t_order WHERE order_id > 1").parse().isPresent());
+        assertFalse(new SimpleDMLParser("SELECT * FROM t_order WHERE order_id = 1 OR order_id = 2").parse().isPresent());
+        assertFalse(new SimpleDMLParser("SELECT * FROM t_order o WHERE o.order_id = 1").parse().isPresent());
+        assertFalse(new SimpleDMLParser("SELECT count(*) FROM t_order").parse().isPresent());
+        assertFalse(new SimpleDMLParser("SELECT /* comment */ * FROM t_order").parse().isPresent());
+        assertFalse(new SimpleDMLParser("SELECT * FROM t_order WHERE status = 'it''s'").parse().isPresent());
+        assertFalse(new SimpleDMLParser("SELECT * FROM t_order WHERE order_id = 1.5").parse().isPresent());
+        assertFalse(new SimpleDMLParser("SELECT * FROM order").parse().isPresent());
+        assertFalse(new SimpleDMLParser("INSERT INTO t_order VALUES (now())").parse().isPresent());
+        assertFalse(new SimpleDMLParser("UPDATE t_order SET status = ? WHERE").parse().isPresent());
+        assertFalse(new SimpleDMLParser("SHOW TABLES").parse().isPresent());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.normalize;
+
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLLiteralNormalizerTest {
+    
+    @Test
+    public void assertIsSupported() {
+        assertTrue(SQLLiteralNormalizer.isSupported("MySQL"));
+        assertFalse(SQLLiteralNormalizer.isSupported("Oracle"));
+    }
+    
+    @Test
+    public void assertNormalizeSelect() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer("SELECT order_id, 1 FROM t_order WHERE user_id = 10 AND status <> 'init' AND price >= 1.5 LIMIT 5, 10").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT order_id, 1 FROM t_order WHERE user_id = ? AND status <> ? AND price >= ? LIMIT ?, ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "init", new BigDecimal("1.5"), 5, 10)));
+    }
+    
+    @Test
+    public void assertNormalizeInsertWithMultipleValues() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer("INSERT INTO t_order (order_id, status) VALUES (1, 'it''s'), (2, now())").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, status) VALUES (?, ?), (?, now())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, "it's", 2)));
+    }
+    
+    @Test
+    public void assertNormalizeUpdateWithInList() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer("update t_order set status = 'done' where order_id in (1, 2) and user_id = -1").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("update t_order set status = ? where order_id in (?, ?) and user_id = -1"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList("done", 1, 2)));
+    }
+    
+    @Test
+    public void assertNormalizeWithPredicateAfterInList() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer("SELECT * FROM t_order WHERE order_id IN (1, 2) AND status = 'init'").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (?, ?) AND status = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, "init")));
+    }
+    
+    @Test
+    public void assertNormalizeWithPredicateEndedByOrderBy() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer("SELECT * FROM t_order WHERE order_id IN (1, 2) ORDER BY status = 'init' LIMIT 10").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (?, ?) ORDER BY status = 'init' LIMIT ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 10)));
+    }
+    
+    @Test
+    public void assertNormalizeWithPredicateEndedBySubquery() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer(
+                "SELECT * FROM t_order WHERE user_id = 1 AND order_id = (SELECT status = 1 FROM t_order_item WHERE item_id = 2) AND status = 'init'").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND order_id = (SELECT status = 1 FROM t_order_item WHERE item_id = ?) AND status = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, "init")));
+    }
+    
+    @Test
+    public void assertNormalizeWithInSubquery() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer(
+                "SELECT * FROM t_order WHERE user_id IN (SELECT user_id FROM t_user WHERE status = 1 GROUP BY user_id, 2) AND order_id = 3").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id IN (SELECT user_id FROM t_user WHERE status = ? GROUP BY user_id, 2) AND order_id = ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 3)));
+    }
+    
+    @Test
+    public void assertNormalizeWithUntouchedLiterals() {
+        Optional<NormalizedSQL> actual = new SQLLiteralNormalizer(
+                "DELETE FROM t_order WHERE /* id = 1 */ order_id = 1 AND status = 'a\\'b' AND remark = \"x\" AND create_time > DATE '2020-01-01' AND flag = 0x1F AND code = t_1").normalize();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getSql(),
+                is("DELETE FROM t_order WHERE /* id = 1 */ order_id = ? AND status = 'a\\'b' AND remark = \"x\" AND create_time > DATE '2020-01-01' AND flag = 0x1F AND code = t_1"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(1)));
+    }
+    
+    @Test
+    public void assertNormalizeWithoutNormalizableLiteral() {
+        assertFalse(new SQLLiteralNormalizer("SELECT * FROM t_order").normalize().isPresent());
+        assertFalse(new SQLLiteralNormalizer("SELECT * FROM t_order WHERE order_id = ? AND user_id = 1").normalize().isPresent());
+        assertFalse(new SQLLiteralNormalizer("SHOW TABLES LIKE 't_%'").normalize().isPresent());
+        assertFalse(new SQLLiteralNormalizer("SET autocommit = 1").normalize().isPresent());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.statistics;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLParseLatencyHistogramTest {
+    
+    @Test
+    public void assertRecord() {
+        SQLParseLatencyHistogram actual = new SQLParseLatencyHistogram();
+        actual.record(TimeUnit.MICROSECONDS.toNanos(3L));
+        actual.record(TimeUnit.MICROSECONDS.toNanos(100L));
+        actual.record(TimeUnit.SECONDS.toNanos(100L));
+        assertThat(actual.getTotalCount(), is(3L));
+        assertThat(actual.getCount(2), is(1L));
+        assertThat(actual.getCount(7), is(1L));
+        assertThat(actual.getCount(actual.getBucketCount() - 1), is(1L));
+        assertThat(actual.getTotalNanos(), is(TimeUnit.MICROSECONDS.toNanos(103L) + TimeUnit.SECONDS.toNanos(100L)));
+    }
+    
+    @Test
+    public void assertGetPercentileUpperBoundMicros() {
+        SQLParseLatencyHistogram actual = new SQLParseLatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            actual.record(TimeUnit.MICROSECONDS.toNanos(10L));
+        }
+        actual.record(TimeUnit.MILLISECONDS.toNanos(5L));
+        assertThat(actual.getPercentileUpperBoundMicros(0.5D), is(16L));
+        assertThat(actual.getPercentileUpperBoundMicros(0.99D), is(16L));
+        assertThat(actual.getPercentileUpperBoundMicros(1D), is(8192L));
+    }
+    
+    @Test
+    public void assertGetPercentileUpperBoundMicrosWithoutRecord() {
+        assertThat(new SQLParseLatencyHistogram().getPercentileUpperBoundMicros(0.99D), is(0L));
+    }
+}
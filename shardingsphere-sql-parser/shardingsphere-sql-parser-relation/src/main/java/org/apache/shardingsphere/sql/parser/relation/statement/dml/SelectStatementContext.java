@@ -52,10 +52,14 @@ import org.apache.shardingsphere.sql.parser.sql.statement.dml.SelectStatement;
 import org.apache.shardingsphere.sql.parser.sql.statement.generic.TableSegmentsAvailable;
 import org.apache.shardingsphere.sql.parser.util.SQLUtil;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 
 /**
  * Select SQL statement context.
@@ -111,42 +115,76 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
      * @param columnLabelIndexMap map for column label and index
      */
     public void setIndexes(final Map<String, Integer> columnLabelIndexMap) {
-        setIndexForAggregationProjection(columnLabelIndexMap);
+        for (Entry<AggregationProjection, Integer> entry : getAggregationProjectionIndexes(columnLabelIndexMap).entrySet()) {
+            entry.getKey().setIndex(entry.getValue());
+        }
         setIndexForOrderItem(columnLabelIndexMap, orderByContext.getItems());
         setIndexForOrderItem(columnLabelIndexMap, groupByContext.getItems());
     }
     
-    private void setIndexForAggregationProjection(final Map<String, Integer> columnLabelIndexMap) {
+    /**
+     * Get indexes of aggregation projections.
+     * 
+     * <p>
+     * Indexes of projections are not set, so that they can be got from query results of other threads.
+     * Key of map is compared by identity, because hash code of aggregation projection changes with its index.
+     * </p>
+     *
+     * @param columnLabelIndexMap map for column label and index
+     * @return map for aggregation projection and index
+     */
+    public Map<AggregationProjection, Integer> getAggregationProjectionIndexes(final Map<String, Integer> columnLabelIndexMap) {
+        Map<AggregationProjection, Integer> result = new IdentityHashMap<>();
         for (AggregationProjection each : projectionsContext.getAggregationProjections()) {
             Preconditions.checkState(columnLabelIndexMap.containsKey(each.getColumnLabel()), "Can't find index: %s, please add alias for aggregate selections", each);
-            each.setIndex(columnLabelIndexMap.get(each.getColumnLabel()));
+            result.put(each, columnLabelIndexMap.get(each.getColumnLabel()));
             for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
                 Preconditions.checkState(columnLabelIndexMap.containsKey(derived.getColumnLabel()), "Can't find index: %s", derived);
-                derived.setIndex(columnLabelIndexMap.get(derived.getColumnLabel()));
+                result.put(derived, columnLabelIndexMap.get(derived.getColumnLabel()));
             }
         }
+        return result;
+    }
+    
+    /**
+     * Get indexes of order by items.
+     * 
+     * <p>
+     * Indexes of order by items are not set, so that they can be got from query results of other threads.
+     * </p>
+     *
+     * @param columnLabelIndexMap map for column label and index
+     * @param orderByItems order by items
+     * @return indexes of order by items
+     */
+    public List<Integer> getOrderByItemIndexes(final Map<String, Integer> columnLabelIndexMap, final Collection<OrderByItem> orderByItems) {
+        List<Integer> result = new ArrayList<>(orderByItems.size());
+        for (OrderByItem each : orderByItems) {
+            result.add(getIndex(columnLabelIndexMap, each));
+        }
+        return result;
     }
     
     private void setIndexForOrderItem(final Map<String, Integer> columnLabelIndexMap, final Collection<OrderByItem> orderByItems) {
         for (OrderByItem each : orderByItems) {
-            if (each.getSegment() instanceof IndexOrderByItemSegment) {
-                each.setIndex(((IndexOrderByItemSegment) each.getSegment()).getColumnIndex());
-                continue;
-            }
-            if (each.getSegment() instanceof ColumnOrderByItemSegment && ((ColumnOrderByItemSegment) each.getSegment()).getColumn().getOwner().isPresent()) {
-                Optional<Integer> itemIndex = projectionsContext.findProjectionIndex(((ColumnOrderByItemSegment) each.getSegment()).getText());
-                if (itemIndex.isPresent()) {
-                    each.setIndex(itemIndex.get());
-                    continue;
-                }
-            }
-            Optional<String> alias = getAlias(((TextOrderByItemSegment) each.getSegment()).getText());
-            String columnLabel = alias.isPresent() ? alias.get() : getOrderItemText((TextOrderByItemSegment) each.getSegment());
-            Preconditions.checkState(columnLabelIndexMap.containsKey(columnLabel), "Can't find index: %s", each);
-            if (columnLabelIndexMap.containsKey(columnLabel)) {
-                each.setIndex(columnLabelIndexMap.get(columnLabel));
+            each.setIndex(getIndex(columnLabelIndexMap, each));
+        }
+    }
+    
+    private int getIndex(final Map<String, Integer> columnLabelIndexMap, final OrderByItem orderByItem) {
+        if (orderByItem.getSegment() instanceof IndexOrderByItemSegment) {
+            return ((IndexOrderByItemSegment) orderByItem.getSegment()).getColumnIndex();
+        }
+        if (orderByItem.getSegment() instanceof ColumnOrderByItemSegment && ((ColumnOrderByItemSegment) orderByItem.getSegment()).getColumn().getOwner().isPresent()) {
+            Optional<Integer> itemIndex = projectionsContext.findProjectionIndex(((ColumnOrderByItemSegment) orderByItem.getSegment()).getText());
+            if (itemIndex.isPresent()) {
+                return itemIndex.get();
             }
         }
+        Optional<String> alias = getAlias(((TextOrderByItemSegment) orderByItem.getSegment()).getText());
+        String columnLabel = alias.isPresent() ? alias.get() : getOrderItemText((TextOrderByItemSegment) orderByItem.getSegment());
+        Preconditions.checkState(columnLabelIndexMap.containsKey(columnLabel), "Can't find index: %s", orderByItem);
+        return columnLabelIndexMap.get(columnLabel);
     }
     
     private Optional<String> getAlias(final String name) {
@@ -179,6 +217,58 @@ public final class SelectStatementContext extends CommonSQLStatementContext<Sele
         return !groupByContext.getItems().isEmpty() && groupByContext.getItems().equals(orderByContext.getItems());
     }
     
+    /**
+     * Judge group by items can be used as order by items of route units or not.
+     * 
+     * <p>
+     * If route units are sorted by group by items instead of different order by items, groups can be merged in stream,
+     * and then aggregated groups are sorted by original order by items.
+     * Items with owner are excluded, because their owners are rewritten to actual tables.
+     * Items are compared by segments, because item indexes are not set before merging.
+     * </p>
+     *
+     * @return group by items can be used as order by items of route units or not
+     */
+    public boolean isGroupByItemsAsOrderByItemsAvailable() {
+        return !groupByContext.getItems().isEmpty() && getSqlStatement().getOrderBy().isPresent() && !orderByContext.isGenerated() && !isSameGroupByAndOrderBySegments()
+                && !containsOwner(groupByContext.getItems()) && !containsOwner(orderByContext.getItems());
+    }
+    
+    private boolean isSameGroupByAndOrderBySegments() {
+        if (groupByContext.getItems().size() != orderByContext.getItems().size()) {
+            return false;
+        }
+        Iterator<OrderByItem> orderByItems = orderByContext.getItems().iterator();
+        for (OrderByItem each : groupByContext.getItems()) {
+            if (!isSameSegment(each.getSegment(), orderByItems.next().getSegment())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSameSegment(final OrderByItemSegment groupByItemSegment, final OrderByItemSegment orderByItemSegment) {
+        if (groupByItemSegment.getOrderDirection() != orderByItemSegment.getOrderDirection()) {
+            return false;
+        }
+        if (groupByItemSegment instanceof TextOrderByItemSegment && orderByItemSegment instanceof TextOrderByItemSegment) {
+            return ((TextOrderByItemSegment) groupByItemSegment).getText().equalsIgnoreCase(((TextOrderByItemSegment) orderByItemSegment).getText());
+        }
+        if (groupByItemSegment instanceof IndexOrderByItemSegment && orderByItemSegment instanceof IndexOrderByItemSegment) {
+            return ((IndexOrderByItemSegment) groupByItemSegment).getColumnIndex() == ((IndexOrderByItemSegment) orderByItemSegment).getColumnIndex();
+        }
+        return false;
+    }
+    
+    private boolean containsOwner(final Collection<OrderByItem> orderByItems) {
+        for (OrderByItem each : orderByItems) {
+            if (each.getSegment() instanceof ColumnOrderByItemSegment && ((ColumnOrderByItemSegment) each.getSegment()).getColumn().getOwner().isPresent()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     @Override
     public Collection<TableSegment> getAllTables() {
         Collection<TableSegment> result = new LinkedList<>(getSqlStatement().getTables());
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sql.parser.relation.statement.impl;
 
 import com.google.common.collect.Lists;
+import org.apache.shardingsphere.sql.parser.core.constant.AggregationType;
 import org.apache.shardingsphere.sql.parser.core.constant.OrderDirection;
 import org.apache.shardingsphere.sql.parser.relation.segment.select.groupby.GroupByContext;
 import org.apache.shardingsphere.sql.parser.relation.segment.select.orderby.OrderByContext;
@@ -125,6 +126,49 @@ public final class SelectStatementContextTest {
         assertFalse(selectStatementContext.isSameGroupByAndOrderByItems());
     }
     
+    @Test
+    public void assertIsGroupByItemsAsOrderByItemsAvailable() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.<OrderByItemSegment>singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.<OrderByItemSegment>singletonList(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, OrderDirection.ASC))));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(null, "", Collections.emptyList(), selectStatement);
+        assertTrue(selectStatementContext.isGroupByItemsAsOrderByItemsAvailable());
+    }
+    
+    @Test
+    public void assertIsGroupByItemsAsOrderByItemsAvailableWithDifferentColumnsBeforeIndexesSet() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.<OrderByItemSegment>singletonList(
+                new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("amount")), OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.<OrderByItemSegment>singletonList(
+                new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("account_id")), OrderDirection.ASC, OrderDirection.ASC))));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(null, "", Collections.emptyList(), selectStatement);
+        assertTrue(selectStatementContext.isGroupByItemsAsOrderByItemsAvailable());
+    }
+    
+    @Test
+    public void assertIsNotGroupByItemsAsOrderByItemsAvailableWithSameColumns() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.<OrderByItemSegment>singletonList(
+                new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("account_id")), OrderDirection.ASC, OrderDirection.ASC))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.<OrderByItemSegment>singletonList(
+                new ColumnOrderByItemSegment(new ColumnSegment(0, 0, new IdentifierValue("account_id")), OrderDirection.ASC, OrderDirection.ASC))));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(null, "", Collections.emptyList(), selectStatement);
+        assertFalse(selectStatementContext.isGroupByItemsAsOrderByItemsAvailable());
+    }
+    
+    @Test
+    public void assertIsNotGroupByItemsAsOrderByItemsAvailableWhenOrderByGenerated() {
+        SelectStatement selectStatement = new SelectStatement();
+        selectStatement.setProjections(new ProjectionsSegment(0, 0));
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.<OrderByItemSegment>singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC))));
+        SelectStatementContext selectStatementContext = new SelectStatementContext(null, "", Collections.emptyList(), selectStatement);
+        assertFalse(selectStatementContext.isGroupByItemsAsOrderByItemsAvailable());
+    }
+    
     @Test
     public void assertSetIndexWhenAggregationProjectionsPresent() {
         ProjectionsContext projectionsContext = mock(ProjectionsContext.class);
@@ -140,6 +184,21 @@ public final class SelectStatementContextTest {
         assertThat(selectStatementContext.getOrderByContext().getItems().iterator().next().getIndex(), is(3));
     }
     
+    @Test
+    public void assertGetIndexesWithoutSettingIndexes() {
+        AggregationProjection aggregationProjection = new AggregationProjection(AggregationType.COUNT, "(*)", null);
+        ProjectionsContext projectionsContext = new ProjectionsContext(0, 0, false, Collections.<Projection>singletonList(aggregationProjection), Collections.<String>emptyList());
+        SelectStatementContext selectStatementContext = new SelectStatementContext(
+                new SelectStatement(), new GroupByContext(Collections.<OrderByItem>emptyList(), 0), createOrderBy(COLUMN_ORDER_BY_WITHOUT_OWNER_ALIAS), projectionsContext, null);
+        Map<String, Integer> columnLabelIndexMap = new HashMap<>();
+        columnLabelIndexMap.put("COUNT(*)", 1);
+        columnLabelIndexMap.put("id", 2);
+        assertThat(selectStatementContext.getAggregationProjectionIndexes(columnLabelIndexMap).get(aggregationProjection), is(1));
+        assertThat(selectStatementContext.getOrderByItemIndexes(columnLabelIndexMap, selectStatementContext.getOrderByContext().getItems()), is(Collections.singletonList(2)));
+        assertThat(aggregationProjection.getIndex(), is(-1));
+        assertThat(selectStatementContext.getOrderByContext().getItems().iterator().next().getIndex(), is(0));
+    }
+    
     private OrderByContext createOrderBy(final String type) {
         OrderByItemSegment orderByItemSegment = createOrderByItemSegment(type);
         OrderByItem orderByItem = new OrderByItem(orderByItemSegment);
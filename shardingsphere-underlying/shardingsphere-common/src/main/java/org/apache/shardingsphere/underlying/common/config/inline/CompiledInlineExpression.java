@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.common.config.inline;
+
+import com.google.common.base.Optional;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Compiled inline expression.
+ *
+ * <p>
+ * Evaluate inline expression with plain Java instead of Groovy closure.
+ * </p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public final class CompiledInlineExpression {
+    
+    private final List<InlineExpressionNode> segments;
+    
+    /**
+     * Evaluate inline expression.
+     *
+     * @param variableValue value of variable
+     * @return evaluated result, absent if type of variable value is not supported by compiled expression
+     */
+    public Optional<String> evaluate(final Object variableValue) {
+        StringBuilder result = new StringBuilder();
+        for (InlineExpressionNode each : segments) {
+            Object value = each.evaluate(variableValue);
+            if (null == value) {
+                return Optional.absent();
+            }
+            result.append(value);
+        }
+        return Optional.of(result.toString());
+    }
+}
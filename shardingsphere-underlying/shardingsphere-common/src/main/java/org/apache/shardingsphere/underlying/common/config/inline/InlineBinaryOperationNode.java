@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.common.config.inline;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Binary operation node of compiled inline expression.
+ *
+ * <p>
+ * Follows Groovy semantics: {@code +} concatenates if any operand is string,
+ * arithmetic of two integers stays in int and overflows as int, otherwise it is calculated in long.
+ * </p>
+ */
+@RequiredArgsConstructor
+final class InlineBinaryOperationNode implements InlineExpressionNode {
+    
+    private final char operator;
+    
+    private final InlineExpressionNode left;
+    
+    private final InlineExpressionNode right;
+    
+    @Override
+    public Object evaluate(final Object variableValue) {
+        Object leftValue = left.evaluate(variableValue);
+        if (null == leftValue) {
+            return null;
+        }
+        Object rightValue = right.evaluate(variableValue);
+        if (null == rightValue) {
+            return null;
+        }
+        if ('+' == operator && (leftValue instanceof String || rightValue instanceof String)) {
+            return leftValue.toString() + rightValue.toString();
+        }
+        if (leftValue instanceof Integer && rightValue instanceof Integer) {
+            return calculate((Integer) leftValue, (Integer) rightValue);
+        }
+        if (isIntegral(leftValue) && isIntegral(rightValue)) {
+            return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+        }
+        return null;
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+    
+    private Object calculate(final int leftValue, final int rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            case '%':
+                return leftValue % rightValue;
+            default:
+                return null;
+        }
+    }
+    
+    private Object calculate(final long leftValue, final long rightValue) {
+        switch (operator) {
+            case '+':
+                return leftValue + rightValue;
+            case '-':
+                return leftValue - rightValue;
+            case '*':
+                return leftValue * rightValue;
+            case '%':
+                return leftValue % rightValue;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.common.config.inline;
+
+import com.google.common.base.Optional;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Inline expression compiler.
+ *
+ * <p>
+ * Compile inline expression with one variable into plain Java evaluator, such as {@code ds_${id % 4}} or {@code t_order_${'x' + (user_id % 16)}}.
+ * Supported expressions are integer and single quoted string literals, the variable, parentheses and operators {@code +, -, *, %}.
+ * Other expressions can not be compiled and should be evaluated by Groovy.
+ * </p>
+ */
+public final class InlineExpressionCompiler {
+    
+    private final String inlineExpression;
+    
+    private final String variableName;
+    
+    private int position;
+    
+    public InlineExpressionCompiler(final String inlineExpression, final String variableName) {
+        this.inlineExpression = InlineExpressionParser.handlePlaceHolder(inlineExpression);
+        this.variableName = variableName;
+    }
+    
+    /**
+     * Compile inline expression.
+     *
+     * @return compiled inline expression, absent if inline expression is not supported
+     */
+    public Optional<CompiledInlineExpression> compile() {
+        position = 0;
+        List<InlineExpressionNode> result = new LinkedList<>();
+        StringBuilder literal = new StringBuilder();
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('\\' == each || '"' == each) {
+                return Optional.absent();
+            }
+            if ('$' != each) {
+                literal.append(each);
+                position++;
+                continue;
+            }
+            if (position + 1 >= inlineExpression.length() || '{' != inlineExpression.charAt(position + 1)) {
+                return Optional.absent();
+            }
+            if (literal.length() > 0) {
+                result.add(new InlineLiteralNode(literal.toString()));
+                literal.setLength(0);
+            }
+            position += 2;
+            InlineExpressionNode node = parseAdditive();
+            if (null == node || '}' != peek()) {
+                return Optional.absent();
+            }
+            position++;
+            result.add(node);
+        }
+        if (literal.length() > 0) {
+            result.add(new InlineLiteralNode(literal.toString()));
+        }
+        return Optional.of(new CompiledInlineExpression(result));
+    }
+    
+    private InlineExpressionNode parseAdditive() {
+        InlineExpressionNode result = parseMultiplicative();
+        while (null != result && ('+' == peek() || '-' == peek())) {
+            char operator = inlineExpression.charAt(position++);
+            InlineExpressionNode right = parseMultiplicative();
+            result = null == right ? null : new InlineBinaryOperationNode(operator, result, right);
+        }
+        return result;
+    }
+    
+    private InlineExpressionNode parseMultiplicative() {
+        InlineExpressionNode result = parseUnary();
+        while (null != result && ('*' == peek() || '%' == peek())) {
+            char operator = inlineExpression.charAt(position++);
+            InlineExpressionNode right = parseUnary();
+            result = null == right ? null : new InlineBinaryOperationNode(operator, result, right);
+        }
+        return result;
+    }
+    
+    private InlineExpressionNode parseUnary() {
+        if ('-' != peek()) {
+            return parsePrimary();
+        }
+        position++;
+        InlineExpressionNode operand = parseUnary();
+        return null == operand ? null : new InlineBinaryOperationNode('-', new InlineLiteralNode(0), operand);
+    }
+    
+    private InlineExpressionNode parsePrimary() {
+        char current = peek();
+        if ('(' == current) {
+            position++;
+            InlineExpressionNode result = parseAdditive();
+            if (null == result || ')' != peek()) {
+                return null;
+            }
+            position++;
+            return result;
+        }
+        if ('\'' == current) {
+            return parseStringLiteral();
+        }
+        if (Character.isDigit(current)) {
+            return parseIntegerLiteral();
+        }
+        if (Character.isJavaIdentifierStart(current)) {
+            return parseVariable();
+        }
+        return null;
+    }
+    
+    private InlineExpressionNode parseStringLiteral() {
+        int stopIndex = inlineExpression.indexOf('\'', position + 1);
+        if (-1 == stopIndex) {
+            return null;
+        }
+        String result = inlineExpression.substring(position + 1, stopIndex);
+        if (result.contains("\\")) {
+            return null;
+        }
+        position = stopIndex + 1;
+        return new InlineLiteralNode(result);
+    }
+    
+    private InlineExpressionNode parseIntegerLiteral() {
+        int startIndex = position;
+        while (position < inlineExpression.length() && Character.isDigit(inlineExpression.charAt(position))) {
+            position++;
+        }
+        String literal = inlineExpression.substring(startIndex, position);
+        if (literal.length() > 1 && '0' == literal.charAt(0) || literal.length() > 18) {
+            return null;
+        }
+        long result = Long.parseLong(literal);
+        return result > Integer.MAX_VALUE ? new InlineLiteralNode(result) : new InlineLiteralNode((int) result);
+    }
+    
+    private InlineExpressionNode parseVariable() {
+        int startIndex = position;
+        while (position < inlineExpression.length() && Character.isJavaIdentifierPart(inlineExpression.charAt(position))) {
+            position++;
+        }
+        return variableName.equals(inlineExpression.substring(startIndex, position)) ? new InlineVariableNode() : null;
+    }
+    
+    private char peek() {
+        while (position < inlineExpression.length() && Character.isWhitespace(inlineExpression.charAt(position))) {
+            position++;
+        }
+        return position < inlineExpression.length() ? inlineExpression.charAt(position) : 0;
+    }
+}
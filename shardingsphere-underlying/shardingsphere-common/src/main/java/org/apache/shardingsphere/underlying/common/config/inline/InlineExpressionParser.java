@@ -21,19 +21,21 @@ import com.google.common.base.Function;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.Sets;
+import groovy.lang.Binding;
 import groovy.lang.Closure;
 import groovy.lang.GString;
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 import lombok.RequiredArgsConstructor;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Inline expression parser.
@@ -43,7 +45,7 @@ public final class InlineExpressionParser {
     
     private static final char SPLITTER = ',';
     
-    private static final Map<String, Script> SCRIPTS = new HashMap<>();
+    private static final Map<String, Class<? extends Script>> SCRIPT_CLASSES = new ConcurrentHashMap<>();
     
     private static final GroovyShell SHELL = new GroovyShell();
     
@@ -96,14 +98,12 @@ public final class InlineExpressionParser {
     }
     
     private Object evaluate(final String expression) {
-        Script script;
-        if (SCRIPTS.containsKey(expression)) {
-            script = SCRIPTS.get(expression);
-        } else {
-            script = SHELL.parse(expression);
-            SCRIPTS.put(expression, script);
+        Class<? extends Script> scriptClass = SCRIPT_CLASSES.get(expression);
+        if (null == scriptClass) {
+            scriptClass = SHELL.parse(expression).getClass();
+            SCRIPT_CLASSES.put(expression, scriptClass);
         }
-        return script.run();
+        return InvokerHelper.createScript(scriptClass, new Binding()).run();
     }
     
     private List<String> split() {
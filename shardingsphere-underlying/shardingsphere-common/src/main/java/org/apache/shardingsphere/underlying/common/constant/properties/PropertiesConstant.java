@@ -49,6 +49,45 @@ public enum PropertiesConstant implements TypedPropertiesKey {
      */
     SQL_SIMPLE("sql.simple", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Initial capacity of SQL parse result cache.
+     *
+     * <p>
+     * Default: 2000
+     * </p>
+     */
+    SQL_PARSE_CACHE_INITIAL_CAPACITY("sql.parse.cache.initial.capacity", String.valueOf(2000), int.class),
+    
+    /**
+     * Maximum size of SQL parse result cache.
+     *
+     * <p>
+     * Maximum count of cached parse results, it bounds SQL parse result cache together with maximum weight.
+     * Default: 4096
+     * </p>
+     */
+    SQL_PARSE_CACHE_MAXIMUM_SIZE("sql.parse.cache.maximum.size", String.valueOf(4096L), long.class),
+    
+    /**
+     * Maximum weight of SQL parse result cache.
+     *
+     * <p>
+     * Weight of each cached parse result is the length of its SQL, least recently used results are evicted when total weight exceeds.
+     * Default: 16777216
+     * </p>
+     */
+    SQL_PARSE_CACHE_MAXIMUM_WEIGHT("sql.parse.cache.maximum.weight", String.valueOf(16 * 1024 * 1024L), long.class),
+    
+    /**
+     * Seconds to expire cached parse result after last access.
+     *
+     * <p>
+     * Cached parse result never expires if it is not positive.
+     * Default: 0
+     * </p>
+     */
+    SQL_PARSE_CACHE_EXPIRE_AFTER_ACCESS_SECONDS("sql.parse.cache.expire.after.access.seconds", String.valueOf(0L), long.class),
+    
     /**
      * Worker group or user group thread max size.
      *
@@ -71,11 +110,44 @@ public enum PropertiesConstant implements TypedPropertiesKey {
      */
     EXECUTOR_SIZE("executor.size", String.valueOf(0), int.class),
     
+    /**
+     * Worker thread size for each data source.
+     * 
+     * <p>
+     * Each data source uses an independent bounded thread pool when this value is positive,
+     * so that a slow data source only exhausts its own threads and does not stall queries to other data sources.
+     * Default: 0, all data sources share the thread pool of executor.size.
+     * </p>
+     */
+    EXECUTOR_DATA_SOURCE_SIZE("executor.data.source.size", String.valueOf(0), int.class),
+    
+    /**
+     * Waiting task queue size for thread pool of each data source.
+     * 
+     * <p>
+     * Tasks beyond this size are rejected and the SQL fails fast instead of waiting for the saturated data source.
+     * Only take effect when executor.data.source.size is positive.
+     * Default: 1024
+     * </p>
+     */
+    EXECUTOR_DATA_SOURCE_QUEUE_SIZE("executor.data.source.queue.size", String.valueOf(1024), int.class),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max.connections.size.per.query", String.valueOf(1), int.class),
     
+    /**
+     * Max rows buffered by each connection when connections for one query are chosen adaptively.
+     *
+     * <p>
+     * Row counts of logic SQL without parameters observed from previous executions are used to estimate result size,
+     * SQL units with small results are buffered in memory on less connections than max.connections.size.per.query.
+     * Default: 0, always use max.connections.size.per.query.
+     * </p>
+     */
+    MAX_BUFFERED_ROWS_PER_CONNECTION("max.buffered.rows.per.connection", String.valueOf(0), int.class),
+    
     /**
      * When encrypt data, query with cipher column or not.
      * 
@@ -95,6 +167,54 @@ public enum PropertiesConstant implements TypedPropertiesKey {
      */
     ALLOW_RANGE_QUERY_WITH_INLINE_SHARDING("allow.range.query.with.inline.sharding", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Max rows of group by memory merge.
+     *
+     * <p>
+     * When grouping rows cannot be merged in stream, groups beyond this count are spilled into temporary files partitioned by group by values,
+     * and merged back in sorted order, so that high cardinality group by does not exhaust heap.
+     * The threshold counts groups held in memory, not heap bytes, because sizes of rows are not known without measuring every value;
+     * set it from the expected size of one aggregated row.
+     * Group by memory merge never spills if it is not positive.
+     * Default: 0
+     * </p>
+     */
+    SQL_MERGE_GROUP_BY_MEMORY_MAX_ROWS("sql.merge.group.by.memory.max.rows", String.valueOf(0), int.class),
+    
+    /**
+     * Enable or Disable to merge COUNT(DISTINCT) approximately.
+     *
+     * <p>
+     * Distinct values returned by databases are estimated with HyperLogLog for each group instead of being kept in memory,
+     * which bounds memory of each group to a few KB, and standard error of merged result is about 1.6%.
+     * Default: false
+     * </p>
+     */
+    SQL_MERGE_APPROXIMATE_DISTINCT_COUNT_ENABLED("sql.merge.approximate.distinct.count.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Enable or Disable to merge group by in stream when order by items are different from group by items.
+     *
+     * <p>
+     * Order by items of data nodes are rewritten to group by items, so that groups are merged in stream,
+     * and only aggregated groups are sorted by original order by items, at most offset plus row count groups are kept in memory if row count is present.
+     * Default: false
+     * </p>
+     */
+    SQL_MERGE_GROUP_BY_STREAM_ENABLED("sql.merge.group.by.stream.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
+    /**
+     * Rows fetched ahead for each data node in stream merge.
+     *
+     * <p>
+     * When connection mode is MEMORY_STRICTLY, rows of each data node are fetched by executor in batches of this size,
+     * at most one batch ahead of merging, so that merging does not wait for network round trip of every data node in turn.
+     * Rows are fetched on merging thread without prefetch if it is not positive.
+     * Default: 0
+     * </p>
+     */
+    SQL_MERGE_STREAM_PREFETCH_ROWS("sql.merge.stream.prefetch.rows", String.valueOf(0), int.class),
+    
     /**
      * Sharding-Proxy's flush threshold for every records from databases.
      */
@@ -130,6 +250,18 @@ public enum PropertiesConstant implements TypedPropertiesKey {
      */
     PROXY_HINT_ENABLED("proxy.hint.enabled", String.valueOf(Boolean.FALSE), boolean.class),
     
+    /**
+     * Enable SQL literal normalization for text protocol of Sharding-Proxy.
+     *
+     * <p>
+     * Literals of text protocol SQL are replaced with parameter markers and executed as prepared statement,
+     * so that SQL different in literals only share one parse result and rewritten SQL template.
+     * Route plan is not shared, since Sharding-Proxy creates sharding engine for every execution.
+     * Default: false
+     * </p>
+     */
+    PROXY_SQL_LITERAL_NORMALIZATION_ENABLED("proxy.sql.literal.normalization.enabled", String.valueOf(Boolean.FALSE), boolean.class),
+    
     PROXY_BACKEND_MAX_CONNECTIONS("proxy.backend.max.connections", String.valueOf(8), int.class),
     
     PROXY_BACKEND_CONNECTION_TIMEOUT_SECONDS("proxy.backend.connection.timeout.seconds", String.valueOf(60), int.class),
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.common.config.inline;
+
+import com.google.common.base.Optional;
+import org.junit.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class InlineExpressionCompilerTest {
+    
+    @Test
+    public void assertEvaluateModulo() {
+        Optional<CompiledInlineExpression> actual = new InlineExpressionCompiler("t_order_${order_id % 4}", "order_id").compile();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(5).get(), is("t_order_1"));
+        assertThat(actual.get().evaluate(7L).get(), is("t_order_3"));
+        assertThat(actual.get().evaluate((short) 2).get(), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertEvaluateWithPlaceHolder() {
+        Optional<CompiledInlineExpression> actual = new InlineExpressionCompiler("ds_$->{user_id % 2}", "user_id").compile();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(3).get(), is("ds_1"));
+    }
+    
+    @Test
+    public void assertEvaluateArithmetic() {
+        Optional<CompiledInlineExpression> actual = new InlineExpressionCompiler("t_${(id - 1) * 2 + -id % 3}_${id}", "id").compile();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(5).get(), is("t_6_5"));
+        assertThat(actual.get().evaluate(Integer.MAX_VALUE).get(), is("t_" + ((Integer.MAX_VALUE - 1) * 2 + -Integer.MAX_VALUE % 3) + "_" + Integer.MAX_VALUE));
+    }
+    
+    @Test
+    public void assertEvaluateStringConcat() {
+        Optional<CompiledInlineExpression> actual = new InlineExpressionCompiler("t_${'x' + id % 2 + 1}", "id").compile();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().evaluate(3).get(), is("t_x11"));
+        assertThat(new InlineExpressionCompiler("t_${status}", "status").compile().get().evaluate("init").get(), is("t_init"));
+    }
+    
+    @Test
+    public void assertEvaluateWithUnsupportedValue() {
+        Optional<CompiledInlineExpression> actual = new InlineExpressionCompiler("t_order_${order_id % 4}", "order_id").compile();
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().evaluate("5").isPresent());
+        assertFalse(actual.get().evaluate(5.0D).isPresent());
+        assertFalse(actual.get().evaluate(null).isPresent());
+    }
+    
+    @Test
+    public void assertCompileUnsupportedExpression() {
+        assertFalse(new InlineExpressionCompiler("t_order_${order_id / 4}", "order_id").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${order_id.hashCode() % 4}", "order_id").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${user_id % 4}", "order_id").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_$order_id", "order_id").compile().isPresent());
+        assertFalse(new InlineExpressionCompiler("t_order_${order_id % 4L}", "order_id").compile().isPresent());
+    }
+}
@@ -19,8 +19,16 @@ package org.apache.shardingsphere.underlying.common.config.inline;
 
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
@@ -106,4 +114,24 @@ public final class InlineExpressionParserTest {
         assertThat(expected.size(), is(1024));
         assertThat(expected, hasItems("ds_0.t_user_0", "ds_15.t_user_1023"));
     }
+    
+    @Test
+    public void assertEvaluateWithMultipleThreads() throws InterruptedException, ExecutionException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() << 1;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        Collection<Future<List<String>>> futures = new LinkedList<>();
+        for (int i = 0; i < threadNumber * 16; i++) {
+            futures.add(executor.submit(new Callable<List<String>>() {
+                
+                @Override
+                public List<String> call() {
+                    return new InlineExpressionParser("t_order_${0..1},t_order_item_${[0, 2]}").splitAndEvaluate();
+                }
+            }));
+        }
+        for (Future<List<String>> each : futures) {
+            assertThat(each.get(), is(Arrays.asList("t_order_0", "t_order_1", "t_order_item_0", "t_order_item_2")));
+        }
+        executor.shutdown();
+    }
 }
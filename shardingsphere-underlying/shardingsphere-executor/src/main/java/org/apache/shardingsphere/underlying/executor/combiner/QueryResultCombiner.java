@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.combiner;
+
+import org.apache.shardingsphere.underlying.executor.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Query result combiner.
+ *
+ * <p>
+ * Combiner consumes rows of query result on executor thread as soon as the query result is returned,
+ * and may be called by several executor threads concurrently.
+ * </p>
+ */
+public interface QueryResultCombiner {
+    
+    /**
+     * Combine all rows of query result.
+     *
+     * @param queryResult query result
+     * @return combined query result, which is merged by result merger instead of query result
+     * @throws SQLException SQL exception
+     */
+    QueryResult combine(QueryResult queryResult) throws SQLException;
+}
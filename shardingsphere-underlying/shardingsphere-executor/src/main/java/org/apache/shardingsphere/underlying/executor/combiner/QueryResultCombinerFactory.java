@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.executor.combiner;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
+import org.apache.shardingsphere.underlying.common.constant.properties.ShardingSphereProperties;
+
+/**
+ * Query result combiner factory.
+ */
+public interface QueryResultCombinerFactory {
+    
+    /**
+     * Create new instance of query result combiner.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param executionUnitCount count of execution units
+     * @param properties ShardingSphere properties
+     * @return query result combiner, absent if query results cannot be combined
+     */
+    Optional<QueryResultCombiner> newInstance(SQLStatementContext sqlStatementContext, int executionUnitCount, ShardingSphereProperties properties);
+}
@@ -17,8 +17,12 @@
 
 package org.apache.shardingsphere.underlying.executor.engine;
 
+import com.google.common.base.Function;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
 import org.apache.shardingsphere.underlying.common.exception.ShardingSphereException;
 import org.apache.shardingsphere.underlying.executor.engine.impl.ShardingSphereExecutorService;
 
@@ -29,8 +33,12 @@ import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Executor engine.
@@ -39,8 +47,25 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ShardingSphereExecutorService executorService;
     
+    private final int dataSourceExecutorSize;
+    
+    private final int dataSourceQueueSize;
+    
+    private final ConcurrentMap<String, ShardingSphereExecutorService> dataSourceExecutorServices = new ConcurrentHashMap<>();
+    
+    private final int taskExecutorSize;
+    
+    private volatile ShardingSphereExecutorService taskExecutorService;
+    
     public ExecutorEngine(final int executorSize) {
+        this(executorSize, 0, 0);
+    }
+    
+    public ExecutorEngine(final int executorSize, final int dataSourceExecutorSize, final int dataSourceQueueSize) {
         executorService = new ShardingSphereExecutorService(executorSize);
+        this.dataSourceExecutorSize = dataSourceExecutorSize;
+        this.dataSourceQueueSize = dataSourceQueueSize;
+        taskExecutorSize = 0 == executorSize ? Runtime.getRuntime().availableProcessors() * 2 : executorSize;
     }
     
     /**
@@ -77,6 +102,49 @@ public final class ExecutorEngine implements AutoCloseable {
         return serial ? serialExecute(inputGroups, firstCallback, callback) : parallelExecute(inputGroups, firstCallback, callback);
     }
     
+    /**
+     * Execute task asynchronously.
+     *
+     * <p>
+     * Tasks are executed by a separate executor service which hands off tasks to idle threads only,
+     * so that they never wait behind input groups, nor input groups wait behind them.
+     * </p>
+     *
+     * @param task task
+     * @throws RejectedExecutionException if all threads are busy
+     */
+    public void execute(final Runnable task) {
+        getTaskExecutorService().getExecutorService().execute(task);
+    }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * <p>All input groups are submitted to executor service, caller thread is never blocked.</p>
+     *
+     * @param inputGroups input groups
+     * @param callback grouped callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return future of execute result, which completes after all input groups are executed
+     */
+    public <I, O> ListenableFuture<List<O>> executeAsync(final Collection<InputGroup<I>> inputGroups, final GroupedCallback<I, O> callback) {
+        if (inputGroups.isEmpty()) {
+            return Futures.immediateFuture(Collections.<O>emptyList());
+        }
+        return Futures.transform(Futures.allAsList(asyncExecute(Lists.newArrayList(inputGroups), callback)), new Function<List<Collection<O>>, List<O>>() {
+            
+            @Override
+            public List<O> apply(final List<Collection<O>> input) {
+                List<O> result = new LinkedList<>();
+                for (Collection<O> each : input) {
+                    result.addAll(each);
+                }
+                return result;
+            }
+        }, MoreExecutors.directExecutor());
+    }
+    
     private <I, O> List<O> serialExecute(final Collection<InputGroup<I>> inputGroups, final GroupedCallback<I, O> firstCallback, final GroupedCallback<I, O> callback) throws SQLException {
         Iterator<InputGroup<I>> inputGroupsIterator = inputGroups.iterator();
         InputGroup<I> firstInputs = inputGroupsIterator.next();
@@ -108,13 +176,74 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> ListenableFuture<Collection<O>> asyncExecute(final InputGroup<I> inputGroup, final GroupedCallback<I, O> callback) {
         final Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorService.getExecutorService().submit(new Callable<Collection<O>>() {
-            
-            @Override
-            public Collection<O> call() throws SQLException {
-                return callback.execute(inputGroup.getInputs(), false, dataMap);
+        try {
+            return getExecutorService(inputGroup).submit(new Callable<Collection<O>>() {
+                
+                @Override
+                public Collection<O> call() throws SQLException {
+                    return callback.execute(inputGroup.getInputs(), false, dataMap);
+                }
+            });
+        } catch (final RejectedExecutionException ex) {
+            return Futures.immediateFailedFuture(new SQLException(String.format("Executor of data source `%s` is saturated, execution is rejected.", getExecutorKey(inputGroup)), ex));
+        }
+    }
+    
+    private String getExecutorKey(final InputGroup<?> inputGroup) {
+        return null == inputGroup.getSchemaName() ? inputGroup.getDataSourceName() : inputGroup.getSchemaName() + "." + inputGroup.getDataSourceName();
+    }
+    
+    private ListeningExecutorService getExecutorService(final InputGroup<?> inputGroup) {
+        if (0 == dataSourceExecutorSize || null == inputGroup.getDataSourceName()) {
+            return executorService.getExecutorService();
+        }
+        String executorKey = getExecutorKey(inputGroup);
+        ShardingSphereExecutorService result = dataSourceExecutorServices.get(executorKey);
+        if (null == result) {
+            ShardingSphereExecutorService created = new ShardingSphereExecutorService(dataSourceExecutorSize, dataSourceQueueSize, executorKey.replace("%", "%%") + "-%d");
+            result = dataSourceExecutorServices.putIfAbsent(executorKey, created);
+            if (null == result) {
+                result = created;
+            } else {
+                created.close();
+            }
+        }
+        return result.getExecutorService();
+    }
+    
+    /**
+     * Get executor services of data sources.
+     *
+     * <p>
+     * Key is data source name, which is qualified by schema name as {@code schema.data_source} if input groups carry schema name.
+     * Metrics of each executor service, such as queue size, active count and rejected count, can be read from the value.
+     * </p>
+     *
+     * @return executor services of data sources
+     */
+    public Map<String, ShardingSphereExecutorService> getDataSourceExecutorServices() {
+        return Collections.unmodifiableMap(dataSourceExecutorServices);
+    }
+    
+    /**
+     * Close executor services of data sources which belong to schema.
+     *
+     * <p>
+     * Executor services are removed once schema or its data sources are changed, and are created again on demand by next execution.
+     * Executor services of data sources which are not qualified by schema name are closed if schema name is null.
+     * </p>
+     *
+     * @param schemaName schema name
+     */
+    public void closeDataSourceExecutorServices(final String schemaName) {
+        Iterator<Entry<String, ShardingSphereExecutorService>> iterator = dataSourceExecutorServices.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<String, ShardingSphereExecutorService> entry = iterator.next();
+            if (null == schemaName ? !entry.getKey().contains(".") : entry.getKey().startsWith(schemaName + ".")) {
+                iterator.remove();
+                entry.getValue().close();
             }
-        });
+        }
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
@@ -129,6 +258,17 @@ public final class ExecutorEngine implements AutoCloseable {
         return result;
     }
     
+    private ShardingSphereExecutorService getTaskExecutorService() {
+        if (null == taskExecutorService) {
+            synchronized (this) {
+                if (null == taskExecutorService) {
+                    taskExecutorService = new ShardingSphereExecutorService(taskExecutorSize, 0, "Task-%d");
+                }
+            }
+        }
+        return taskExecutorService;
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
@@ -139,5 +279,11 @@ public final class ExecutorEngine implements AutoCloseable {
     @Override
     public void close() {
         executorService.close();
+        if (null != taskExecutorService) {
+            taskExecutorService.close();
+        }
+        for (ShardingSphereExecutorService each : dataSourceExecutorServices.values()) {
+            each.close();
+        }
     }
 }
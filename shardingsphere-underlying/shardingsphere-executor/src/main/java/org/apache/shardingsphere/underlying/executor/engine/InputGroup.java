@@ -32,4 +32,16 @@ import java.util.List;
 public final class InputGroup<T> {
     
     private final List<T> inputs;
+    
+    private final String schemaName;
+    
+    private final String dataSourceName;
+    
+    public InputGroup(final List<T> inputs) {
+        this(inputs, null);
+    }
+    
+    public InputGroup(final List<T> inputs, final String dataSourceName) {
+        this(inputs, null, dataSourceName);
+    }
 }
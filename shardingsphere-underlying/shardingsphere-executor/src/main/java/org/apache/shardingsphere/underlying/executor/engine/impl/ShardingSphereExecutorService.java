@@ -21,23 +21,36 @@ import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
 
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * ShardingSphere executor service.
  */
-@Getter
 public final class ShardingSphereExecutorService {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+    
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ShardingSphereThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    @Getter
     private ListeningExecutorService executorService;
     
+    private ThreadPoolExecutor threadPoolExecutor;
+    
+    private final AtomicLong rejectedCount = new AtomicLong();
+    
     public ShardingSphereExecutorService(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
@@ -47,9 +60,71 @@ public final class ShardingSphereExecutorService {
         MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
     }
     
+    public ShardingSphereExecutorService(final int executorSize, final int queueSize, final String nameFormat) {
+        BlockingQueue<Runnable> workQueue = 0 == queueSize ? new SynchronousQueue<Runnable>() : new LinkedBlockingQueue<Runnable>(queueSize);
+        threadPoolExecutor = new ThreadPoolExecutor(
+                executorSize, executorSize, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, workQueue, ShardingSphereThreadFactoryBuilder.build(nameFormat), createRejectedExecutionHandler());
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        executorService = MoreExecutors.listeningDecorator(threadPoolExecutor);
+        MoreExecutors.addDelayedShutdownHook(executorService, 60, TimeUnit.SECONDS);
+    }
+    
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
         ThreadFactory threadFactory = ShardingSphereThreadFactoryBuilder.build(nameFormat);
-        return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+        ExecutorService result = 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
+        if (result instanceof ThreadPoolExecutor) {
+            threadPoolExecutor = (ThreadPoolExecutor) result;
+            threadPoolExecutor.setRejectedExecutionHandler(createRejectedExecutionHandler());
+        }
+        return result;
+    }
+    
+    private RejectedExecutionHandler createRejectedExecutionHandler() {
+        final RejectedExecutionHandler abortPolicy = new AbortPolicy();
+        return new RejectedExecutionHandler() {
+            
+            @Override
+            public void rejectedExecution(final Runnable runnable, final ThreadPoolExecutor executor) {
+                rejectedCount.incrementAndGet();
+                abortPolicy.rejectedExecution(runnable, executor);
+            }
+        };
+    }
+    
+    /**
+     * Get count of tasks waiting in queue.
+     *
+     * @return count of tasks waiting in queue
+     */
+    public int getQueueSize() {
+        return null == threadPoolExecutor ? 0 : threadPoolExecutor.getQueue().size();
+    }
+    
+    /**
+     * Get approximate count of threads which are executing tasks.
+     *
+     * @return count of active threads
+     */
+    public int getActiveCount() {
+        return null == threadPoolExecutor ? 0 : threadPoolExecutor.getActiveCount();
+    }
+    
+    /**
+     * Get count of threads in pool, idle threads are included.
+     *
+     * @return count of threads in pool
+     */
+    public int getPoolSize() {
+        return null == threadPoolExecutor ? 0 : threadPoolExecutor.getPoolSize();
+    }
+    
+    /**
+     * Get count of rejected tasks.
+     *
+     * @return count of rejected tasks
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
     }
     
     /**
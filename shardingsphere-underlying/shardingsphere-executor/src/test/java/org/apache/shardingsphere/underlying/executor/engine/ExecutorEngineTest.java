@@ -23,13 +23,23 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 
 public final class ExecutorEngineTest {
@@ -93,6 +103,117 @@ public final class ExecutorEngineTest {
         assertThat(actual.size(), is(4));
     }
     
+    @Test
+    public void assertExecuteAsync() throws InterruptedException, ExecutionException {
+        List<String> actual = executorEngine.executeAsync(inputGroups, callback).get();
+        latch.await();
+        assertThat(actual.size(), is(4));
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithEmptyInputGroup() throws InterruptedException, ExecutionException {
+        assertTrue(executorEngine.executeAsync(new LinkedList<InputGroup<Object>>(), callback).get().isEmpty());
+    }
+    
+    @Test
+    public void assertParallelExecuteWithDataSourceExecutor() throws SQLException, InterruptedException {
+        ExecutorEngine executorEngine = new ExecutorEngine(10, 2, 2);
+        try {
+            Collection<InputGroup<Object>> inputGroups = Arrays.asList(new InputGroup<>(createMockedInputs(2), "ds_0"), new InputGroup<>(createMockedInputs(2), "ds_1"));
+            List<String> actual = executorEngine.execute(inputGroups, callback);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        } finally {
+            executorEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithSaturatedDataSourceExecutor() throws InterruptedException {
+        ExecutorEngine executorEngine = new ExecutorEngine(10, 1, 0);
+        final CountDownLatch blockingLatch = new CountDownLatch(1);
+        GroupedCallback<Object, String> blockingCallback = new GroupedCallback<Object, String>() {
+            
+            @Override
+            public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread, final Map<String, Object> dataMap) throws SQLException {
+                try {
+                    blockingLatch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return Collections.singletonList("succeed");
+            }
+        };
+        try {
+            executorEngine.executeAsync(Arrays.asList(new InputGroup<>(createMockedInputs(1), "ds_0"), new InputGroup<>(createMockedInputs(1), "ds_0")), blockingCallback).get();
+            fail("Expected saturated data source executor to reject execution.");
+        } catch (final ExecutionException ex) {
+            assertThat(ex.getCause(), instanceOf(SQLException.class));
+            assertThat(executorEngine.getDataSourceExecutorServices().get("ds_0").getRejectedCount(), is(1L));
+            assertThat(executorEngine.getDataSourceExecutorServices().get("ds_0").getActiveCount(), is(1));
+            assertThat(executorEngine.getDataSourceExecutorServices().get("ds_0").getQueueSize(), is(0));
+        } finally {
+            blockingLatch.countDown();
+            executorEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteAsyncWithDataSourceExecutorOfSchemas() throws InterruptedException, ExecutionException {
+        ExecutorEngine executorEngine = new ExecutorEngine(10, 2, 2);
+        try {
+            Collection<InputGroup<Object>> inputGroups = Arrays.asList(
+                    new InputGroup<>(createMockedInputs(2), "sharding_db", "ds_0"), new InputGroup<>(createMockedInputs(2), "master_slave_db", "ds_0"));
+            List<String> actual = executorEngine.executeAsync(inputGroups, callback).get();
+            assertThat(actual.size(), is(4));
+            assertThat(executorEngine.getDataSourceExecutorServices().keySet(), is((Set<String>) new HashSet<>(Arrays.asList("sharding_db.ds_0", "master_slave_db.ds_0"))));
+        } finally {
+            executorEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertCloseDataSourceExecutorServices() throws InterruptedException, ExecutionException {
+        ExecutorEngine executorEngine = new ExecutorEngine(10, 2, 2);
+        try {
+            Collection<InputGroup<Object>> inputGroups = Arrays.asList(
+                    new InputGroup<>(createMockedInputs(2), "sharding_db", "ds_0"), new InputGroup<>(createMockedInputs(2), "master_slave_db", "ds_0"));
+            executorEngine.executeAsync(inputGroups, callback).get();
+            executorEngine.closeDataSourceExecutorServices("sharding_db");
+            assertThat(executorEngine.getDataSourceExecutorServices().keySet(), is(Collections.singleton("master_slave_db.ds_0")));
+        } finally {
+            executorEngine.close();
+        }
+    }
+    
+    @Test
+    public void assertExecuteTaskWhenAllTaskThreadsAreBusy() throws InterruptedException {
+        ExecutorEngine executorEngine = new ExecutorEngine(1);
+        final CountDownLatch startedLatch = new CountDownLatch(1);
+        final CountDownLatch blockingLatch = new CountDownLatch(1);
+        executorEngine.execute(new Runnable() {
+            
+            @Override
+            public void run() {
+                startedLatch.countDown();
+                try {
+                    blockingLatch.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        startedLatch.await();
+        try {
+            executorEngine.execute(mock(Runnable.class));
+            fail("Expected busy task executor to reject task.");
+        } catch (final RejectedExecutionException ignored) {
+        } finally {
+            blockingLatch.countDown();
+            executorEngine.close();
+        }
+    }
+    
     @Test
     public void assertInputGroupIsEmpty() throws SQLException {
         CountDownLatch latch = new CountDownLatch(1);
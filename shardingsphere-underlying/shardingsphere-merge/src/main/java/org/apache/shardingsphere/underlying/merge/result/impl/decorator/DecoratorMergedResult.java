@@ -19,6 +19,7 @@ package org.apache.shardingsphere.underlying.merge.result.impl.decorator;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.merge.result.CloseableMergedResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
 import java.io.InputStream;
@@ -30,7 +31,7 @@ import java.util.Calendar;
  */
 @RequiredArgsConstructor
 @Getter
-public abstract class DecoratorMergedResult implements MergedResult {
+public abstract class DecoratorMergedResult implements CloseableMergedResult {
     
     private final MergedResult mergedResult;
         
@@ -53,4 +54,11 @@ public abstract class DecoratorMergedResult implements MergedResult {
     public final boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public final void close() throws SQLException {
+        if (mergedResult instanceof CloseableMergedResult) {
+            ((CloseableMergedResult) mergedResult).close();
+        }
+    }
 }
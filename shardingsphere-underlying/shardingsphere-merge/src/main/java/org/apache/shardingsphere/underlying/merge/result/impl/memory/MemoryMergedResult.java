@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.underlying.merge.result.impl.memory;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
 import org.apache.shardingsphere.sql.parser.relation.metadata.RelationMetas;
 import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementContext;
@@ -25,14 +24,8 @@ import org.apache.shardingsphere.underlying.executor.QueryResult;
 import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
 import java.io.InputStream;
-import java.io.Reader;
-import java.sql.Blob;
-import java.sql.Clob;
 import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
-import java.sql.SQLXML;
 import java.util.Calendar;
-import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -40,59 +33,38 @@ import java.util.List;
  *
  * @param <T> type of rule
  */
-@RequiredArgsConstructor
 public abstract class MemoryMergedResult<T extends BaseRule> implements MergedResult {
     
-    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
-    
-    private MemoryQueryResultRow currentResultSetRow;
-    
-    private boolean wasNull;
+    private final MemoryQueryResultRows memoryQueryResultRows;
     
     protected MemoryMergedResult(final T rule, final RelationMetas relationMetas, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
-        List<MemoryQueryResultRow> memoryQueryResultRowList = init(rule, relationMetas, sqlStatementContext, queryResults);
-        memoryResultSetRows = memoryQueryResultRowList.iterator();
-        if (!memoryQueryResultRowList.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRowList.get(0);
-        }
+        memoryQueryResultRows = new MemoryQueryResultRows(init(rule, relationMetas, sqlStatementContext, queryResults));
     }
     
     protected abstract List<MemoryQueryResultRow> init(T rule, RelationMetas relationMetas, SQLStatementContext sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
     public final boolean next() {
-        if (memoryResultSetRows.hasNext()) {
-            currentResultSetRow = memoryResultSetRows.next();
-            return true;
-        }
-        return false;
+        return memoryQueryResultRows.next();
     }
     
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
-            throw new SQLFeatureNotSupportedException();
-        }
-        Object result = currentResultSetRow.getCell(columnIndex);
-        wasNull = null == result;
-        return result;
+        return memoryQueryResultRows.getValue(columnIndex, type);
     }
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        // TODO implement with calendar
-        Object result = currentResultSetRow.getCell(columnIndex);
-        wasNull = null == result;
-        return result;
+        return memoryQueryResultRows.getCalendarValue(columnIndex, type, calendar);
     }
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
-        throw new SQLFeatureNotSupportedException();
+        return memoryQueryResultRows.getInputStream(columnIndex, type);
     }
     
     @Override
     public final boolean wasNull() {
-        return wasNull;
+        return memoryQueryResultRows.wasNull();
     }
 }
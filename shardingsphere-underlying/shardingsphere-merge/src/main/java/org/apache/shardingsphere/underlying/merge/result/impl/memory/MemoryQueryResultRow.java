@@ -19,6 +19,7 @@ package org.apache.shardingsphere.underlying.merge.result.impl.memory;
 
 import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 
 import java.sql.SQLException;
 
@@ -33,6 +34,10 @@ public final class MemoryQueryResultRow {
         data = load(queryResult);
     }
     
+    public MemoryQueryResultRow(final MergedResult mergedResult, final int columnCount) throws SQLException {
+        data = load(mergedResult, columnCount);
+    }
+    
     private Object[] load(final QueryResult queryResult) throws SQLException {
         int columnCount = queryResult.getColumnCount();
         Object[] result = new Object[columnCount];
@@ -42,6 +47,14 @@ public final class MemoryQueryResultRow {
         return result;
     }
     
+    private Object[] load(final MergedResult mergedResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = mergedResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
     /**
      * Get data from cell.
      * 
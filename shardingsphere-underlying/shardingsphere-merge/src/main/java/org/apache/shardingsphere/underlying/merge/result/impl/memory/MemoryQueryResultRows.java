@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.merge.result.impl.memory;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.Calendar;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Memory query result rows.
+ *
+ * <p>
+ * Iterates memory query result rows and reads cells of current row for merged results which hold rows in memory.
+ * </p>
+ */
+public final class MemoryQueryResultRows {
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private MemoryQueryResultRow currentResultSetRow;
+    
+    private boolean wasNull;
+    
+    public MemoryQueryResultRows(final List<MemoryQueryResultRow> memoryQueryResultRowList) {
+        memoryResultSetRows = memoryQueryResultRowList.iterator();
+        if (!memoryQueryResultRowList.isEmpty()) {
+            currentResultSetRow = memoryQueryResultRowList.get(0);
+        }
+    }
+    
+    public MemoryQueryResultRows(final Iterator<MemoryQueryResultRow> memoryResultSetRows) {
+        this.memoryResultSetRows = memoryResultSetRows;
+    }
+    
+    /**
+     * Iterate next row.
+     *
+     * @return has next row
+     */
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            currentResultSetRow = memoryResultSetRows.next();
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Get value of current row.
+     *
+     * @param columnIndex column index
+     * @param type class type of data value
+     * @return data value
+     * @throws SQLException SQL Exception
+     */
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        if (Blob.class == type || Clob.class == type || Reader.class == type || InputStream.class == type || SQLXML.class == type) {
+            throw new SQLFeatureNotSupportedException();
+        }
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    /**
+     * Get calendar value of current row.
+     *
+     * @param columnIndex column index
+     * @param type class type of data value
+     * @param calendar calendar
+     * @return calendar value
+     */
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        // TODO implement with calendar
+        Object result = currentResultSetRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    /**
+     * Get input stream of current row.
+     *
+     * @param columnIndex column index
+     * @param type class type of data value
+     * @return input stream
+     * @throws SQLException SQL Exception
+     */
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException();
+    }
+    
+    /**
+     * Judge last value read is null or not.
+     *
+     * @return last value read is null or not
+     */
+    public boolean wasNull() {
+        return wasNull;
+    }
+}
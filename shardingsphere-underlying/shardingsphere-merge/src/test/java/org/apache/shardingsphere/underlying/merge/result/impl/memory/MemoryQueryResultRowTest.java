@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.underlying.merge.result.impl.memory;
 
 import org.apache.shardingsphere.underlying.executor.QueryResult;
+import org.apache.shardingsphere.underlying.merge.result.MergedResult;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -45,6 +46,13 @@ public final class MemoryQueryResultRowTest {
         assertThat(memoryResultSetRow.getCell(1).toString(), is("value"));
     }
     
+    @Test
+    public void assertGetCellLoadedFromMergedResult() throws SQLException {
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, Object.class)).thenReturn("merged");
+        assertThat(new MemoryQueryResultRow(mergedResult, 1).getCell(1).toString(), is("merged"));
+    }
+    
     @Test(expected = IllegalArgumentException.class)
     public void assertGetCellWithNegativeColumnIndex() {
         memoryResultSetRow.getCell(-1);
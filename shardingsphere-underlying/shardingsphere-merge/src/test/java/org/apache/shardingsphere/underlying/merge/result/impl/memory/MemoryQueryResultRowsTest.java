@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.merge.result.impl.memory;
+
+import org.junit.Test;
+
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class MemoryQueryResultRowsTest {
+    
+    @Test
+    public void assertNextAndGetValue() throws SQLException {
+        MemoryQueryResultRow row1 = mock(MemoryQueryResultRow.class);
+        when(row1.getCell(1)).thenReturn("1");
+        MemoryQueryResultRow row2 = mock(MemoryQueryResultRow.class);
+        MemoryQueryResultRows actual = new MemoryQueryResultRows(Arrays.asList(row1, row2).iterator());
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("1"));
+        assertFalse(actual.wasNull());
+        assertTrue(actual.next());
+        assertNull(actual.getCalendarValue(1, Object.class, null));
+        assertTrue(actual.wasNull());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertGetValueOfFirstRowBeforeNext() throws SQLException {
+        MemoryQueryResultRow row = mock(MemoryQueryResultRow.class);
+        when(row.getCell(1)).thenReturn("1");
+        assertThat(new MemoryQueryResultRows(Collections.singletonList(row)).getValue(1, Object.class).toString(), is("1"));
+    }
+    
+    @Test(expected = SQLFeatureNotSupportedException.class)
+    public void assertGetValueForBlob() throws SQLException {
+        new MemoryQueryResultRows(Collections.<MemoryQueryResultRow>emptyList()).getValue(1, Blob.class);
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.underlying.common.metadata.ShardingSphereMetaDa
 import org.apache.shardingsphere.underlying.common.rule.BaseRule;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContextDecorator;
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplate;
 
 import java.util.List;
 import java.util.Map;
@@ -56,6 +57,24 @@ public final class SQLRewriteEntry {
         return result;
     }
     
+    /**
+     * Create SQL rewrite context with SQL template compiled before.
+     * 
+     * @param sql SQL
+     * @param parameters parameters
+     * @param sqlStatementContext SQL statement context
+     * @param decorators SQL rewrite context decorators
+     * @param sqlTemplate SQL template compiled from same SQL before
+     * @return SQL rewrite context
+     */
+    public SQLRewriteContext createSQLRewriteContext(final String sql, final List<Object> parameters, 
+                                                     final SQLStatementContext sqlStatementContext, final Map<BaseRule, SQLRewriteContextDecorator> decorators, final SQLTemplate sqlTemplate) {
+        SQLRewriteContext result = new SQLRewriteContext(metaData.getRelationMetas(), sqlStatementContext, sql, parameters);
+        decorate(decorators, result);
+        result.useSQLTemplate(sqlTemplate);
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     private void decorate(final Map<BaseRule, SQLRewriteContextDecorator> decorators, final SQLRewriteContext sqlRewriteContext) {
         for (Entry<BaseRule, SQLRewriteContextDecorator> entry : decorators.entrySet()) {
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.sql.parser.relation.statement.dml.InsertStateme
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.ParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.GroupedParameterBuilder;
 import org.apache.shardingsphere.underlying.rewrite.parameter.builder.impl.StandardParameterBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplate;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.SQLTokenGenerator;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.SQLTokenGenerators;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.generator.builder.DefaultTokenGeneratorBuilder;
@@ -55,6 +56,9 @@ public final class SQLRewriteContext {
     @Getter(AccessLevel.NONE)
     private final SQLTokenGenerators sqlTokenGenerators = new SQLTokenGenerators();
     
+    @Getter(AccessLevel.NONE)
+    private SQLTemplate sqlTemplate;
+    
     public SQLRewriteContext(final RelationMetas relationMetas, final SQLStatementContext sqlStatementContext, final String sql, final List<Object> parameters) {
         this.relationMetas = relationMetas;
         this.sqlStatementContext = sqlStatementContext;
@@ -79,5 +83,32 @@ public final class SQLRewriteContext {
      */
     public void generateSQLTokens() {
         sqlTokens.addAll(sqlTokenGenerators.generateSQLTokens(sqlStatementContext, parameters, relationMetas));
+        sqlTemplate = null;
+    }
+    
+    /**
+     * Use SQL template which is compiled from same SQL before, instead of generating SQL tokens.
+     * 
+     * @param sqlTemplate SQL template
+     */
+    public void useSQLTemplate(final SQLTemplate sqlTemplate) {
+        sqlTokens.addAll(sqlTemplate.getSqlTokens());
+        this.sqlTemplate = sqlTemplate;
+    }
+    
+    /**
+     * Get SQL template.
+     * 
+     * <p>
+     * SQL template is compiled from SQL and generated SQL tokens once, and shared by SQL builders of all route units.
+     * </p>
+     * 
+     * @return SQL template
+     */
+    public SQLTemplate getSqlTemplate() {
+        if (null == sqlTemplate) {
+            sqlTemplate = new SQLTemplate(sql, sqlTokens);
+        }
+        return sqlTemplate;
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.sql;
+
+import lombok.Getter;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SQL template.
+ * 
+ * <p>
+ * SQL template sorts SQL tokens and splits SQL into literal fragments between them only once,
+ * so building SQL for every route unit just appends token texts and literal fragments by position.
+ * The first literal is the SQL before the first token, the literal at {@code i + 1} is the SQL after the token at {@code i}.
+ * </p>
+ */
+@Getter
+public final class SQLTemplate {
+    
+    private final String sql;
+    
+    private final List<SQLToken> sqlTokens;
+    
+    private final List<String> literals;
+    
+    private final int literalsLength;
+    
+    public SQLTemplate(final String sql, final Collection<SQLToken> sqlTokens) {
+        this.sql = sql;
+        List<SQLToken> sortedSQLTokens = new ArrayList<>(sqlTokens);
+        Collections.sort(sortedSQLTokens);
+        this.sqlTokens = Collections.unmodifiableList(sortedSQLTokens);
+        literals = Collections.unmodifiableList(createLiterals());
+        literalsLength = calculateLiteralsLength();
+    }
+    
+    private List<String> createLiterals() {
+        List<String> result = new ArrayList<>(sqlTokens.size() + 1);
+        if (sqlTokens.isEmpty()) {
+            result.add(sql);
+            return result;
+        }
+        result.add(sql.substring(0, sqlTokens.get(0).getStartIndex()));
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            result.add(sql.substring(getStartIndex(sqlTokens.get(i)), getStopIndex(i)));
+        }
+        return result;
+    }
+    
+    private int getStartIndex(final SQLToken sqlToken) {
+        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
+        return Math.min(startIndex, sql.length());
+    }
+    
+    private int getStopIndex(final int sqlTokenIndex) {
+        return sqlTokens.size() - 1 == sqlTokenIndex ? sql.length() : sqlTokens.get(sqlTokenIndex + 1).getStartIndex();
+    }
+    
+    private int calculateLiteralsLength() {
+        int result = 0;
+        for (String each : literals) {
+            result += each.length();
+        }
+        return result;
+    }
+}
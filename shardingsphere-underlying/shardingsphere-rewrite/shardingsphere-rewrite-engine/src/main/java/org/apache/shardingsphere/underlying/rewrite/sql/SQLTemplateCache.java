@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.sql;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+
+import java.util.List;
+
+/**
+ * SQL template cache.
+ * 
+ * <p>
+ * SQL templates are cached by SQL and route units which SQL tokens are generated for, so that SQL tokens are not generated again for every execution.
+ * Cache must be cleared when metadata or rule which SQL tokens are generated from is changed.
+ * </p>
+ */
+public final class SQLTemplateCache {
+    
+    private static final int DEFAULT_MAXIMUM_SIZE = 1024;
+    
+    private final Cache<SQLTemplateKey, SQLTemplate> cache;
+    
+    public SQLTemplateCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+    
+    public SQLTemplateCache(final long maximumSize) {
+        cache = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+    }
+    
+    /**
+     * Get SQL template.
+     * 
+     * @param sql SQL
+     * @param routeUnits route units which SQL tokens are generated for
+     * @return SQL template
+     */
+    public Optional<SQLTemplate> getSQLTemplate(final String sql, final List<RouteUnit> routeUnits) {
+        return Optional.fromNullable(cache.getIfPresent(new SQLTemplateKey(sql, routeUnits)));
+    }
+    
+    /**
+     * Put SQL template into cache.
+     * 
+     * @param sql SQL
+     * @param routeUnits route units which SQL tokens are generated for
+     * @param sqlTemplate SQL template
+     */
+    public void put(final String sql, final List<RouteUnit> routeUnits, final SQLTemplate sqlTemplate) {
+        cache.put(new SQLTemplateKey(sql, routeUnits), sqlTemplate);
+    }
+    
+    /**
+     * Get count of cached SQL templates.
+     * 
+     * @return count of cached SQL templates
+     */
+    public long size() {
+        return cache.size();
+    }
+    
+    /**
+     * Clear cache.
+     */
+    public void clear() {
+        cache.invalidateAll();
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class SQLTemplateKey {
+        
+        private final String sql;
+        
+        private final List<RouteUnit> routeUnits;
+    }
+}
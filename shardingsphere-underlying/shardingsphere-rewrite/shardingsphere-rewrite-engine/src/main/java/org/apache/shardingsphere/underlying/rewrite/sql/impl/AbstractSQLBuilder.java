@@ -21,10 +21,10 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.sql.SQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.SQLTemplate;
 import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
-import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.Substitutable;
 
-import java.util.Collections;
+import java.util.List;
 
 /**
  * Abstract SQL builder.
@@ -33,36 +33,26 @@ import java.util.Collections;
 @Getter
 public abstract class AbstractSQLBuilder implements SQLBuilder {
     
+    private static final int ESTIMATED_SQL_TOKEN_TEXT_LENGTH = 16;
+    
     private final SQLRewriteContext context;
     
     @Override
     public final String toSQL() {
-        if (context.getSqlTokens().isEmpty()) {
+        SQLTemplate sqlTemplate = context.getSqlTemplate();
+        List<SQLToken> sqlTokens = sqlTemplate.getSqlTokens();
+        if (sqlTokens.isEmpty()) {
             return context.getSql();
         }
-        Collections.sort(context.getSqlTokens());
-        StringBuilder result = new StringBuilder();
-        result.append(context.getSql().substring(0, context.getSqlTokens().get(0).getStartIndex()));
-        for (SQLToken each : context.getSqlTokens()) {
-            result.append(getSQLTokenText(each));
-            result.append(getConjunctionText(each));
+        List<String> literals = sqlTemplate.getLiterals();
+        StringBuilder result = new StringBuilder(sqlTemplate.getLiteralsLength() + sqlTokens.size() * ESTIMATED_SQL_TOKEN_TEXT_LENGTH);
+        result.append(literals.get(0));
+        for (int i = 0; i < sqlTokens.size(); i++) {
+            result.append(getSQLTokenText(sqlTokens.get(i)));
+            result.append(literals.get(i + 1));
         }
         return result.toString();
     }
     
     protected abstract String getSQLTokenText(SQLToken sqlToken);
-    
-    private String getConjunctionText(final SQLToken sqlToken) {
-        return context.getSql().substring(getStartIndex(sqlToken), getStopIndex(sqlToken));
-    }
-    
-    private int getStartIndex(final SQLToken sqlToken) {
-        int startIndex = sqlToken instanceof Substitutable ? ((Substitutable) sqlToken).getStopIndex() + 1 : sqlToken.getStartIndex();
-        return Math.min(startIndex, context.getSql().length());
-    }
-    
-    private int getStopIndex(final SQLToken sqlToken) {
-        int currentSQLTokenIndex = context.getSqlTokens().indexOf(sqlToken);
-        return context.getSqlTokens().size() - 1 == currentSQLTokenIndex ? context.getSql().length() : context.getSqlTokens().get(currentSQLTokenIndex + 1).getStartIndex();
-    }
 }
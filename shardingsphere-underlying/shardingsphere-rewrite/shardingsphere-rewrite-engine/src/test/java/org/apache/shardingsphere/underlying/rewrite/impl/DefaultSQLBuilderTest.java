@@ -22,6 +22,7 @@ import org.apache.shardingsphere.sql.parser.relation.statement.SQLStatementConte
 import org.apache.shardingsphere.underlying.rewrite.context.SQLRewriteContext;
 import org.apache.shardingsphere.underlying.rewrite.sql.SQLBuilder;
 import org.apache.shardingsphere.underlying.rewrite.sql.impl.DefaultSQLBuilder;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.RemoveToken;
 import org.junit.Test;
 
 import java.util.Collections;
@@ -38,4 +39,14 @@ public final class DefaultSQLBuilderTest {
         SQLBuilder sqlBuilderWithoutTokens = new DefaultSQLBuilder(context);
         assertThat(sqlBuilderWithoutTokens.toSQL(), is("SELECT * FROM t_config"));
     }
+    
+    @Test
+    public void assertToSQLWithUnsortedTokens() {
+        SQLRewriteContext context = new SQLRewriteContext(mock(RelationMetas.class), mock(SQLStatementContext.class), "SELECT * FROM t_config WHERE id = 1 LIMIT 1", Collections.emptyList());
+        context.getSqlTokens().add(new RemoveToken(36, 42));
+        context.getSqlTokens().add(new RemoveToken(23, 34));
+        SQLBuilder sqlBuilder = new DefaultSQLBuilder(context);
+        assertThat(sqlBuilder.toSQL(), is("SELECT * FROM t_config  "));
+        assertThat(sqlBuilder.toSQL(), is("SELECT * FROM t_config  "));
+    }
 }
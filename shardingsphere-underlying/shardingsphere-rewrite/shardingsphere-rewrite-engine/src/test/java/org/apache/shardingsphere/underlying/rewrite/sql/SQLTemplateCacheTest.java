@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.sql;
+
+import com.google.common.base.Optional;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.route.context.RouteUnit;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SQLTemplateCacheTest {
+    
+    @Test
+    public void assertGetSQLTemplate() {
+        SQLTemplateCache sqlTemplateCache = new SQLTemplateCache();
+        SQLTemplate sqlTemplate = new SQLTemplate("SELECT * FROM t_order", Collections.<SQLToken>emptyList());
+        sqlTemplateCache.put("SELECT * FROM t_order", Arrays.asList(new RouteUnit("ds_0"), new RouteUnit("ds_1")), sqlTemplate);
+        Optional<SQLTemplate> actual = sqlTemplateCache.getSQLTemplate("SELECT * FROM t_order", Arrays.asList(new RouteUnit("ds_0"), new RouteUnit("ds_1")));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(sqlTemplate));
+    }
+    
+    @Test
+    public void assertGetSQLTemplateWithDifferentRouteUnits() {
+        SQLTemplateCache sqlTemplateCache = new SQLTemplateCache();
+        sqlTemplateCache.put("SELECT * FROM t_order", Collections.singletonList(new RouteUnit("ds_0")), new SQLTemplate("SELECT * FROM t_order", Collections.<SQLToken>emptyList()));
+        assertFalse(sqlTemplateCache.getSQLTemplate("SELECT * FROM t_order", Collections.singletonList(new RouteUnit("ds_1"))).isPresent());
+    }
+    
+    @Test
+    public void assertPutWithMaximumSize() {
+        SQLTemplateCache sqlTemplateCache = new SQLTemplateCache(1);
+        sqlTemplateCache.put("SELECT * FROM t_order", Collections.singletonList(new RouteUnit("ds_0")), new SQLTemplate("SELECT * FROM t_order", Collections.<SQLToken>emptyList()));
+        sqlTemplateCache.put("SELECT * FROM t_user", Collections.singletonList(new RouteUnit("ds_0")), new SQLTemplate("SELECT * FROM t_user", Collections.<SQLToken>emptyList()));
+        assertThat(sqlTemplateCache.size(), is(1L));
+    }
+    
+    @Test
+    public void assertClear() {
+        SQLTemplateCache sqlTemplateCache = new SQLTemplateCache();
+        sqlTemplateCache.put("SELECT * FROM t_order", Collections.singletonList(new RouteUnit("ds_0")), new SQLTemplate("SELECT * FROM t_order", Collections.<SQLToken>emptyList()));
+        sqlTemplateCache.clear();
+        assertFalse(sqlTemplateCache.getSQLTemplate("SELECT * FROM t_order", Collections.singletonList(new RouteUnit("ds_0"))).isPresent());
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.underlying.rewrite.sql;
+
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.SQLToken;
+import org.apache.shardingsphere.underlying.rewrite.sql.token.pojo.generic.RemoveToken;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class SQLTemplateTest {
+    
+    @Test
+    public void assertNewInstanceWithoutSQLTokens() {
+        SQLTemplate actual = new SQLTemplate("SELECT * FROM t_order", Collections.<SQLToken>emptyList());
+        assertThat(actual.getLiterals(), is(Collections.singletonList("SELECT * FROM t_order")));
+        assertThat(actual.getLiteralsLength(), is(21));
+    }
+    
+    @Test
+    public void assertNewInstanceWithUnsortedSQLTokens() {
+        SQLToken limitToken = new RemoveToken(36, 42);
+        SQLToken whereToken = new RemoveToken(23, 34);
+        SQLTemplate actual = new SQLTemplate("SELECT * FROM t_config WHERE id = 1 LIMIT 1", Arrays.asList(limitToken, whereToken));
+        assertThat(actual.getSqlTokens(), is(Arrays.asList(whereToken, limitToken)));
+        assertThat(actual.getLiterals(), is(Arrays.asList("SELECT * FROM t_config ", " ", "")));
+        assertThat(actual.getLiteralsLength(), is(24));
+    }
+}